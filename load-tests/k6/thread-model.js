@@ -0,0 +1,90 @@
+// Compares request throughput of the platform thread pool and the virtual thread mode at 2000 concurrent clients.
+//
+// Start the application in one mode, run the scenario, then repeat with the other mode:
+//
+//   ./mvnw spring-boot:run                                 # platform threads (Tomcat pool of 200)
+//   k6 run -e MODE=platform load-tests/k6/thread-model.js
+//
+//   ./mvnw -Pjava21 spring-boot:run                        # virtual threads
+//   k6 run -e MODE=virtual load-tests/k6/thread-model.js
+//
+// Each run writes its summary to load-tests/k6/thread-model-<MODE>.json. Compare http_reqs.rate (throughput) and the
+// p95/p99 of http_req_duration between the two files.
+//
+// Environment variables:
+//   BASE_URL  the application URL, http://localhost:8080 by default
+//   MODE      a label for the run, "platform" or "virtual"
+//   VUS       the number of concurrent clients, 2000 by default
+//   DURATION  how long the clients are held at full load, 2m by default
+//   EMAIL, PASSWORD  optional credentials of a user; when set, a share of the clients also log in, which
+//                    exercises BCrypt and the database on the same request
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'platform';
+const VUS = parseInt(__ENV.VUS || '2000', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    scenarios: {
+        clients: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: DURATION, target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    tags: { mode: MODE },
+    summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const NAMES = ['john', 'anna', 'maria', 'peter', 'smith', 'ivan'];
+
+export default function () {
+    const roll = Math.random();
+
+    if (roll < 0.6) {
+        // Database bound: a page of the specialist search with its count query
+        const name = NAMES[Math.floor(Math.random() * NAMES.length)];
+        const res = http.get(`${BASE_URL}/api/v1/specialist?name=${name}&page=0&size=20`,
+            { tags: { name: 'search specialists' } });
+        check(res, { 'search is 200': (r) => r.status === 200 });
+    } else if (roll < 0.9 || !__ENV.EMAIL) {
+        // Served from the reference data cache
+        const res = http.get(`${BASE_URL}/api/v1/countries`, { tags: { name: 'countries' } });
+        check(res, { 'countries is 200': (r) => r.status === 200 });
+    } else {
+        // CPU bound (BCrypt) plus the database
+        const res = http.post(`${BASE_URL}/api/v1/auth/login`,
+            JSON.stringify({ emailAddress: __ENV.EMAIL, password: __ENV.PASSWORD }),
+            { headers: { 'Content-Type': 'application/json' }, tags: { name: 'login' } });
+        check(res, { 'login is 200': (r) => r.status === 200 });
+    }
+}
+
+export function handleSummary(data) {
+    const summary = {
+        mode: MODE,
+        vus: VUS,
+        throughput: data.metrics.http_reqs.values.rate,
+        failed: data.metrics.http_req_failed.values.rate,
+        duration: data.metrics.http_req_duration.values,
+    };
+
+    return {
+        stdout: `\n${MODE}: ${summary.throughput.toFixed(1)} req/s, `
+            + `p95 ${summary.duration['p(95)'].toFixed(1)} ms, `
+            + `p99 ${summary.duration['p(99)'].toFixed(1)} ms, `
+            + `${(summary.failed * 100).toFixed(2)}% failed\n`,
+        [`load-tests/k6/thread-model-${MODE}.json`]: JSON.stringify(summary, null, 2),
+    };
+}
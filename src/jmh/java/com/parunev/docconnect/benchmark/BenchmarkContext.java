@@ -0,0 +1,113 @@
+package com.parunev.docconnect.benchmark;
+
+import com.parunev.docconnect.DocConnectApplication;
+import com.parunev.docconnect.models.City;
+import com.parunev.docconnect.models.Country;
+import com.parunev.docconnect.models.Specialty;
+import com.parunev.docconnect.models.User;
+import com.parunev.docconnect.models.enums.AuthProvider;
+import com.parunev.docconnect.models.enums.Gender;
+import com.parunev.docconnect.models.enums.Role;
+import com.parunev.docconnect.models.specialist.Specialist;
+import com.parunev.docconnect.models.specialist.SpecialistAddress;
+import com.parunev.docconnect.repositories.*;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+
+/**
+ * Starts the application once per benchmark JVM against the in-memory H2 database from the test configuration,
+ * and seeds the few rows the benchmarks need: one country, city, specialty, specialist and user.
+ *
+ * <p>JMH forks a fresh JVM for every benchmark class, so each class pays for the startup once in its trial setup.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkContext {
+
+    private static ConfigurableApplicationContext context;
+    private static Specialist specialist;
+    private static User user;
+
+    /**
+     * Returns the running application context, starting it and seeding the data on first use.
+     */
+    public static synchronized ConfigurableApplicationContext get() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(DocConnectApplication.class)
+                    .properties(
+                            "server.port=0",
+                            "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                            "spring.jpa.show-sql=false",
+                            "spring.devtools.restart.enabled=false",
+                            "logging.level.root=WARN")
+                    .run();
+            seed();
+        }
+        return context;
+    }
+
+    public static <T> T bean(Class<T> type) {
+        return get().getBean(type);
+    }
+
+    public static Specialist specialist() {
+        get();
+        return specialist;
+    }
+
+    public static User user() {
+        get();
+        return user;
+    }
+
+    public static synchronized void close() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    private static void seed() {
+        Country country = bean(CountryRepository.class).save(Country.builder().countryName("Bulgaria").build());
+        City city = bean(CityRepository.class).save(City.builder().cityName("Sofia").country(country).build());
+        Specialty specialty = bean(SpecialtyRepository.class).save(Specialty.builder()
+                .specialtyName("Cardiology")
+                .imageUrl("https://image.url")
+                .build());
+        List<SpecialistAddress> addresses = bean(SpecialistAddressRepository.class).saveAll(List.of(
+                new SpecialistAddress("123 Main St"),
+                new SpecialistAddress("456 Elm St")));
+
+        specialist = bean(SpecialistRepository.class).save(Specialist.builder()
+                .firstName("John")
+                .lastName("Smith")
+                .email("john.smith@docconnect.com")
+                .password("password")
+                .phoneNumber("+359888123456")
+                .summary("Cardiologist with a long track record.")
+                .experienceYears(12)
+                .gender(Gender.MALE)
+                .role(Role.ROLE_SPECIALIST)
+                .city(city)
+                .country(country)
+                .specialty(specialty)
+                .addresses(addresses)
+                .isEnabled(true)
+                .build());
+
+        user = bean(UserRepository.class).save(User.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .email("jane.doe@docconnect.com")
+                .password("password")
+                .gender(Gender.FEMALE)
+                .role(Role.ROLE_USER)
+                .provider(AuthProvider.LOCAL)
+                .city(city)
+                .country(country)
+                .build());
+    }
+}
@@ -0,0 +1,98 @@
+package com.parunev.docconnect.repositories;
+
+import com.parunev.docconnect.benchmark.BenchmarkContext;
+import com.parunev.docconnect.models.specialist.SpecialistAddress;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing {@code rows} specialist addresses, reported per row (rows per second):
+ * <ul>
+ *     <li>{@code saveEach} saves them one by one, each in its own transaction, as {@code AuthHelpers.extractAddresses}
+ *     used to.</li>
+ *     <li>{@code saveAll} saves them in a single transaction; the inserts are still one statement per row because the
+ *     IDs come from the identity column.</li>
+ *     <li>{@code jdbcBatchInsert} inserts them as a single JDBC batch.</li>
+ *     <li>{@code updateAll} changes all of them in a single transaction, flushed as JDBC batches of
+ *     {@code hibernate.jdbc.batch_size} updates.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchWriteBenchmark {
+
+    private static final int ROWS = 200;
+
+    private SpecialistAddressRepository specialistAddressRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private List<Long> ids;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        specialistAddressRepository = BenchmarkContext.bean(SpecialistAddressRepository.class);
+        jdbcTemplate = BenchmarkContext.bean(JdbcTemplate.class);
+        transactionTemplate = BenchmarkContext.bean(TransactionTemplate.class);
+        ids = specialistAddressRepository.saveAll(addresses("Existing ")).stream().map(SpecialistAddress::getId).toList();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInserted() {
+        jdbcTemplate.update("DELETE FROM SPECIALISTS_ADDRESSES WHERE SPECIALIST_ADDRESS LIKE 'Inserted %'");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void saveEach() {
+        for (SpecialistAddress address : addresses("Inserted ")) {
+            specialistAddressRepository.save(address);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<SpecialistAddress> saveAll() {
+        return specialistAddressRepository.saveAll(addresses("Inserted "));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int[] jdbcBatchInsert() {
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{"Inserted " + i});
+        }
+        return jdbcTemplate.batchUpdate("INSERT INTO SPECIALISTS_ADDRESSES (SPECIALIST_ADDRESS) VALUES (?)", rows);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void updateAll() {
+        String suffix = " #" + round++;
+        transactionTemplate.executeWithoutResult(status -> specialistAddressRepository.findAllById(ids)
+                .forEach(address -> address.setDocAddress("Updated " + address.getId() + suffix)));
+    }
+
+    private static List<SpecialistAddress> addresses(String prefix) {
+        List<SpecialistAddress> addresses = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            addresses.add(new SpecialistAddress(prefix + i));
+        }
+        return addresses;
+    }
+}
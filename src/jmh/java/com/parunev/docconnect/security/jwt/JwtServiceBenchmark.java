@@ -0,0 +1,47 @@
+package com.parunev.docconnect.security.jwt;
+
+import com.parunev.docconnect.benchmark.BenchmarkContext;
+import com.parunev.docconnect.models.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures signing a token and decoding the subject of a token, i.e. the cost of every login
+ * and of every authenticated request that misses the token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtService = BenchmarkContext.bean(JwtService.class);
+        user = BenchmarkContext.user();
+        token = jwtService.generateToken(user);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public String buildToken() {
+        return jwtService.buildToken(new HashMap<>(), user, 600000);
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtService.extractEmail(token);
+    }
+}
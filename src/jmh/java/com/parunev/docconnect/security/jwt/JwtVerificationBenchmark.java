@@ -0,0 +1,90 @@
+package com.parunev.docconnect.security.jwt;
+
+import com.parunev.docconnect.benchmark.BenchmarkContext;
+import com.parunev.docconnect.config.RsaConfig;
+import com.parunev.docconnect.models.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the token verifications per second of the {@link JwtFilter} path on a token cache miss:
+ * <ul>
+ *     <li>{@code verifyOnce}: a single RS256 verification, the unit of work.</li>
+ *     <li>{@code missPathRepeatedDecodes}: the previous path, which decoded the token six times (subject,
+ *     {@code isTokenValid} with its expiry check, and the expiration for the token cache).</li>
+ *     <li>{@code missPathSingleDecode}: one decode, the claims read from the decoded token.</li>
+ *     <li>{@code missPathCachedDecode}: the same with the application's {@link CachingJwtDecoder}, i.e. a token that
+ *     was verified recently.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private JwtDecoder uncachedDecoder;
+    private JwtService uncachedService;
+    private JwtService cachedService;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        uncachedDecoder = NimbusJwtDecoder.withPublicKey(BenchmarkContext.bean(RsaConfig.class).publicKey())
+                .signatureAlgorithm(SignatureAlgorithm.RS256)
+                .build();
+        uncachedService = new JwtService(BenchmarkContext.bean(JwtEncoder.class), uncachedDecoder);
+        cachedService = BenchmarkContext.bean(JwtService.class);
+        user = BenchmarkContext.user();
+        token = cachedService.generateToken(user);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public Jwt verifyOnce() {
+        return uncachedDecoder.decode(token);
+    }
+
+    @Benchmark
+    public void missPathRepeatedDecodes(Blackhole blackhole) {
+        String email = uncachedDecoder.decode(token).getSubject();
+        boolean valid = uncachedDecoder.decode(token).getSubject().equals(user.getUsername())
+                && uncachedDecoder.decode(token).getClaims() != null
+                && uncachedDecoder.decode(token).getExpiresAt() != null;
+        blackhole.consume(uncachedDecoder.decode(token).getClaims());
+        blackhole.consume(uncachedDecoder.decode(token).getExpiresAt());
+        blackhole.consume(email);
+        blackhole.consume(valid);
+    }
+
+    @Benchmark
+    public void missPathSingleDecode(Blackhole blackhole) {
+        missPath(uncachedService, blackhole);
+    }
+
+    @Benchmark
+    public void missPathCachedDecode(Blackhole blackhole) {
+        missPath(cachedService, blackhole);
+    }
+
+    private void missPath(JwtService jwtService, Blackhole blackhole) {
+        Jwt decoded = jwtService.decode(token);
+        blackhole.consume(decoded.getSubject());
+        blackhole.consume(jwtService.isTokenValid(decoded, user));
+        blackhole.consume(decoded.getExpiresAt());
+    }
+}
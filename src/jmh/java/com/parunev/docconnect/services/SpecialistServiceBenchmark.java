@@ -0,0 +1,50 @@
+package com.parunev.docconnect.services;
+
+import com.parunev.docconnect.benchmark.BenchmarkContext;
+import com.parunev.docconnect.models.payloads.specialist.SpecialistResponse;
+import com.parunev.docconnect.models.specialist.Specialist;
+import com.parunev.docconnect.repositories.SpecialistRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.AopTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the specialist lookup and search endpoints, including building their {@link SpecialistResponse}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpecialistServiceBenchmark {
+
+    private SpecialistService specialistService;
+    private Specialist specialist;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        specialistService = AopTestUtils.getUltimateTargetObject(BenchmarkContext.bean(SpecialistService.class));
+        specialist = BenchmarkContext.bean(SpecialistRepository.class)
+                .findById(BenchmarkContext.specialist().getId())
+                .orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public SpecialistResponse returnASpecialist() {
+        return specialistService.returnASpecialist(specialist.getId());
+    }
+
+    @Benchmark
+    public Page<SpecialistResponse> searchDoctorsPageable() {
+        return specialistService.searchDoctorsPageable(null, "jo", null, PageRequest.of(0, 10));
+    }
+}
@@ -0,0 +1,76 @@
+package com.parunev.docconnect.utils;
+
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a {@link DCLogger} call for a disabled and an enabled level, and of binding the
+ * request context to the MDC. A call for a disabled level should cost a level check and nothing more.
+ * Run with {@code -prof gc} to see the allocation rate per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DCLoggerBenchmark {
+
+    private DCLogger dcLogger;
+    private MockHttpServletRequest request;
+    private String email;
+    private Long specialistId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // INFO is enabled but has no appender, so the enabled case measures DCLogger and logback, not the console
+        Logger logger = (Logger) LoggerFactory.getLogger(DCLoggerBenchmark.class);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        logger.detachAndStopAllAppenders();
+
+        dcLogger = new DCLogger(DCLoggerBenchmark.class);
+        request = new MockHttpServletRequest();
+        request.addHeader("X-Forwarded-For", "203.0.113.7");
+        email = "john@example.com";
+        specialistId = 42L;
+
+        DCLogger.setDCLoggerProperties("9f1c2d4e-correlation", request);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DCLogger.setDCLoggerProperties(null, null);
+    }
+
+    @Benchmark
+    public void disabledNoArgs() {
+        dcLogger.debug("Received request");
+    }
+
+    @Benchmark
+    public void disabledOneArg() {
+        dcLogger.debug("Specialist with email: {} is trying to login", email);
+    }
+
+    @Benchmark
+    public void disabledTwoArgs() {
+        dcLogger.debug("Returned specialist with ID {}: {}", specialistId, email);
+    }
+
+    @Benchmark
+    public void enabledOneArg() {
+        dcLogger.info("Specialist with email: {} is trying to login", email);
+    }
+
+    @Benchmark
+    public void bindRequestContext(Blackhole blackhole) {
+        DCLogger.setDCLoggerProperties("9f1c2d4e-correlation", request);
+        blackhole.consume(DCLogger.getCorrelationId());
+    }
+}
@@ -0,0 +1,90 @@
+package com.parunev.docconnect.utils.mappers;
+
+import com.parunev.docconnect.models.City;
+import com.parunev.docconnect.models.Country;
+import com.parunev.docconnect.models.Specialty;
+import com.parunev.docconnect.models.payloads.city.CityResponse;
+import com.parunev.docconnect.models.payloads.country.CountryResponse;
+import com.parunev.docconnect.models.payloads.specialist.SpecialistAddressResponse;
+import com.parunev.docconnect.models.payloads.specialist.SpecialistResponse;
+import com.parunev.docconnect.models.payloads.specialty.SpecialtyResponse;
+import com.parunev.docconnect.models.specialist.Specialist;
+import com.parunev.docconnect.models.specialist.SpecialistAddress;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of mapping one page of specialist search results with the reflective {@link ModelMapper}
+ * that was used before and with the explicit mappers in this package.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private List<Specialist> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Country country = Country.builder().countryName("Bulgaria").build();
+        City city = City.builder().cityName("Sofia").country(country).build();
+        Specialty specialty = Specialty.builder().specialtyName("Cardiology").imageUrl("https://image.url").build();
+
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(Specialist.builder()
+                    .firstName("John" + i)
+                    .lastName("Smith")
+                    .city(city)
+                    .country(country)
+                    .specialty(specialty)
+                    .addresses(List.of(new SpecialistAddress("123 Main St"), new SpecialistAddress("456 Elm St")))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<SpecialistResponse> modelMapper() {
+        List<SpecialistResponse> responses = new ArrayList<>(page.size());
+        for (Specialist specialist : page) {
+            responses.add(SpecialistResponse.builder()
+                    .firstName(specialist.getFirstName())
+                    .lastName(specialist.getLastName())
+                    .city(modelMapper.map(specialist.getCity(), CityResponse.class))
+                    .country(modelMapper.map(specialist.getCountry(), CountryResponse.class))
+                    .specialty(modelMapper.map(specialist.getSpecialty(), SpecialtyResponse.class))
+                    .addresses(specialist.getAddresses().stream()
+                            .map(address -> modelMapper.map(address, SpecialistAddressResponse.class))
+                            .toList())
+                    .build());
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<SpecialistResponse> explicitMappers() {
+        List<SpecialistResponse> responses = new ArrayList<>(page.size());
+        for (Specialist specialist : page) {
+            responses.add(SpecialistResponse.builder()
+                    .firstName(specialist.getFirstName())
+                    .lastName(specialist.getLastName())
+                    .city(CityMapper.toResponse(specialist.getCity()))
+                    .country(CountryMapper.toResponse(specialist.getCountry()))
+                    .specialty(SpecialtyMapper.toResponse(specialist.getSpecialty()))
+                    .addresses(SpecialistAddressMapper.toResponses(specialist.getAddresses()))
+                    .build());
+        }
+        return responses;
+    }
+}
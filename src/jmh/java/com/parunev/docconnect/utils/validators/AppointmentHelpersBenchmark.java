@@ -0,0 +1,60 @@
+package com.parunev.docconnect.utils.validators;
+
+import com.parunev.docconnect.benchmark.BenchmarkContext;
+import com.parunev.docconnect.models.User;
+import com.parunev.docconnect.models.payloads.appointment.AppointmentRequest;
+import com.parunev.docconnect.models.specialist.Specialist;
+import com.parunev.docconnect.utils.slots.SpecialistSlotEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures validating a booking request that passes every check. The slot reserved by the validation is released
+ * after each invocation so the next one validates the same free slot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppointmentHelpersBenchmark {
+
+    private AppointmentHelpers appointmentHelpers;
+    private SpecialistSlotEngine slotEngine;
+    private AppointmentRequest appointmentRequest;
+    private User user;
+    private Specialist specialist;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        appointmentHelpers = BenchmarkContext.bean(AppointmentHelpers.class);
+        slotEngine = BenchmarkContext.bean(SpecialistSlotEngine.class);
+        user = BenchmarkContext.user();
+        specialist = BenchmarkContext.specialist();
+
+        LocalDate date = LocalDate.now().plusDays(1);
+        while (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            date = date.plusDays(1);
+        }
+        appointmentRequest = new AppointmentRequest();
+        appointmentRequest.setSpecialistId(specialist.getId());
+        appointmentRequest.setDateTime(LocalDateTime.of(date, LocalTime.of(10, 0)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public void validateAppointmentRequest() {
+        appointmentHelpers.validateAppointmentRequest(appointmentRequest, user, specialist);
+        slotEngine.release(specialist.getId(), appointmentRequest.getDateTime());
+    }
+}
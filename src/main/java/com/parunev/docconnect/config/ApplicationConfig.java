@@ -1,10 +1,11 @@
 package com.parunev.docconnect.config;
 
+import com.parunev.docconnect.security.BoundedPasswordEncoder;
 import com.parunev.docconnect.security.SpringSecurityAuditorAware;
 import com.parunev.docconnect.security.oauth2.OAuthProperties;
 import com.parunev.docconnect.services.UserService;
+import com.parunev.docconnect.utils.DCMetrics;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,13 +15,13 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 @RequiredArgsConstructor
 @EnableJpaAuditing(auditorAwareRef = "auditorAware")
-@EnableConfigurationProperties(value = {RsaConfig.class, OAuthProperties.class})
+@EnableConfigurationProperties(value = {RsaConfig.class, OAuthProperties.class, PasswordHashingConfig.class,
+        TokenPurgeConfig.class, ImportConfig.class})
 public class ApplicationConfig {
 
     private final UserService userService;
@@ -37,13 +38,8 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public ModelMapper modelMapper(){
-        return new ModelMapper();
-    }
-
-    @Bean
-    public static PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public static PasswordEncoder passwordEncoder(PasswordHashingConfig passwordHashingConfig, DCMetrics dcMetrics) {
+        return new BoundedPasswordEncoder(passwordHashingConfig, dcMetrics);
     }
 
     @Bean
@@ -52,10 +48,10 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public AuthenticationManager authenticationManager() {
+    public AuthenticationManager authenticationManager(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userDetailsService());
-        authenticationProvider.setPasswordEncoder(passwordEncoder());
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
         return new ProviderManager(authenticationProvider);
     }
 
@@ -0,0 +1,54 @@
+package com.parunev.docconnect.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The {@code EmailQueueConfig} class holds the settings of the outbound email pipeline, bound from the properties
+ * with the prefix "docconnect.email.queue".
+ *
+ * <p>Emails are queued in memory and delivered by a small worker pool. Failed deliveries are retried with an
+ * exponential backoff that starts at {@code initialBackoffMs} and is capped at {@code maxBackoffMs}. After
+ * {@code maxAttempts} the email is moved to a bounded dead-letter store.
+ *
+ * @see ConfigurationProperties
+ */
+@Data
+@ConfigurationProperties(prefix = "docconnect.email.queue")
+public class EmailQueueConfig {
+
+    /**
+     * The maximum number of emails waiting for delivery, including the ones waiting for a retry.
+     */
+    private int capacity = 1000;
+
+    /**
+     * The number of worker threads delivering emails.
+     */
+    private int workers = 2;
+
+    /**
+     * How many times delivery of a single email is attempted before it is dead-lettered.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * The delay, in milliseconds, before the first retry. It doubles with every further attempt.
+     */
+    private long initialBackoffMs = 1000;
+
+    /**
+     * The upper bound, in milliseconds, of the retry delay.
+     */
+    private long maxBackoffMs = 60000;
+
+    /**
+     * The maximum number of dead-lettered emails that are kept; the oldest ones are dropped first.
+     */
+    private int deadLetterCapacity = 500;
+
+    /**
+     * Whether the workers are virtual threads. Bound to {@code docconnect.threads.virtual.enabled} by default.
+     */
+    private boolean virtualThreads = false;
+}
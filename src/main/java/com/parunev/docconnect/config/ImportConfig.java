@@ -0,0 +1,48 @@
+package com.parunev.docconnect.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * The {@code ImportConfig} class holds the settings of the bulk import of specialists, cities and specialties, bound
+ * from the properties with the prefix "docconnect.imports".
+ *
+ * <p>Imports run one at a time on a background worker; up to {@code queueCapacity} more uploads wait for it. A file is
+ * processed in chunks of {@code chunkSize} rows: the rows of a chunk are validated, their passwords are hashed on
+ * {@code hashingThreads} threads, and the valid rows are inserted as JDBC batches in one transaction. At most
+ * {@code maxErrors} skipped rows are reported per job, and finished jobs can be looked up for {@code retention}.
+ *
+ * @see ConfigurationProperties
+ */
+@Data
+@ConfigurationProperties(prefix = "docconnect.imports")
+public class ImportConfig {
+
+    /**
+     * The number of rows validated and inserted in one transaction.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * The number of threads hashing the passwords of a chunk; {@code 0} uses half of the available processors, so
+     * an import leaves room for the logins.
+     */
+    private int hashingThreads = 0;
+
+    /**
+     * The maximum number of uploaded files waiting for the import worker.
+     */
+    private int queueCapacity = 5;
+
+    /**
+     * The maximum number of skipped rows reported per job.
+     */
+    private int maxErrors = 1000;
+
+    /**
+     * How long a job can be looked up after it was submitted.
+     */
+    private Duration retention = Duration.ofDays(1);
+}
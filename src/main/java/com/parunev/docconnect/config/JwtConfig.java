@@ -6,7 +6,9 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import com.parunev.docconnect.security.jwt.CachingJwtDecoder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
@@ -20,7 +22,8 @@ import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
  * It defines beans for JWT decoder and encoder, using Nimbus-Jose-JWT library, and makes use of RSA keys provided by the {@code RsaConfig}.
  *
  * <p>The {@code jwtDecoder()} bean configures a JWT decoder that can be used to verify and decode JWT tokens using a public RSA key.
- * It specifies the signature algorithm as RS256 for token verification.
+ * It specifies the signature algorithm as RS256 for token verification, and keeps the most recently verified tokens so that
+ * a token in use is not verified again on every request.
  *
  * <p>The {@code jwtEncoder()} bean configures a JWT encoder that can be used to create and sign JWT tokens using a private RSA key.
  * It builds a JSON Web Key (JWK) from the public and private RSA keys and creates a JWK source for encoding JWTs.
@@ -39,11 +42,14 @@ public class JwtConfig {
     /**
      * Creates and configures a JWT decoder for token verification.
      *
+     * @param cacheSize The number of recently verified tokens to keep.
      * @return The configured JWT decoder.
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(rsaConfig.publicKey()).signatureAlgorithm(SignatureAlgorithm.RS256).build();
+    public JwtDecoder jwtDecoder(@Value("${docconnect.security.jwt-decoder-cache.maximum-size:1000}") long cacheSize) {
+        return new CachingJwtDecoder(
+                NimbusJwtDecoder.withPublicKey(rsaConfig.publicKey()).signatureAlgorithm(SignatureAlgorithm.RS256).build(),
+                cacheSize);
     }
 
     /**
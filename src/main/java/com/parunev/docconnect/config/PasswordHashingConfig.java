@@ -0,0 +1,41 @@
+package com.parunev.docconnect.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The {@code PasswordHashingConfig} class holds the settings of password hashing, bound from the properties with the
+ * prefix "docconnect.security.password-hashing".
+ *
+ * <p>BCrypt is deliberately slow, so hashing and verifying passwords run on a dedicated pool of {@code threads}
+ * workers instead of the request threads. At most {@code queueCapacity} operations wait for a worker; beyond that,
+ * and after waiting {@code timeoutMs} for a result, the request is rejected with "SERVICE UNAVAILABLE" (HTTP 503).
+ * A login burst therefore cannot occupy every request thread and starve the cheap endpoints.
+ *
+ * @see ConfigurationProperties
+ */
+@Data
+@ConfigurationProperties(prefix = "docconnect.security.password-hashing")
+public class PasswordHashingConfig {
+
+    /**
+     * The BCrypt cost factor (log rounds) of new hashes, between 4 and 31. Existing hashes keep the cost they were
+     * created with.
+     */
+    private int strength = 10;
+
+    /**
+     * The number of worker threads; {@code 0} uses one per available processor.
+     */
+    private int threads = 0;
+
+    /**
+     * The maximum number of hashing operations waiting for a worker.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * How long, in milliseconds, a request waits for its hashing operation before it is rejected.
+     */
+    private long timeoutMs = 5000;
+}
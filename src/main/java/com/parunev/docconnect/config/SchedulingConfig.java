@@ -0,0 +1,16 @@
+package com.parunev.docconnect.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * The {@code SchedulingConfig} class enables Spring's {@code @Scheduled} background jobs, such as the
+ * appointment status transition. Scheduling can be switched off with {@code docconnect.scheduling.enabled=false},
+ * which the test configuration does so that jobs never run concurrently with the tests.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "docconnect.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
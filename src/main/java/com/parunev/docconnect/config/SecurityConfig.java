@@ -11,8 +11,10 @@ import com.parunev.docconnect.security.payload.ApiError;
 import com.parunev.docconnect.security.payload.LogoutResponse;
 import com.parunev.docconnect.utils.DCLogger;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -23,6 +25,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.method.HandlerMethod;
 
 import java.time.LocalDateTime;
@@ -39,6 +42,7 @@ public class SecurityConfig {
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final OAuth2FailureHandler oAuth2FailureHandler;
     private final ObjectMapper objectMapper;
+    private final Environment environment;
     private final DCLogger dcLogger = new DCLogger(SecurityConfig.class);
 
     @Bean
@@ -46,6 +50,20 @@ public class SecurityConfig {
         return new HttpCookieRequestRepository();
     }
 
+    /**
+     * Matches the Prometheus scrape when it arrives on the management port. That port is only reachable from inside
+     * the deployment, so Prometheus needs no credentials there. When actuator shares the application port, the
+     * scrape endpoint falls under the admin-only actuator rule like every other endpoint.
+     */
+    private RequestMatcher prometheusScrapeOnManagementPort() {
+        if (ManagementPortType.get(environment) != ManagementPortType.DIFFERENT) {
+            return request -> false;
+        }
+        return request -> "/actuator/prometheus".equals(request.getRequestURI())
+                && Integer.valueOf(request.getLocalPort())
+                .equals(environment.getProperty("local.management.port", Integer.class));
+    }
+
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
@@ -96,6 +114,9 @@ public class SecurityConfig {
                                 .requestMatchers("/api/v1/cities/**").permitAll()
                                 .requestMatchers("/api/v1/auth/**" ,"/auth/**", "/oauth2/**").permitAll()
                                 .requestMatchers("/api/v1/specialist/**").permitAll()
+                                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                                .requestMatchers(prometheusScrapeOnManagementPort()).permitAll()
+                                .requestMatchers("/actuator/**").hasAuthority("ROLE_ADMIN")
                                 .requestMatchers(
                                         "/v2/api-docs",
                                         "/v3/api-docs",
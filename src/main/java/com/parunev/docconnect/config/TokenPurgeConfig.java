@@ -0,0 +1,42 @@
+package com.parunev.docconnect.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * The {@code TokenPurgeConfig} class holds the settings of the expired token purge, bound from the properties with the
+ * prefix "docconnect.tokens.purge".
+ *
+ * <p>Email confirmation and password reset tokens are kept for {@code retention} after they expire and are then
+ * deleted in batches of {@code batchSize} rows, pausing {@code pauseMs} between batches so the purge never holds
+ * long locks or saturates the database. A single run deletes at most {@code maxBatches} batches per table; whatever
+ * is left is picked up by the next run.
+ *
+ * @see ConfigurationProperties
+ */
+@Data
+@ConfigurationProperties(prefix = "docconnect.tokens.purge")
+public class TokenPurgeConfig {
+
+    /**
+     * How long expired tokens are kept, e.g. to investigate a failed confirmation.
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * The maximum number of rows deleted by a single statement.
+     */
+    private int batchSize = 500;
+
+    /**
+     * The pause, in milliseconds, between two batches.
+     */
+    private long pauseMs = 200;
+
+    /**
+     * The maximum number of batches deleted per table in a single run.
+     */
+    private int maxBatches = 100;
+}
@@ -0,0 +1,69 @@
+package com.parunev.docconnect.config;
+
+import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.VirtualThreads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * The {@code VirtualThreadsConfig} class moves the blocking work of the application onto virtual threads when
+ * {@code docconnect.threads.virtual.enabled=true}. Requests mostly wait on MySQL, the mail server and BCrypt, so
+ * a virtual thread per request lets Tomcat keep many more of them in flight than its fixed pool of 200 threads.
+ *
+ * <p>With the property set:
+ * <ul>
+ *     <li>Tomcat handles every request on a new virtual thread instead of its worker pool.</li>
+ *     <li>{@code @Async} methods and asynchronous MVC requests run on virtual threads.</li>
+ *     <li>{@code @Scheduled} jobs are triggered on virtual threads.</li>
+ *     <li>The email queue workers are virtual threads (see {@code docconnect.email.queue.virtual-threads}).</li>
+ * </ul>
+ *
+ * <p>Virtual threads need Java 21; build with the {@code java21} Maven profile. Starting with the property set on
+ * an older JVM fails fast. Note that the HikariCP pool still caps concurrent database work, so
+ * {@code spring.datasource.hikari.maximum-pool-size} is usually the next limit to look at.
+ *
+ * @see VirtualThreads
+ */
+@Configuration
+@ConditionalOnProperty(name = "docconnect.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    private final DCLogger dcLogger = new DCLogger(VirtualThreadsConfig.class);
+
+    public VirtualThreadsConfig() {
+        dcLogger.info("Running request handling, async tasks and scheduled jobs on virtual threads");
+    }
+
+    /**
+     * Replaces Tomcat's worker pool with a virtual thread per request.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("http-vt-"));
+    }
+
+    /**
+     * Replaces Spring Boot's {@code applicationTaskExecutor}, used by {@code @Async} and asynchronous MVC requests.
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(VirtualThreads.newThreadPerTaskExecutor("task-vt-"));
+    }
+
+    /**
+     * Replaces Spring Boot's {@code taskScheduler}, which triggers the {@code @Scheduled} jobs.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:1}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadFactory(VirtualThreads.factory("scheduling-vt-"));
+        return scheduler;
+    }
+}
@@ -8,12 +8,11 @@ import com.parunev.docconnect.utils.annotations.swagger.city.*;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/cities")
@@ -57,9 +56,11 @@ public class CityController {
 
     @ApiGetAllCities
     @GetMapping
-    public ResponseEntity<List<CityResponse>> getAllCities() {
+    public ResponseEntity<byte[]> getAllCities(
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         dcLogger.info("Request to get all cities");
-        return ResponseEntity.ok(cityService.getAllCities());
+        return cityService.getAllCitiesCached().snapshot().toResponseEntity(acceptEncoding);
     }
 
     @ApiGetCityById
@@ -73,10 +74,12 @@ public class CityController {
 
     @ApiGetCityByCountryId
     @GetMapping("/country/{id}")
-    public ResponseEntity<List<CityResponse>> getAllCitiesByCountryId(
+    public ResponseEntity<byte[]> getAllCitiesByCountryId(
             @Parameter(description = "Country id", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         dcLogger.info("Request to get all cities by country id {}", id);
-        return ResponseEntity.ok(cityService.getAllCitiesByCountryId(id));
+        return cityService.getAllCitiesByCountryIdCached(id).snapshot().toResponseEntity(acceptEncoding);
     }
 }
@@ -8,12 +8,11 @@ import com.parunev.docconnect.utils.annotations.swagger.country.*;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/countries")
@@ -56,9 +55,11 @@ public class CountryController {
 
     @ApiGetAllCountries
     @GetMapping
-    public ResponseEntity<List<CountryResponse>> getAllCountries(){
+    public ResponseEntity<byte[]> getAllCountries(
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding){
         dcLogger.info("Request to get all countries");
-        return ResponseEntity.ok(countryService.getAllCountries());
+        return countryService.getAllCountriesCached().snapshot().toResponseEntity(acceptEncoding);
     }
 
     @ApiGetCountryById
@@ -0,0 +1,49 @@
+package com.parunev.docconnect.controllers;
+
+import com.parunev.docconnect.models.payloads.imports.ImportResponse;
+import com.parunev.docconnect.services.ImportService;
+import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.annotations.swagger.imports.ApiGetImport;
+import com.parunev.docconnect.utils.annotations.swagger.imports.ApiImportFile;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/imports")
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+@Tag(name = "Import Controller", description = "Bulk imports of specialists, cities and specialties")
+public class ImportController {
+
+    private final ImportService importService;
+    private final DCLogger dcLogger = new DCLogger(ImportController.class);
+
+    @ApiImportFile
+    @PostMapping(value = "/{type}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResponse> importFile(
+            @Parameter(description = "Kind of records in the file: specialists, cities or specialties", required = true)
+            @PathVariable String type,
+            @Parameter(description = "CSV file with a header row, or JSON file with an array of objects", required = true)
+            @RequestParam("file") MultipartFile file) {
+        dcLogger.info("Request to import {} from file {}", type, file.getOriginalFilename());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.submit(type, file));
+    }
+
+    @ApiGetImport
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportResponse> getImport(
+            @Parameter(description = "Import id", required = true)
+            @PathVariable UUID id) {
+        dcLogger.info("Request to get import with id {}", id);
+        return ResponseEntity.ok(importService.getImport(id));
+    }
+}
@@ -1,8 +1,7 @@
 package com.parunev.docconnect.controllers;
 
-import com.parunev.docconnect.models.JwtToken;
 import com.parunev.docconnect.models.payloads.user.login.LoginResponse;
-import com.parunev.docconnect.repositories.JwtTokenRepository;
+import com.parunev.docconnect.security.jwt.JwtService;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,6 +9,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -20,7 +20,7 @@ import java.time.LocalDateTime;
 @RestController
 @RequiredArgsConstructor
 public class OAuth2TestController {
-    private final JwtTokenRepository jwtTokenRepository;
+    private final JwtService jwtService;
 
     @Operation(summary = "Test OAuth2 Redirect Endpoint", description = "For testing purposes")
     @ApiResponses(value = {
@@ -40,12 +40,9 @@ public class OAuth2TestController {
                     .timestamp(LocalDateTime.now())
                     .build());
         } else {
-            JwtToken jwtToken = jwtTokenRepository.findByToken(accessToken).orElse(null);
-
-
             return ResponseEntity.ok(LoginResponse.builder()
                     .message("OAuth2 Registration or Login success")
-                    .emailAddress(jwtToken != null ? jwtToken.getUser().getEmail() : null)
+                    .emailAddress(extractEmail(accessToken))
                     .accessToken(accessToken)
                     .refreshToken(refreshToken)
                     .status(HttpStatus.OK)
@@ -53,4 +50,16 @@ public class OAuth2TestController {
                     .build());
         }
     }
+
+    private String extractEmail(String accessToken) {
+        if (accessToken == null) {
+            return null;
+        }
+
+        try {
+            return jwtService.extractEmail(accessToken);
+        } catch (JwtException e) {
+            return null;
+        }
+    }
 }
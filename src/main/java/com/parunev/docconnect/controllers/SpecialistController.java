@@ -1,6 +1,8 @@
 package com.parunev.docconnect.controllers;
 
+import com.parunev.docconnect.models.payloads.pagination.CursorPageResponse;
 import com.parunev.docconnect.models.payloads.rating.RatingResponse;
+import com.parunev.docconnect.models.payloads.specialist.SpecialistAvailabilityResponse;
 import com.parunev.docconnect.models.payloads.specialist.SpecialistRegistrationRequest;
 import com.parunev.docconnect.models.payloads.specialist.SpecialistResponse;
 import com.parunev.docconnect.models.payloads.user.login.*;
@@ -39,6 +41,19 @@ public class SpecialistController {
         return ResponseEntity.ok(ratingService.getAllRatingsForSpecialistPageable(specialistId, pageable));
     }
 
+    @ApiGetAllRatingsByCursor
+    @GetMapping(value = "/{specialistId}/ratings", params = "cursor")
+    public ResponseEntity<CursorPageResponse<RatingResponse>> getAllRatingsForSpecialistByCursor(
+            @Parameter(description = "Specialist id")
+            @PathVariable Long specialistId,
+            @Parameter(description = "The nextCursor of the previous page, empty for the first page.")
+            @RequestParam String cursor,
+            @Parameter(description = "The page size, at most 100.")
+            @RequestParam(defaultValue = "20") int size) {
+        dcLogger.info("Getting ratings by cursor for specialist with ID: {}", specialistId);
+        return ResponseEntity.ok(ratingService.getAllRatingsForSpecialistByCursor(specialistId, cursor, size));
+    }
+
     @ApiGetSpecialistById
     @GetMapping("/{specialistId}")
     public ResponseEntity<SpecialistResponse> getSpecialistById(
@@ -48,6 +63,15 @@ public class SpecialistController {
         return ResponseEntity.ok(specialistService.returnASpecialist(specialistId));
     }
 
+    @ApiGetSpecialistAvailability
+    @GetMapping("/{specialistId}/availability")
+    public ResponseEntity<SpecialistAvailabilityResponse> getSpecialistAvailability(
+            @Parameter(description = "The ID of the specialist whose free slots to retrieve.", required = true)
+            @PathVariable(name = "specialistId") Long specialistId){
+        dcLogger.info("Getting availability for specialist with ID: {}", specialistId);
+        return ResponseEntity.ok(specialistService.getSpecialistAvailability(specialistId));
+    }
+
     @ApiSearchSpecialistsPageable
     @GetMapping
     public ResponseEntity<Page<SpecialistResponse>> searchSpecialists(
@@ -61,6 +85,22 @@ public class SpecialistController {
         return ResponseEntity.ok(specialistService.searchDoctorsPageable(cityId, name, specialtyId, pageable));
     }
 
+    @ApiSearchSpecialistsByCursor
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<SpecialistResponse>> searchSpecialistsByCursor(
+            @Parameter(description = "The ID of the city for which to retrieve specialists.")
+            @RequestParam(required = false, defaultValue = "") Long cityId,
+            @Parameter(description = "The name of the specialists for which to retrieve them.")
+            @RequestParam(required = false, defaultValue = "") String name,
+            @Parameter(description = "The ID of the specialty for which to retrieve specialists.")
+            @RequestParam(required = false, defaultValue = "") Long specialtyId,
+            @Parameter(description = "The nextCursor of the previous page, empty for the first page.")
+            @RequestParam String cursor,
+            @Parameter(description = "The page size, at most 100.")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(specialistService.searchDoctorsByCursor(cityId, name, specialtyId, cursor, size));
+    }
+
     @ApiSpecialistRegister
     @PostMapping("/register")
     public ResponseEntity<RegistrationResponse> registerSpecialist(
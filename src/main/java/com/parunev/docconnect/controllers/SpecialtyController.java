@@ -8,8 +8,8 @@ import com.parunev.docconnect.utils.annotations.swagger.specialty.*;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -57,9 +57,12 @@ public class SpecialtyController {
 
     @ApiSpecialtyPageable
     @GetMapping
-    public ResponseEntity<Page<SpecialtyResponse>> getAllSpecialties(Pageable pageable){
+    public ResponseEntity<byte[]> getAllSpecialties(
+            Pageable pageable,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding){
         dcLogger.info("Request to get all specialties");
-        return ResponseEntity.ok(specialtyService.getAllSpecialtiesPageable(pageable));
+        return specialtyService.getAllSpecialtiesPageableCached(pageable).snapshot().toResponseEntity(acceptEncoding);
     }
 
     @ApiGetSpecialtyById
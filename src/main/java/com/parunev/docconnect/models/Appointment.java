@@ -24,7 +24,9 @@ import java.time.LocalDateTime;
  * </ul>
  *
  * <p>This class uses the JPA (Java Persistence API) annotations to map it to a database table named "APPOINTMENTS"
- * with an "APPOINTMENT_ID" column as the primary key.
+ * with an "APPOINTMENT_ID" column as the primary key. The composite indexes on (specialist, date and time, status)
+ * and (user, date and time) back the booking conflict checks, the one on (status, date and time) backs the scheduled
+ * status transition.
  *
  * <p>The {@code Appointment} class is an integral part of managing appointments within the DocConnect application.
  *
@@ -35,6 +37,12 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 @Entity(name = "APPOINTMENTS")
+@Table(name = "APPOINTMENTS", indexes = {
+        @Index(name = "IDX_APPOINTMENTS_SPECIALIST_DATETIME_STATUS",
+                columnList = "SPECIALIST_ID, APPOINTMENT_DATETIME, APPOINTMENT_STATUS"),
+        @Index(name = "IDX_APPOINTMENTS_USER_DATETIME", columnList = "USER_ID, APPOINTMENT_DATETIME"),
+        @Index(name = "IDX_APPOINTMENTS_STATUS_DATETIME", columnList = "APPOINTMENT_STATUS, APPOINTMENT_DATETIME")
+})
 @AttributeOverride(name = "id", column = @Column(name = "APPOINTMENT_ID"))
 public class Appointment extends BaseEntity {
 
@@ -0,0 +1,64 @@
+package com.parunev.docconnect.models;
+
+import com.parunev.docconnect.models.commons.BaseEntity;
+import com.parunev.docconnect.models.specialist.Specialist;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * The `RatingAggregate` class is a denormalized, per-specialist summary of all ratings.
+ * It is maintained on every rating write so that reads (search, specialist details,
+ * average rating) never have to scan the `RATING` table.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "RATING_AGGREGATES")
+@EqualsAndHashCode(callSuper = true)
+@AttributeOverride(name = "id", column = @Column(name = "RATING_AGGREGATE_ID"))
+public class RatingAggregate extends BaseEntity {
+
+    /**
+     * The specialist this aggregate summarizes. There is at most one aggregate per specialist.
+     */
+    @OneToOne
+    @JoinColumn(name = "SPECIALIST_ID", referencedColumnName = "SPECIALIST_ID", nullable = false, unique = true)
+    private Specialist specialist;
+
+    /**
+     * The number of ratings the specialist has received.
+     */
+    @Column(name = "RATING_COUNT", nullable = false)
+    private long ratingCount;
+
+    /**
+     * The sum of all rating sizes, kept so the average can be recomputed without rounding drift.
+     */
+    @Column(name = "RATING_SUM", nullable = false)
+    private long ratingSum;
+
+    /**
+     * The average rating, equal to ratingSum / ratingCount (0 when there are no ratings).
+     */
+    @Column(name = "AVERAGE_RATING", nullable = false)
+    private double averageRating;
+
+    /**
+     * The star histogram: the number of ratings for each size from one to five.
+     */
+    @Column(name = "ONE_STAR_COUNT", nullable = false)
+    private long oneStarCount;
+
+    @Column(name = "TWO_STAR_COUNT", nullable = false)
+    private long twoStarCount;
+
+    @Column(name = "THREE_STAR_COUNT", nullable = false)
+    private long threeStarCount;
+
+    @Column(name = "FOUR_STAR_COUNT", nullable = false)
+    private long fourStarCount;
+
+    @Column(name = "FIVE_STAR_COUNT", nullable = false)
+    private long fiveStarCount;
+}
@@ -0,0 +1,46 @@
+package com.parunev.docconnect.models;
+
+import com.parunev.docconnect.models.commons.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * The `RevokedToken` class records a single access token revoked before its expiration, e.g. on logout.
+ * Only the token's ID (its {@code jti} claim) is kept, and the row is deleted once the token would have expired
+ * anyway. Revoking all tokens of a user or specialist does not create rows; it increments their token version.
+ *
+ * @see com.parunev.docconnect.security.jwt.TokenRevocationRegistry
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Entity(name = "REVOKED_TOKENS")
+@AttributeOverride(name = "id", column = @Column(name = "REVOKED_TOKEN_ID"))
+@Table(indexes = {
+        @Index(name = "IDX_REVOKED_TOKENS_EXPIRES_AT", columnList = "EXPIRES_AT"),
+        @Index(name = "IDX_REVOKED_TOKENS_REVOKED_AT", columnList = "REVOKED_AT")
+})
+public class RevokedToken extends BaseEntity {
+
+    /**
+     * The ID of the revoked token.
+     */
+    @Column(name = "TOKEN_ID", nullable = false, unique = true)
+    private long tokenId;
+
+    /**
+     * When the revoked token expires; the row is no longer needed afterwards.
+     */
+    @Column(name = "EXPIRES_AT", nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * When the token was revoked; other instances poll for the rows revoked since their last sync.
+     */
+    @Column(name = "REVOKED_AT", nullable = false)
+    private Instant revokedAt;
+}
@@ -13,7 +13,6 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -33,8 +32,8 @@ import java.util.Map;
  * - `city`: A many-to-one relationship with the `City` entity, indicating the
  *   city associated with the user.
  * - `role`: An enumerated value representing the role or authority of the user.
- * - `tokens`: A one-to-many relationship with the `JwtToken` entity, representing
- *   the JWT tokens associated with the user.
+ * - `tokenVersion`: The generation of the user's JWT tokens. Incrementing it
+ *   revokes every token issued before.
  * - `provider`: An enumerated value representing the authentication provider
  *   used by the user (e.g., local or Google).
  * - `providerId`: A string representing the provider-specific identifier for
@@ -46,8 +45,6 @@ import java.util.Map;
  * - Many users can belong to one country, established through the `country`
  *   attribute.
  * - Many users can belong to one city, established through the `city` attribute.
- * - One user can have many JWT tokens, established through the `tokens`
- *   attribute.
  * <p>
  * Implemented Interfaces:
  * - `OAuth2User`: The entity implements this interface to support OAuth2-based
@@ -92,7 +89,6 @@ import java.util.Map;
  * @see com.parunev.docconnect.models.enums.Gender
  * @see com.parunev.docconnect.models.enums.Role
  * @see com.parunev.docconnect.models.enums.AuthProvider
- * @see com.parunev.docconnect.models.JwtToken
  * @see org.springframework.security.core.userdetails.UserDetails
  * @see org.springframework.security.oauth2.core.user.OAuth2User
  */
@@ -161,10 +157,11 @@ public class User extends BaseEntity implements OAuth2User, UserDetails {
     private Role role;
 
     /**
-     * The JWT tokens associated with the user.
+     * The generation of the user's JWT tokens. Every token carries the generation it was issued for,
+     * so incrementing it revokes all of them at once.
      */
-    @OneToMany(mappedBy = "user")
-    private List<JwtToken> tokens;
+    @Column(name = "TOKEN_VERSION", nullable = false)
+    private int tokenVersion;
 
     /**
      * The authentication provider used by the user.
@@ -0,0 +1,21 @@
+package com.parunev.docconnect.models.enums;
+
+/**
+ * The `ImportState` enum represents the lifecycle of a bulk import job.
+ * <p>
+ * Enum Values:
+ * - `QUEUED`: The file was uploaded and waits for the import worker.
+ * - `RUNNING`: The rows are being validated and inserted.
+ * - `COMPLETED`: Every row was processed; rows with errors were skipped.
+ * - `FAILED`: The file could not be read to the end, e.g. because it is malformed.
+ */
+public enum ImportState {
+
+    QUEUED,
+
+    RUNNING,
+
+    COMPLETED,
+
+    FAILED
+}
@@ -0,0 +1,18 @@
+package com.parunev.docconnect.models.enums;
+
+/**
+ * The `ImportType` enum represents the kind of records a bulk import file contains.
+ * <p>
+ * Enum Values:
+ * - `SPECIALISTS`: Specialist accounts, with the fields of a specialist registration.
+ * - `CITIES`: Cities, with the fields of an add city request.
+ * - `SPECIALTIES`: Specialties, with the fields of an add specialty request.
+ */
+public enum ImportType {
+
+    SPECIALISTS,
+
+    CITIES,
+
+    SPECIALTIES
+}
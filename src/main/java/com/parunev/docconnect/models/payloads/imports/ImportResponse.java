@@ -0,0 +1,69 @@
+package com.parunev.docconnect.models.payloads.imports;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.parunev.docconnect.models.enums.ImportState;
+import com.parunev.docconnect.models.enums.ImportType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "Import Response", description = "The progress of a bulk import job")
+public class ImportResponse {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(name = "Path", description = "The path of the request", example = "/api/v1/imports")
+    private String path;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(name = "Response message", description = "The message from the server", example = "Import was queued")
+    private String message;
+
+    @Schema(name = "Job ID", description = "The ID of the import job", example = "0b6e1a4c-7a1e-4a55-9f7e-3b1f3f2c9d10")
+    private UUID jobId;
+
+    @Schema(name = "Type", description = "The kind of records imported", example = "SPECIALISTS")
+    private ImportType type;
+
+    @Schema(name = "State", description = "The state of the import job", example = "RUNNING")
+    private ImportState state;
+
+    @Schema(name = "Processed rows", description = "The number of rows read so far", example = "1500")
+    private long processedRows;
+
+    @Schema(name = "Imported rows", description = "The number of rows inserted so far", example = "1480")
+    private long importedRows;
+
+    @Schema(name = "Failed rows", description = "The number of rows skipped so far", example = "20")
+    private long failedRows;
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @Schema(name = "Errors", description = "The skipped rows, up to the configured maximum")
+    private List<ImportRowError> errors;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(name = "Started at", description = "When the import worker started the job")
+    private LocalDateTime startedAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(name = "Finished at", description = "When the job completed or failed")
+    private LocalDateTime finishedAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(name = "Timestamp", description = "The timestamp of the response", example = "2021-09-26T20:00:00.000Z")
+    private LocalDateTime timestamp;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(name = "Status", description = "The status of the response", example = "ACCEPTED")
+    private HttpStatus status;
+}
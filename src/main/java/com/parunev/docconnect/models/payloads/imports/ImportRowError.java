@@ -0,0 +1,21 @@
+package com.parunev.docconnect.models.payloads.imports;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "Import Row Error", description = "A row of an import file that was skipped")
+public class ImportRowError {
+
+    @Schema(name = "Row", description = "The number of the row in the file, starting at 1", example = "42")
+    private long row;
+
+    @Schema(name = "Message", description = "Why the row was skipped", example = "Email already exists.")
+    private String message;
+}
@@ -0,0 +1,32 @@
+package com.parunev.docconnect.models.payloads.pagination;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "Cursor Page Response", description = "One page of a cursor-paginated result, without a total count")
+public class CursorPageResponse<T> {
+
+    @Schema(name = "Content", description = "The elements of the page")
+    private List<T> content;
+
+    @Schema(name = "Size", description = "The requested page size", example = "20")
+    private int size;
+
+    @Schema(name = "Has next", description = "Whether there are more elements after this page", example = "true")
+    private boolean hasNext;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(name = "Next cursor", description = "The opaque token to pass as the cursor parameter to get the next page",
+            example = "djE6NDI")
+    private String nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.parunev.docconnect.models.payloads.specialist;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "Specialist Availability Response", description = "Payload with the free slots of a specialist")
+public class SpecialistAvailabilityResponse {
+
+    @Schema(description = "The unique identifier of the specialist.", example = "1")
+    private Long specialistId;
+
+    @Schema(description = "The working days in the booking window with their free slots.")
+    private List<SpecialistAvailableDay> days;
+}
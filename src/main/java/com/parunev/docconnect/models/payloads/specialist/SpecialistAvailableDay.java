@@ -0,0 +1,25 @@
+package com.parunev.docconnect.models.payloads.specialist;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "Specialist Available Day", description = "The free slots of a specialist on a single day")
+public class SpecialistAvailableDay {
+
+    @Schema(description = "The date.", example = "2023-11-21")
+    private LocalDate date;
+
+    @Schema(description = "The start times of the free one-hour slots.", example = "[\"09:00:00\", \"13:00:00\"]")
+    private List<LocalTime> freeSlots;
+}
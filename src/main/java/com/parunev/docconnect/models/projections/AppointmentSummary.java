@@ -0,0 +1,23 @@
+package com.parunev.docconnect.models.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * A read-only projection of an appointment with the columns shown in appointment listings.
+ * <p>
+ * It is selected with a JPQL constructor expression, so listing a page of appointments reads exactly these
+ * columns and never materializes the {@code Appointment}, {@code Specialist} or {@code User} entities together
+ * with their eager associations.
+ *
+ * @param appointmentId       The ID of the appointment.
+ * @param dateTime            The date and time of the appointment.
+ * @param specialistId        The ID of the specialist, used to look up the addresses of the page in one query.
+ * @param specialistFirstName The first name of the specialist.
+ * @param specialistLastName  The last name of the specialist.
+ */
+public record AppointmentSummary(Long appointmentId,
+                                 LocalDateTime dateTime,
+                                 Long specialistId,
+                                 String specialistFirstName,
+                                 String specialistLastName) {
+}
@@ -0,0 +1,12 @@
+package com.parunev.docconnect.models.projections;
+
+/**
+ * A single address of a specialist, read by
+ * {@link com.parunev.docconnect.repositories.SpecialistAddressRepository#findAllBySpecialistIds(java.util.Collection)}
+ * for a whole page of specialists at once.
+ *
+ * @param specialistId The ID of the specialist the address belongs to.
+ * @param docAddress   The address.
+ */
+public record SpecialistAddressRow(Long specialistId, String docAddress) {
+}
@@ -0,0 +1,40 @@
+package com.parunev.docconnect.models.projections;
+
+/**
+ * A read-only projection of a specialist with the columns of a
+ * {@link com.parunev.docconnect.models.payloads.specialist.SpecialistResponse}, except for the addresses.
+ * <p>
+ * It is selected with a JPQL constructor expression by the specialist searches, so a search result never hydrates
+ * {@code Specialist} entities with their eager city, country, specialty and address graphs. The addresses of a
+ * page are read afterwards with one query per page.
+ *
+ * @param id                The ID of the specialist.
+ * @param firstName         The first name of the specialist.
+ * @param lastName          The last name of the specialist.
+ * @param phoneNumber       The phone number of the specialist.
+ * @param email             The email of the specialist.
+ * @param summary           The summary of the specialist.
+ * @param imageUrl          The image of the specialist.
+ * @param experienceYears   The experience years of the specialist.
+ * @param cityName          The name of the city of the specialist.
+ * @param cityCountryName   The name of the country the city belongs to.
+ * @param countryName       The name of the country of the specialist.
+ * @param specialtyName     The name of the specialty of the specialist.
+ * @param specialtyImageUrl The image of the specialty of the specialist.
+ * @param averageRating     The average rating of the specialist, {@code null} if not rated yet.
+ */
+public record SpecialistSummary(Long id,
+                                String firstName,
+                                String lastName,
+                                String phoneNumber,
+                                String email,
+                                String summary,
+                                String imageUrl,
+                                int experienceYears,
+                                String cityName,
+                                String cityCountryName,
+                                String countryName,
+                                String specialtyName,
+                                String specialtyImageUrl,
+                                Double averageRating) {
+}
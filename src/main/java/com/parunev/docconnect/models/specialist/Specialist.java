@@ -2,7 +2,6 @@ package com.parunev.docconnect.models.specialist;
 
 import com.parunev.docconnect.models.City;
 import com.parunev.docconnect.models.Country;
-import com.parunev.docconnect.models.JwtToken;
 import com.parunev.docconnect.models.Specialty;
 import com.parunev.docconnect.models.commons.BaseEntity;
 import com.parunev.docconnect.models.enums.Gender;
@@ -90,10 +89,11 @@ public class Specialist extends BaseEntity implements UserDetails {
     private Role role;
 
     /**
-     * The JWT tokens associated with the specialist.
+     * The generation of the specialist's JWT tokens. Every token carries the generation it was issued for,
+     * so incrementing it revokes all of them at once.
      */
-    @OneToMany(mappedBy = "specialist")
-    private List<JwtToken> tokens;
+    @Column(name = "TOKEN_VERSION", nullable = false)
+    private int tokenVersion;
 
     /**
      * The city associated with the specialist.
@@ -2,15 +2,22 @@ package com.parunev.docconnect.repositories;
 
 import com.parunev.docconnect.models.Appointment;
 import com.parunev.docconnect.models.enums.Status;
+import com.parunev.docconnect.models.projections.AppointmentSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 /**
  * The {@code AppointmentRepository} interface provides database access methods for managing appointments
  * in the DocConnect application. It extends the {@link org.springframework.data.jpa.repository.JpaRepository}
@@ -20,8 +27,17 @@ import java.util.List;
  * These methods allow users to search for appointments by user ID, specialist ID, appointment status, and apply
  * filters based on specialist name, specialty ID, date range, and user ID.
  *
+ * <p>The booking checks use existence queries that are served by the composite indexes declared on
+ * {@link Appointment}, so validating a new appointment never loads an appointment history. The notification
+ * scans stream a single time window of appointments, already filtered by the user's notification preferences.
+ *
  * <p>Additionally, there are methods that support pagination for retrieving upcoming and completed appointments
- * with filtering options.
+ * with filtering options. Those searches take the completion cutoff of
+ * {@link com.parunev.docconnect.services.AppointmentStatusService}, so appointments that are over but not yet
+ * transitioned by the scheduled bulk update are already reported as completed. They select an
+ * {@link AppointmentSummary} projection instead of entities, so a page is read without loading the eager
+ * specialist and user graphs of every row; the addresses of the page are read afterwards with
+ * {@link SpecialistAddressRepository#findAllBySpecialistIds(java.util.Collection)}.
  *
  * <p>The {@code AppointmentRepository} interface plays a crucial role in managing and retrieving appointment data
  * within the DocConnect application.
@@ -29,45 +45,105 @@ import java.util.List;
 @Repository
 public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
 
-    List<Appointment> findAllByUserId(Long userId);
+    boolean existsByUserIdAndDateTimeAndAppointmentStatus(Long userId, LocalDateTime dateTime, Status status);
 
-    List<Appointment> findAllBySpecialistId(Long specialistId);
+    boolean existsBySpecialistIdAndDateTimeAndAppointmentStatus(Long specialistId, LocalDateTime dateTime, Status status);
 
-    List<Appointment> findAllByUserIdAndSpecialistId(Long userId, Long specialistId);
+    boolean existsByUserIdAndSpecialistIdAndAppointmentStatusAndDateTimeBetween(
+            Long userId, Long specialistId, Status status, LocalDateTime from, LocalDateTime to);
 
-    List<Appointment> findAllByAppointmentStatus(Status status);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("SELECT a FROM APPOINTMENTS a " +
+            "JOIN FETCH a.user u " +
+            "JOIN FETCH a.specialist s " +
+            "JOIN FETCH s.specialty " +
+            "JOIN USER_PROFILES p ON p.user = u " +
+            "WHERE a.appointmentStatus = 'STATUS_UPCOMING' " +
+            "AND a.dateTime >= :from AND a.dateTime < :to " +
+            "AND p.upcomingNotification = TRUE")
+    Stream<Appointment> streamAppointmentsToRemind(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
     @Query("SELECT a FROM APPOINTMENTS a " +
-            "WHERE a.appointmentStatus = 'STATUS_UPCOMING'" +
+            "JOIN FETCH a.user u " +
+            "JOIN FETCH a.specialist s " +
+            "JOIN FETCH s.specialty " +
+            "JOIN USER_PROFILES p ON p.user = u " +
+            "WHERE a.appointmentStatus = 'STATUS_COMPLETED' " +
+            "AND a.dateTime >= :from AND a.dateTime < :to " +
+            "AND p.feedbackNotification = TRUE")
+    Stream<Appointment> streamAppointmentsForFeedback(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT a.dateTime FROM APPOINTMENTS a " +
+            "WHERE a.specialist.id = :specialistId " +
+            "AND a.appointmentStatus = 'STATUS_UPCOMING' " +
+            "AND a.dateTime >= :from AND a.dateTime < :to")
+    List<LocalDateTime> findUpcomingDateTimesBySpecialistId(
+            @Param("specialistId") Long specialistId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    @Modifying
+    @Query("UPDATE APPOINTMENTS a SET a.appointmentStatus = 'STATUS_COMPLETED' " +
+            "WHERE a.appointmentStatus = 'STATUS_UPCOMING' AND a.dateTime < :cutoff")
+    int completeUpcomingAppointmentsBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query(value = "SELECT new com.parunev.docconnect.models.projections.AppointmentSummary(" +
+            "a.id, a.dateTime, s.id, s.firstName, s.lastName) " +
+            "FROM APPOINTMENTS a JOIN a.specialist s " +
+            "WHERE a.appointmentStatus = 'STATUS_UPCOMING' AND a.dateTime >= :completedBefore " +
             "AND (:specialistName IS NULL OR " +
-            "LOWER(CONCAT(a.specialist.firstName, ' ', a.specialist.lastName)) LIKE %:specialistName%) " +
-            "AND (:specialtyId IS NULL OR a.specialist.specialty.id = :specialtyId) " +
+            "LOWER(CONCAT(s.firstName, ' ', s.lastName)) LIKE %:specialistName%) " +
+            "AND (:specialtyId IS NULL OR s.specialty.id = :specialtyId) " +
             "AND (:fromDate IS NULL OR a.dateTime >= :fromDate) " +
-            "AND (:toDate IS NULL OR a.dateTime <= :toDate)" +
-            "AND (:userId IS NULL OR a.user.id = :userId)")
-    Page<Appointment> findUpcomingAppointments(
+            "AND (:toDate IS NULL OR a.dateTime <= :toDate) " +
+            "AND (:userId IS NULL OR a.user.id = :userId)",
+            countQuery = "SELECT COUNT(a) FROM APPOINTMENTS a JOIN a.specialist s " +
+                    "WHERE a.appointmentStatus = 'STATUS_UPCOMING' AND a.dateTime >= :completedBefore " +
+                    "AND (:specialistName IS NULL OR " +
+                    "LOWER(CONCAT(s.firstName, ' ', s.lastName)) LIKE %:specialistName%) " +
+                    "AND (:specialtyId IS NULL OR s.specialty.id = :specialtyId) " +
+                    "AND (:fromDate IS NULL OR a.dateTime >= :fromDate) " +
+                    "AND (:toDate IS NULL OR a.dateTime <= :toDate) " +
+                    "AND (:userId IS NULL OR a.user.id = :userId)")
+    Page<AppointmentSummary> findUpcomingAppointments(
             @Param("specialistName") String specialistName,
             @Param("specialtyId") Long specialtyId,
             @Param("fromDate") LocalDate fromDate,
             @Param("toDate") LocalDate toDate,
             @Param("userId") Long userId,
+            @Param("completedBefore") LocalDateTime completedBefore,
             Pageable pageable
     );
 
-    @Query("SELECT a FROM APPOINTMENTS a " +
-            "WHERE a.appointmentStatus = 'STATUS_COMPLETED'" +
+    @Query(value = "SELECT new com.parunev.docconnect.models.projections.AppointmentSummary(" +
+            "a.id, a.dateTime, s.id, s.firstName, s.lastName) " +
+            "FROM APPOINTMENTS a JOIN a.specialist s " +
+            "WHERE (a.appointmentStatus = 'STATUS_COMPLETED' " +
+            "OR (a.appointmentStatus = 'STATUS_UPCOMING' AND a.dateTime < :completedBefore)) " +
             "AND (:specialistName IS NULL OR " +
-            "LOWER(CONCAT(a.specialist.firstName, ' ', a.specialist.lastName)) LIKE %:specialistName%) " +
-            "AND (:specialtyId IS NULL OR a.specialist.specialty.id = :specialtyId) " +
+            "LOWER(CONCAT(s.firstName, ' ', s.lastName)) LIKE %:specialistName%) " +
+            "AND (:specialtyId IS NULL OR s.specialty.id = :specialtyId) " +
             "AND (:fromDate IS NULL OR a.dateTime >= :fromDate) " +
-            "AND (:toDate IS NULL OR a.dateTime <= :toDate)" +
-            "AND (:userId IS NULL OR a.user.id = :userId)")
-    Page<Appointment> findCompletedAppointments(
+            "AND (:toDate IS NULL OR a.dateTime <= :toDate) " +
+            "AND (:userId IS NULL OR a.user.id = :userId)",
+            countQuery = "SELECT COUNT(a) FROM APPOINTMENTS a JOIN a.specialist s " +
+                    "WHERE (a.appointmentStatus = 'STATUS_COMPLETED' " +
+                    "OR (a.appointmentStatus = 'STATUS_UPCOMING' AND a.dateTime < :completedBefore)) " +
+                    "AND (:specialistName IS NULL OR " +
+                    "LOWER(CONCAT(s.firstName, ' ', s.lastName)) LIKE %:specialistName%) " +
+                    "AND (:specialtyId IS NULL OR s.specialty.id = :specialtyId) " +
+                    "AND (:fromDate IS NULL OR a.dateTime >= :fromDate) " +
+                    "AND (:toDate IS NULL OR a.dateTime <= :toDate) " +
+                    "AND (:userId IS NULL OR a.user.id = :userId)")
+    Page<AppointmentSummary> findCompletedAppointments(
             @Param("specialistName") String specialistName,
             @Param("specialtyId") Long specialtyId,
             @Param("fromDate") LocalDate fromDate,
             @Param("toDate") LocalDate toDate,
             @Param("userId") Long userId,
+            @Param("completedBefore") LocalDateTime completedBefore,
             Pageable pageable
     );
 }
@@ -0,0 +1,251 @@
+package com.parunev.docconnect.repositories;
+
+import com.parunev.docconnect.models.enums.Role;
+import com.parunev.docconnect.models.payloads.city.CityRequest;
+import com.parunev.docconnect.models.payloads.specialist.SpecialistRegistrationRequest;
+import com.parunev.docconnect.models.payloads.specialty.SpecialtyRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The `BulkImportRepository` class writes the rows of a bulk import with plain JDBC batches, bypassing the
+ * persistence context: an import inserts thousands of rows that are never read back in the same transaction, and
+ * the IDENTITY keys of the entities would make Hibernate insert them one statement at a time.
+ * <p>
+ * It also loads the lookup data an import validates its rows against (existing emails and names, and the IDs of the
+ * reference data) as plain columns rather than entities. The caller is responsible for the transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkImportRepository {
+
+    private static final String INSERT_CITY = "INSERT INTO CITIES (CITY_NAME, COUNTRY_ID, " +
+            "CREATED_BY, TIMESTAMP_CREATED, UPDATED_BY, TIMESTAMP_UPDATED) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SPECIALTY = "INSERT INTO SPECIALTIES (SPECIALTY_NAME, IMAGE_URL, " +
+            "CREATED_BY, TIMESTAMP_CREATED, UPDATED_BY, TIMESTAMP_UPDATED) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SPECIALIST = "INSERT INTO SPECIALISTS (FIRST_NAME, LAST_NAME, PHONE_NUMBER, " +
+            "EMAIL, PASSWORD, SUMMARY, EXPERIENCE_YEARS, GENDER, ROLE, TOKEN_VERSION, CITY_ID, COUNTRY_ID, " +
+            "SPECIALITY_ID, SPECIALIST_IMG_URL, IS_ENABLED, MFA_ENABLED, MFA_SECRET, " +
+            "CREATED_BY, TIMESTAMP_CREATED, UPDATED_BY, TIMESTAMP_UPDATED) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, ?, FALSE, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ADDRESS = "INSERT INTO SPECIALISTS_ADDRESSES (SPECIALIST_ADDRESS, " +
+            "CREATED_BY, TIMESTAMP_CREATED, UPDATED_BY, TIMESTAMP_UPDATED) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ADDRESS_MAPPING =
+            "INSERT INTO SPECIALISTS_ADDRESSES_MAPPING (SPECIALIST_ID, SPECIALIST_ADDR_ID) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns the lower-cased emails of all users and specialists.
+     */
+    public Set<String> findAllEmails() {
+        Set<String> emails = new HashSet<>();
+        jdbcTemplate.query("SELECT USER_EMAIL FROM USERS UNION SELECT EMAIL FROM SPECIALISTS",
+                (ResultSet rs) -> addLowerCase(emails, rs.getString(1)));
+        return emails;
+    }
+
+    /**
+     * Returns the lower-cased names of all cities.
+     */
+    public Set<String> findAllCityNames() {
+        Set<String> names = new HashSet<>();
+        jdbcTemplate.query("SELECT CITY_NAME FROM CITIES", (ResultSet rs) -> addLowerCase(names, rs.getString(1)));
+        return names;
+    }
+
+    /**
+     * Returns the lower-cased names of all specialties.
+     */
+    public Set<String> findAllSpecialtyNames() {
+        Set<String> names = new HashSet<>();
+        jdbcTemplate.query("SELECT SPECIALTY_NAME FROM SPECIALTIES", (ResultSet rs) -> addLowerCase(names, rs.getString(1)));
+        return names;
+    }
+
+    /**
+     * Returns the IDs of all countries.
+     */
+    public Set<Long> findAllCountryIds() {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT COUNTRY_ID FROM COUNTRIES", Long.class));
+    }
+
+    /**
+     * Returns the IDs of all specialties.
+     */
+    public Set<Long> findAllSpecialtyIds() {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT SPECIALTY_ID FROM SPECIALTIES", Long.class));
+    }
+
+    /**
+     * Returns the country ID of every city, keyed by the city ID.
+     */
+    public Map<Long, Long> findCityCountryIds() {
+        Map<Long, Long> countries = new HashMap<>();
+        jdbcTemplate.query("SELECT CITY_ID, COUNTRY_ID FROM CITIES",
+                (ResultSet rs) -> {
+                    countries.put(rs.getLong(1), rs.getLong(2));
+                });
+        return countries;
+    }
+
+    /**
+     * Inserts the given cities as one batch.
+     *
+     * @param cities  The validated city requests.
+     * @param auditor The name recorded as creator of the rows.
+     */
+    public void insertCities(List<CityRequest> cities, String auditor) {
+        Date today = Date.valueOf(LocalDate.now());
+        jdbcTemplate.batchUpdate(INSERT_CITY, cities, cities.size(), (statement, city) -> {
+            statement.setString(1, city.getCityName());
+            statement.setLong(2, city.getCountryId());
+            setAudit(statement, 3, auditor, today);
+        });
+    }
+
+    /**
+     * Inserts the given specialties as one batch.
+     *
+     * @param specialties The validated specialty requests.
+     * @param auditor     The name recorded as creator of the rows.
+     */
+    public void insertSpecialties(List<SpecialtyRequest> specialties, String auditor) {
+        Date today = Date.valueOf(LocalDate.now());
+        jdbcTemplate.batchUpdate(INSERT_SPECIALTY, specialties, specialties.size(), (statement, specialty) -> {
+            statement.setString(1, specialty.getSpecialtyName());
+            statement.setString(2, specialty.getImageUrl());
+            setAudit(statement, 3, auditor, today);
+        });
+    }
+
+    /**
+     * Inserts the given specialists, their addresses and the mapping between them as three batches. The
+     * specialists are enabled, since an administrator submitted them.
+     *
+     * @param specialists The validated specialists with their hashed password and MFA secret.
+     * @param auditor     The name recorded as creator of the rows.
+     */
+    public void insertSpecialists(List<NewSpecialist> specialists, String auditor) {
+        Date today = Date.valueOf(LocalDate.now());
+        List<Long> specialistIds = insertReturningKeys(INSERT_SPECIALIST, specialists, (statement, specialist) -> {
+            SpecialistRegistrationRequest request = specialist.request();
+            statement.setString(1, request.getFirstName());
+            statement.setString(2, request.getLastName());
+            statement.setString(3, request.getPhoneNumber());
+            statement.setString(4, request.getEmail());
+            statement.setString(5, specialist.passwordHash());
+            statement.setString(6, request.getSummary());
+            statement.setInt(7, request.getExperienceYears());
+            statement.setString(8, request.getGender().name());
+            statement.setString(9, Role.ROLE_SPECIALIST.name());
+            statement.setLong(10, request.getCityId());
+            statement.setLong(11, request.getCountryId());
+            statement.setLong(12, request.getSpecialtyId());
+            statement.setString(13, request.getImageUrl());
+            statement.setBoolean(14, true);
+            statement.setString(15, specialist.mfaSecret());
+            setAudit(statement, 16, auditor, today);
+        });
+
+        List<String> addresses = new ArrayList<>();
+        List<Long> owners = new ArrayList<>();
+        for (int i = 0; i < specialists.size(); i++) {
+            for (String address : specialists.get(i).request().getAddresses()) {
+                addresses.add(address);
+                owners.add(specialistIds.get(i));
+            }
+        }
+        if (addresses.isEmpty()) {
+            return;
+        }
+
+        List<Long> addressIds = insertReturningKeys(INSERT_ADDRESS, addresses, (statement, address) -> {
+            statement.setString(1, address);
+            setAudit(statement, 2, auditor, today);
+        });
+
+        List<long[]> mappings = new ArrayList<>(addressIds.size());
+        for (int i = 0; i < addressIds.size(); i++) {
+            mappings.add(new long[]{owners.get(i), addressIds.get(i)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ADDRESS_MAPPING, mappings, mappings.size(), (statement, mapping) -> {
+            statement.setLong(1, mapping[0]);
+            statement.setLong(2, mapping[1]);
+        });
+    }
+
+    /**
+     * Executes the insert as one batch and returns the generated key of every row, in the order of the rows.
+     */
+    private <T> List<Long> insertReturningKeys(String sql, List<T> rows, RowSetter<T> setter) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (T row : rows) {
+                    setter.set(statement, row);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> keys = new ArrayList<>(rows.size());
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    while (generatedKeys.next()) {
+                        keys.add(generatedKeys.getLong(1));
+                    }
+                }
+                if (keys.size() != rows.size()) {
+                    throw new SQLException("Expected " + rows.size() + " generated keys, got " + keys.size());
+                }
+                return keys;
+            }
+        });
+    }
+
+    private static void setAudit(PreparedStatement statement, int index, String auditor, Date today) throws SQLException {
+        statement.setString(index, auditor);
+        statement.setDate(index + 1, today);
+        statement.setString(index + 2, auditor);
+        statement.setDate(index + 3, today);
+    }
+
+    private static void addLowerCase(Set<String> values, String value) {
+        if (value != null) {
+            values.add(value.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSetter<T> {
+        void set(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    /**
+     * A specialist ready to be inserted.
+     *
+     * @param request      The validated registration request, with the names already capitalized.
+     * @param passwordHash The hash of the requested password.
+     * @param mfaSecret    The MFA secret of the specialist.
+     */
+    public record NewSpecialist(SpecialistRegistrationRequest request, String passwordHash, String mfaSecret) {
+    }
+}
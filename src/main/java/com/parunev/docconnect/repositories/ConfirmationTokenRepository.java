@@ -2,12 +2,14 @@ package com.parunev.docconnect.repositories;
 
 import com.parunev.docconnect.models.ConfirmationToken;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -40,4 +42,14 @@ public interface ConfirmationTokenRepository extends JpaRepository<ConfirmationT
     @Query("UPDATE CONFIRMATION_TOKENS c SET c.confirmedAt = ?2 WHERE c.token = ?1")
     void updateConfirmedAt(String token, LocalDateTime now);
 
+    /**
+     * Retrieves the IDs of the confirmation tokens that expired before the specified time, oldest first.
+     *
+     * @param cutoff   The expiration time before which tokens are returned.
+     * @param pageable The maximum number of IDs to return.
+     * @return The IDs of the expired confirmation tokens.
+     */
+    @Query("SELECT c.id FROM CONFIRMATION_TOKENS c WHERE c.expiresAt < :cutoff ORDER BY c.id")
+    List<Long> findIdsExpiredBefore(LocalDateTime cutoff, Pageable pageable);
+
 }
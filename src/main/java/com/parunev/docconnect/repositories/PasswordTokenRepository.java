@@ -1,9 +1,13 @@
 package com.parunev.docconnect.repositories;
 
 import com.parunev.docconnect.models.PasswordToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,4 +26,14 @@ public interface PasswordTokenRepository extends JpaRepository<PasswordToken, Lo
      * @return An optional `PasswordToken` object if found, or an empty optional if not found.
      */
     Optional<PasswordToken> findByToken(String token);
+
+    /**
+     * Retrieves the IDs of the password reset tokens that expired before the specified time, oldest first.
+     *
+     * @param cutoff   The expiration time before which tokens are returned.
+     * @param pageable The maximum number of IDs to return.
+     * @return The IDs of the expired password reset tokens.
+     */
+    @Query("SELECT p.id FROM PASSWORD_RESET_TOKENS p WHERE p.expiresAt < :cutoff ORDER BY p.id")
+    List<Long> findIdsExpiredBefore(LocalDateTime cutoff, Pageable pageable);
 }
@@ -0,0 +1,36 @@
+package com.parunev.docconnect.repositories;
+
+import com.parunev.docconnect.models.RatingAggregate;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The `RatingAggregateRepository` interface provides data access methods for the
+ * denormalized `RatingAggregate` entity, which holds the per-specialist rating summary.
+ */
+@Repository
+public interface RatingAggregateRepository extends JpaRepository<RatingAggregate, Long> {
+
+    /**
+     * Loads the aggregate of a specialist and locks the row for the rest of the
+     * current transaction, so concurrent rating writes are applied one after another.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM RATING_AGGREGATES a WHERE a.specialist.id = :specialistId")
+    Optional<RatingAggregate> findBySpecialistIdForUpdate(Long specialistId);
+
+    /**
+     * Counts the existing ratings per specialist and rating size for every specialist
+     * that does not have an aggregate yet. Used once to backfill the aggregate table.
+     */
+    @Query("SELECT r.specialist.id, r.ratingSize, COUNT(r) FROM RATING r " +
+            "WHERE NOT EXISTS (SELECT a FROM RATING_AGGREGATES a WHERE a.specialist.id = r.specialist.id) " +
+            "GROUP BY r.specialist.id, r.ratingSize")
+    List<Object[]> countRatingsWithoutAggregate();
+}
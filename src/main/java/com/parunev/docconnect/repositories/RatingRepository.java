@@ -17,8 +17,24 @@ import java.util.List;
 @Repository
 public interface RatingRepository extends JpaRepository<Rating, Long> {
     List<Rating> findAllBySpecialistId(Long specialistId);
-    @Query("SELECT AVG(r.ratingSize) FROM RATING r WHERE r.specialist.id = :specialistId")
+
+    /**
+     * Returns the average rating of a specialist from the denormalized rating aggregate,
+     * or {@code null} if the specialist has not been rated yet.
+     */
+    @Query("SELECT a.averageRating FROM RATING_AGGREGATES a WHERE a.specialist.id = :specialistId")
     Double getAverageRatingBySpecialistId(Long specialistId);
 
     Page<Rating> findAllBySpecialistId(Long specialistId, Pageable pageable);
+
+    /**
+     * Keyset variant of {@link #findAllBySpecialistId(Long, Pageable)}: returns the ratings of the specialist with an
+     * ID lower than {@code beforeId}, newest first, together with their authors and without a count query.
+     * The page size is taken from {@code limit}, which must request the first page.
+     */
+    @Query("SELECT r FROM RATING r JOIN FETCH r.user " +
+            "WHERE r.specialist.id = :specialistId " +
+            "AND (:beforeId IS NULL OR r.id < :beforeId) " +
+            "ORDER BY r.id DESC")
+    List<Rating> findAllBySpecialistIdBefore(Long specialistId, Long beforeId, Pageable limit);
 }
@@ -0,0 +1,36 @@
+package com.parunev.docconnect.repositories;
+
+import com.parunev.docconnect.models.RevokedToken;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The `RevokedTokenRepository` interface provides access to the persistence layer
+ * for managing `RevokedToken` entities, the individually revoked access tokens.
+ *
+ * @see com.parunev.docconnect.models.RevokedToken
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    /**
+     * Finds the revocations recorded after the given instant that still matter, i.e. whose token has not expired.
+     */
+    List<RevokedToken> findAllByRevokedAtAfterAndExpiresAtAfter(Instant since, Instant now);
+
+    /**
+     * Deletes the revocations of tokens that have expired.
+     *
+     * @return The number of deleted rows.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM REVOKED_TOKENS r WHERE r.expiresAt <= :now")
+    int deleteExpired(Instant now);
+}
@@ -1,12 +1,28 @@
 package com.parunev.docconnect.repositories;
 
+import com.parunev.docconnect.models.projections.SpecialistAddressRow;
 import com.parunev.docconnect.models.specialist.SpecialistAddress;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repository for {@link SpecialistAddress} entity.
  */
 @Repository
 public interface SpecialistAddressRepository extends JpaRepository<SpecialistAddress, Long> {
+
+    /**
+     * Reads the addresses of several specialists in a single query, ordered by specialist and then in the order
+     * the addresses were added. Used to map a page of results without initializing each specialist's address
+     * collection on its own.
+     */
+    @Query("SELECT new com.parunev.docconnect.models.projections.SpecialistAddressRow(s.id, ad.docAddress) " +
+            "FROM SPECIALISTS s JOIN s.addresses ad " +
+            "WHERE s.id IN :specialistIds " +
+            "ORDER BY s.id, ad.id")
+    List<SpecialistAddressRow> findAllBySpecialistIds(Collection<Long> specialistIds);
 }
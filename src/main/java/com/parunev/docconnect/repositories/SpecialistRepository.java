@@ -1,5 +1,6 @@
 package com.parunev.docconnect.repositories;
 
+import com.parunev.docconnect.models.projections.SpecialistSummary;
 import com.parunev.docconnect.models.specialist.Specialist;
 import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,18 +33,80 @@ public interface SpecialistRepository extends JpaRepository<Specialist, Long> {
     @Query("UPDATE SPECIALISTS s SET s.isEnabled = TRUE WHERE s.email = ?1")
     void enableSpecialist(String specialistEmail);
 
+    /**
+     * Locks the row of the specialist for the rest of the current transaction, so the bookings of one specialist
+     * are checked and saved one after another, whichever instance serves them.
+     *
+     * @return The ID of the specialist, or an empty optional if it does not exist.
+     */
+    @Query(value = "SELECT SPECIALIST_ID FROM SPECIALISTS WHERE SPECIALIST_ID = :specialistId FOR UPDATE",
+            nativeQuery = true)
+    Optional<Long> lockById(@Param("specialistId") Long specialistId);
 
-    @Query("SELECT s, AVG(r.ratingSize) as averageRating FROM SPECIALISTS s " +
-            "LEFT JOIN RATING r ON s.id = r.specialist.id " +
+    /**
+     * Moves the specialist to the next token generation, which revokes every token issued before.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SPECIALISTS s SET s.tokenVersion = s.tokenVersion + 1 WHERE s.id = :specialistId")
+    void incrementTokenVersion(Long specialistId);
+
+    /**
+     * Returns the current token version of the specialist, without loading the specialist.
+     */
+    @Query("SELECT s.tokenVersion FROM SPECIALISTS s WHERE s.id = :specialistId")
+    int findTokenVersionById(Long specialistId);
+
+    /**
+     * Searches specialists by name prefix, city and specialty. Selects a {@link SpecialistSummary} projection, so no
+     * {@code Specialist} entity is loaded; the addresses of the page are read with
+     * {@link SpecialistAddressRepository#findAllBySpecialistIds(java.util.Collection)}.
+     */
+    @Query(value = "SELECT new com.parunev.docconnect.models.projections.SpecialistSummary(" +
+            "s.id, s.firstName, s.lastName, s.phoneNumber, s.email, s.summary, s.imageUrl, s.experienceYears, " +
+            "c.cityName, cc.countryName, co.countryName, sp.specialtyName, sp.imageUrl, a.averageRating) " +
+            "FROM SPECIALISTS s " +
+            "JOIN s.city c LEFT JOIN c.country cc JOIN s.country co JOIN s.specialty sp " +
+            "LEFT JOIN RATING_AGGREGATES a ON a.specialist.id = s.id " +
             "WHERE (:specialistName IS NULL OR " +
             "LOWER(s.firstName) LIKE concat(:specialistName, '%') or " +
             "LOWER(s.lastName) LIKE concat(:specialistName, '%')) " +
             "AND (:cityId IS NULL OR s.city.id = :cityId) " +
-            "AND (:specialtyId IS NULL OR s.specialty.id = :specialtyId) " +
-            "GROUP BY s.id")
-    Page<Object[]> searchDoctorsPageable(
+            "AND (:specialtyId IS NULL OR s.specialty.id = :specialtyId)",
+            countQuery = "SELECT COUNT(s) FROM SPECIALISTS s " +
+            "WHERE (:specialistName IS NULL OR " +
+            "LOWER(s.firstName) LIKE concat(:specialistName, '%') or " +
+            "LOWER(s.lastName) LIKE concat(:specialistName, '%')) " +
+            "AND (:cityId IS NULL OR s.city.id = :cityId) " +
+            "AND (:specialtyId IS NULL OR s.specialty.id = :specialtyId)")
+    Page<SpecialistSummary> searchDoctorsPageable(
             @Param("specialistName") String specialistName,
             @Param("specialtyId") Long specialtyId,
             @Param("cityId") Long cityId,
             Pageable pageable);
+
+    /**
+     * Keyset variant of {@link #searchDoctorsPageable}: returns the matching specialists with an ID greater than
+     * {@code afterId} in ID order, without a count query. The page size is taken from {@code limit}, which must
+     * request the first page.
+     */
+    @Query(value = "SELECT new com.parunev.docconnect.models.projections.SpecialistSummary(" +
+            "s.id, s.firstName, s.lastName, s.phoneNumber, s.email, s.summary, s.imageUrl, s.experienceYears, " +
+            "c.cityName, cc.countryName, co.countryName, sp.specialtyName, sp.imageUrl, a.averageRating) " +
+            "FROM SPECIALISTS s " +
+            "JOIN s.city c LEFT JOIN c.country cc JOIN s.country co JOIN s.specialty sp " +
+            "LEFT JOIN RATING_AGGREGATES a ON a.specialist.id = s.id " +
+            "WHERE (:specialistName IS NULL OR " +
+            "LOWER(s.firstName) LIKE concat(:specialistName, '%') or " +
+            "LOWER(s.lastName) LIKE concat(:specialistName, '%')) " +
+            "AND (:cityId IS NULL OR s.city.id = :cityId) " +
+            "AND (:specialtyId IS NULL OR s.specialty.id = :specialtyId) " +
+            "AND (:afterId IS NULL OR s.id > :afterId) " +
+            "ORDER BY s.id")
+    List<SpecialistSummary> searchDoctorsAfter(
+            @Param("specialistName") String specialistName,
+            @Param("specialtyId") Long specialtyId,
+            @Param("cityId") Long cityId,
+            @Param("afterId") Long afterId,
+            Pageable limit);
 }
@@ -43,4 +43,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Modifying
     @Query("UPDATE USERS u SET u.isEnabled = TRUE WHERE u.email = ?1")
     void enableAppUser(String email);
+
+    /**
+     * Moves the user to the next token generation, which revokes every token issued before.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE USERS u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :userId")
+    void incrementTokenVersion(Long userId);
+
+    /**
+     * Returns the current token version of the user, without loading the user.
+     */
+    @Query("SELECT u.tokenVersion FROM USERS u WHERE u.id = :userId")
+    int findTokenVersionById(Long userId);
 }
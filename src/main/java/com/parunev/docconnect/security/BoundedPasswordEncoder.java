@@ -0,0 +1,135 @@
+package com.parunev.docconnect.security;
+
+import com.parunev.docconnect.config.PasswordHashingConfig;
+import com.parunev.docconnect.security.exceptions.PasswordHashingUnavailableException;
+import com.parunev.docconnect.security.payload.ApiError;
+import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.DCMetrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code BoundedPasswordEncoder} class is the application's {@link PasswordEncoder}. It runs BCrypt on a
+ * dedicated, bounded pool instead of the calling request thread, so that a burst of logins or registrations uses at
+ * most {@code threads} CPUs and cannot starve the other endpoints.
+ *
+ * <p>An operation that finds the queue full, or that does not complete within {@code timeoutMs}, fails fast with a
+ * {@link PasswordHashingUnavailableException} (HTTP 503). Every operation is timed through {@link DCMetrics}, tagged
+ * with {@code operation} ({@code encode} or {@code matches}) and {@code outcome} ({@code completed},
+ * {@code rejected} or {@code timed_out}); the pool itself is published as {@code executor.*} meters named
+ * {@value #POOL_NAME}.
+ *
+ * @see PasswordHashingConfig
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    static final String POOL_NAME = "password.hashing";
+
+    private final DCLogger dcLogger = new DCLogger(BoundedPasswordEncoder.class);
+    private final PasswordEncoder delegate;
+    private final long timeoutMs;
+    private final DCMetrics dcMetrics;
+    private final ThreadPoolExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordHashingConfig config, DCMetrics dcMetrics) {
+        this(new BCryptPasswordEncoder(config.getStrength()), config, dcMetrics);
+    }
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingConfig config, DCMetrics dcMetrics) {
+        int threads = config.getThreads() > 0 ? config.getThreads() : Runtime.getRuntime().availableProcessors();
+
+        this.delegate = delegate;
+        this.timeoutMs = config.getTimeoutMs();
+        this.dcMetrics = dcMetrics;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()), workerThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, POOL_NAME, Tags.empty()).bindTo(dcMetrics.getRegistry());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Reports hashes created with a lower cost factor than the configured one. Reads only the hash prefix, so it
+     * runs on the calling thread.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stops the workers; operations still in the queue are dropped. Called by Spring when the context closes.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(String operation, Callable<T> task) {
+        Timer.Sample sample = dcMetrics.start();
+
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            dcMetrics.stop(sample, DCMetrics.PASSWORD_HASHING, "operation", operation, "outcome", "rejected");
+            dcLogger.warn("Password hashing queue is full, rejecting {}", operation);
+            throw unavailable();
+        }
+
+        try {
+            T result = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            dcMetrics.stop(sample, DCMetrics.PASSWORD_HASHING, "operation", operation, "outcome", "completed");
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            dcMetrics.stop(sample, DCMetrics.PASSWORD_HASHING, "operation", operation, "outcome", "timed_out");
+            dcLogger.warn("Password hashing {} did not complete within {} ms", operation, timeoutMs);
+            throw unavailable();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw unavailable();
+        } catch (ExecutionException e) {
+            // The delegate's own errors, e.g. an invalid cost factor, are not a capacity problem
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static PasswordHashingUnavailableException unavailable() {
+        // The path is filled in by the exception handler, which has the request
+        return new PasswordHashingUnavailableException(ApiError.builder()
+                .error("The service is busy, please try again shortly.")
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hasher-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
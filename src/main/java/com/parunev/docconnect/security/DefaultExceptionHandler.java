@@ -11,6 +11,7 @@ import com.parunev.docconnect.security.payload.EmailError;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -223,6 +224,48 @@ public class DefaultExceptionHandler {
         return new ResponseEntity<>(ex.getApiError(), ex.getApiError().getStatus());
     }
 
+    /**
+     * Handle exceptions of type {@code InvalidCursorException}.
+     * This method handles exceptions specific to the invalid cursor exception and returns the
+     * corresponding error response.
+     * @param ex The {@code InvalidCursorException} instance to handle.
+     * @return A {@code ApiError} containing the error response and HTTP status.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiError> handleInvalidCursorException(InvalidCursorException ex) {
+        return new ResponseEntity<>(ex.getApiError(), ex.getApiError().getStatus());
+    }
+
+    /**
+     * Handle exceptions of type {@code ImportServiceException}.
+     * This method handles exceptions specific to the bulk import service and returns the
+     * corresponding error response.
+     * @param ex The {@code ImportServiceException} instance to handle.
+     * @return A {@code ApiError} containing the error response and HTTP status.
+     */
+    @ExceptionHandler(ImportServiceException.class)
+    public ResponseEntity<ApiError> handleImportServiceException(ImportServiceException ex) {
+        return new ResponseEntity<>(ex.getApiError(), ex.getApiError().getStatus());
+    }
+
+    /**
+     * Handle exceptions of type {@code PasswordHashingUnavailableException}.
+     * This method handles exceptions specific to a saturated password hashing pool and returns the
+     * corresponding error response, asking the client to retry after a second.
+     * @param ex The {@code PasswordHashingUnavailableException} instance to handle.
+     * @param request The request during which the password could not be hashed or verified.
+     * @return A {@code ApiError} containing the error response and HTTP status.
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ApiError> handlePasswordHashingUnavailableException(PasswordHashingUnavailableException ex,
+                                                                              HttpServletRequest request) {
+        ApiError apiError = ex.getApiError();
+        apiError.setPath(request.getRequestURI());
+        return ResponseEntity.status(apiError.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(apiError);
+    }
+
     /**
      * Handle exceptions of type {@code FullNameNotFoundException}.
      * This method handles exceptions specific to the full name not found exception and returns the
@@ -0,0 +1,33 @@
+package com.parunev.docconnect.security.exceptions;
+
+import com.parunev.docconnect.security.payload.ApiError;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * The {@code ImportServiceException} is a custom exception that indicates that a bulk import could not be started or
+ * found, e.g. because the file format is not supported, the import queue is full or the job ID is unknown.
+ * Its HTTP response status is the one of the {@link ApiError}, "BAD_REQUEST" by default.
+ *
+ * <p>The exception includes an {@link com.parunev.docconnect.security.payload.ApiError} object as part of its state,
+ * which provides additional information about the error.
+ */
+@Getter
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class ImportServiceException extends RuntimeException {
+
+    /**
+     * The {@link com.parunev.docconnect.security.payload.ApiError} object providing additional error information.
+     */
+    private final transient ApiError apiError;
+
+    /**
+     * Constructs an {@code ImportServiceException} with the provided {@code ApiError} message.
+     *
+     * @param message The {@code ApiError} message describing why the import was rejected.
+     */
+    public ImportServiceException(ApiError message) {
+        this.apiError = message;
+    }
+}
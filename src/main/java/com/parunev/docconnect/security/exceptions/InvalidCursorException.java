@@ -0,0 +1,33 @@
+package com.parunev.docconnect.security.exceptions;
+
+import com.parunev.docconnect.security.payload.ApiError;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * The {@code InvalidCursorException} is a custom exception that indicates that a continuation token sent to a
+ * cursor-paginated endpoint could not be decoded, e.g. because it was tampered with or truncated.
+ * It results in a "BAD_REQUEST" HTTP response status.
+ *
+ * <p>The exception includes an {@link com.parunev.docconnect.security.payload.ApiError} object as part of its state,
+ * which provides additional information about the error.
+ */
+@Getter
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * The {@link com.parunev.docconnect.security.payload.ApiError} object providing additional error information.
+     */
+    private final transient ApiError apiError;
+
+    /**
+     * Constructs an {@code InvalidCursorException} with the provided {@code ApiError} message.
+     *
+     * @param message The {@code ApiError} message describing why the cursor was rejected.
+     */
+    public InvalidCursorException(ApiError message) {
+        this.apiError = message;
+    }
+}
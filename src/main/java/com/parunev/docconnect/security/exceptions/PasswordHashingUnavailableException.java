@@ -0,0 +1,33 @@
+package com.parunev.docconnect.security.exceptions;
+
+import com.parunev.docconnect.security.payload.ApiError;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * The {@code PasswordHashingUnavailableException} is a custom exception that indicates that a password could not be
+ * hashed or verified because the password hashing pool is saturated. It results in a "SERVICE_UNAVAILABLE" HTTP
+ * response status, so the client can retry shortly.
+ *
+ * <p>The exception includes an {@link com.parunev.docconnect.security.payload.ApiError} object as part of its state,
+ * which provides additional information about the error.
+ */
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    /**
+     * The {@link com.parunev.docconnect.security.payload.ApiError} object providing additional error information.
+     */
+    private final transient ApiError apiError;
+
+    /**
+     * Constructs a {@code PasswordHashingUnavailableException} with the provided {@code ApiError} message.
+     *
+     * @param message The {@code ApiError} message describing why the operation was rejected.
+     */
+    public PasswordHashingUnavailableException(ApiError message) {
+        this.apiError = message;
+    }
+}
@@ -0,0 +1,45 @@
+package com.parunev.docconnect.security.jwt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Instant;
+
+/**
+ * A {@link JwtDecoder} that remembers the most recently verified tokens, so the same token is not parsed and
+ * RS256-verified again while it is in use.
+ * <p>
+ * Entries are keyed by the SHA-256 hash of the whole token, signature included, so a cached result can only be
+ * returned for the exact token that was verified. The cache is bounded to {@code maximumSize} entries and evicts
+ * the least recently used ones first. A token whose expiration has passed is always handed to the delegate again,
+ * which rejects it.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> verified;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize) {
+        this.delegate = delegate;
+        this.verified = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = JwtTokenCache.hash(token);
+
+        Jwt jwt = verified.getIfPresent(key);
+        if (jwt != null && (jwt.getExpiresAt() == null || jwt.getExpiresAt().isAfter(Instant.now()))) {
+            return jwt;
+        }
+
+        jwt = delegate.decode(token);
+        verified.put(key, jwt);
+        return jwt;
+    }
+}
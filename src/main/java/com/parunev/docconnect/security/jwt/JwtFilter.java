@@ -1,23 +1,24 @@
 package com.parunev.docconnect.security.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.parunev.docconnect.repositories.JwtTokenRepository;
 import com.parunev.docconnect.security.payload.ApiError;
 import com.parunev.docconnect.services.UserService;
 import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.DCMetrics;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.MDC;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -34,10 +35,11 @@ import java.util.UUID;
 public class JwtFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserService userService;
-    private final JwtTokenRepository jwTokenRepository;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
     private final ObjectMapper objectMapper;
+    private final JwtTokenCache jwtTokenCache;
+    private final DCMetrics dcMetrics;
     private static final DCLogger DC_LOGGER = new DCLogger(JwtFilter.class);
-    private static final String CORRELATION_ID = "correlationId";
     private static final String[] HEADERS = {"Authorization", "Bearer "};
 
 
@@ -56,9 +58,9 @@ public class JwtFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain) throws ServletException, IOException {
 
+        Timer.Sample authentication = null;
         try {
-            MDC.put(CORRELATION_ID, generateCorrelationId());
-            DCLogger.setDCLoggerProperties(MDC.get(CORRELATION_ID), request);
+            DCLogger.setDCLoggerProperties(generateCorrelationId(), request);
 
             DC_LOGGER.debug("Received request: {} {}",
                     request.getMethod(), request.getRequestURI());
@@ -74,32 +76,45 @@ public class JwtFilter extends OncePerRequestFilter {
             }
 
             jwt = authHeader.substring(7);
-            email = jwtService.extractEmail(jwt);
+            authentication = dcMetrics.start();
 
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userService.loadUserByUsername(email);
+            JwtTokenCache.CachedToken cachedToken = jwtTokenCache.get(jwt);
+            if (cachedToken != null) {
+                if (cachedToken.valid() && SecurityContextHolder.getContext().getAuthentication() == null) {
+                    authenticate(cachedToken.principal(), request);
+                }
 
-                boolean isTokenValid = jwTokenRepository.findByToken(jwt)
-                        .map(jwToken -> !jwToken.isExpired() && !jwToken.isRevoked()).orElse(false);
+                dcMetrics.stop(authentication, DCMetrics.JWT_AUTHENTICATION, "result", "cache_hit");
+                authentication = null;
+                filterChain.doFilter(request, response);
+                return;
+            }
 
-                if (jwtService.isTokenValid(jwt, userDetails) && isTokenValid) {
+            // Parsed and verified once; the claims below are read from the decoded token
+            Jwt decoded = jwtService.decode(jwt);
+            email = decoded.getSubject();
 
-                    DC_LOGGER.info("User {} authenticated successfully.",
-                            userDetails.getUsername());
+            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = this.userService.loadUserByUsername(email);
 
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities()
-                    );
+                boolean isTokenValid = !tokenRevocationRegistry.isRevoked(decoded.getId())
+                        && jwtService.isTokenValid(decoded, userDetails);
 
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                jwtTokenCache.put(jwt, userDetails, isTokenValid, decoded.getExpiresAt());
 
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                if (isTokenValid) {
+                    authenticate(userDetails, request);
                 }
 
+                dcMetrics.stop(authentication, DCMetrics.JWT_AUTHENTICATION, "result", "cache_miss");
+                authentication = null;
                 filterChain.doFilter(request, response);
             }
         } catch (SignatureException | ExpiredJwtException exception) {
             DC_LOGGER.error("Authentication failed: {}", exception, exception.getMessage());
+            if (authentication != null) {
+                dcMetrics.stop(authentication, DCMetrics.JWT_AUTHENTICATION, "result", "rejected");
+            }
 
             response.setStatus(HttpStatus.UNAUTHORIZED.value());
             response.getWriter().write(objectMapper.writeValueAsString(ApiError.builder()
@@ -110,11 +125,23 @@ public class JwtFilter extends OncePerRequestFilter {
                     .build()));
 
         } finally {
-            MDC.remove(CORRELATION_ID);
             DCLogger.setDCLoggerProperties(null, null);
         }
     }
 
+    private void authenticate(UserDetails userDetails, HttpServletRequest request) {
+        DC_LOGGER.info("User {} authenticated successfully.",
+                userDetails.getUsername());
+
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                userDetails, null, userDetails.getAuthorities()
+        );
+
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+
     private String generateCorrelationId() {
         return UUID.randomUUID().toString();
     }
@@ -1,11 +1,11 @@
 package com.parunev.docconnect.security.jwt;
 
-import com.parunev.docconnect.models.JwtToken;
-import com.parunev.docconnect.repositories.JwtTokenRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.stereotype.Service;
 
@@ -16,7 +16,9 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class JwtLogout implements LogoutHandler {
 
-    private final JwtTokenRepository jwtTokenRepository;
+    private final JwtService jwtService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final JwtTokenCache jwtTokenCache;
 
     /**
      * Perform logout actions for JWT-based authentication.
@@ -35,12 +37,16 @@ public class JwtLogout implements LogoutHandler {
         }
 
         jwt = authHeader.substring(7);
-        JwtToken storedToken = jwtTokenRepository.findByToken(jwt).orElse(null);
+        jwtTokenCache.invalidate(jwt);
 
-        if (storedToken != null) {
-            storedToken.setExpired(true);
-            storedToken.setRevoked(true);
-            jwtTokenRepository.save(storedToken);
+        final Jwt decoded;
+        try {
+            decoded = jwtService.decode(jwt);
+        } catch (JwtException e) {
+            // An invalid or expired token is not accepted anyway, there is nothing to revoke
+            return;
         }
+
+        tokenRevocationRegistry.revoke(decoded.getId(), decoded.getExpiresAt());
     }
 }
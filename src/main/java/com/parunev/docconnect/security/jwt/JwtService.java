@@ -16,6 +16,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 
 /**
@@ -35,6 +36,30 @@ public class JwtService {
     private static final String SCOPE = "scope";
     private static final String ISSUER = "DocConnect_API";
 
+    /**
+     * Tells access tokens apart from refresh tokens, so a refresh token is not accepted as a bearer token.
+     */
+    public static final String TOKEN_TYPE = "token_type";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
+    /**
+     * The token version of the user or specialist when the token was issued. Incrementing the version on the entity
+     * revokes all tokens issued before.
+     */
+    public static final String TOKEN_VERSION = "ver";
+
+    /**
+     * Decode a JWT token and verify its signature. Callers that need several claims of the same token should decode
+     * it once and use the {@link Jwt} overloads, instead of the methods taking the raw token, which decode it again.
+     *
+     * @param token The JWT token to decode.
+     * @return The verified token.
+     */
+    public Jwt decode(String token) {
+        return jwtDecoder.decode(token);
+    }
+
     /**
      * Extract the email from a JWT token.
      *
@@ -42,7 +67,7 @@ public class JwtService {
      * @return The email extracted from the token.
      */
     public String extractEmail(String token) {
-        return jwtDecoder.decode(token).getSubject();
+        return decode(token).getSubject();
     }
 
     /**
@@ -72,7 +97,7 @@ public class JwtService {
      * @return The generated JWT refresh token.
      */
     public String generateRefreshToken(User userDetails){
-        return buildToken(new HashMap<>(), userDetails, refreshExpiration);
+        return buildToken(refreshTokenClaims(), userDetails, refreshExpiration);
     }
 
     /**
@@ -82,7 +107,13 @@ public class JwtService {
      * @return The generated JWT refresh token.
      */
     public String generateRefreshToken(Specialist specialistDetails){
-        return buildToken(new HashMap<>(), specialistDetails, refreshExpiration);
+        return buildToken(refreshTokenClaims(), specialistDetails, refreshExpiration);
+    }
+
+    private static Map<String, Object> refreshTokenClaims() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE, REFRESH_TOKEN);
+        return claims;
     }
 
     /**
@@ -145,7 +176,9 @@ public class JwtService {
 
     private JwtClaimsSet.Builder buildJwtClaims(Object object, long expiration) {
         return JwtClaimsSet.builder()
+                .id(Long.toHexString(ThreadLocalRandom.current().nextLong()))
                 .subject(object instanceof User ? ((User) object).getEmail() : ((Specialist) object).getEmail())
+                .claim(TOKEN_VERSION, tokenVersion(object))
                 .issuer(ISSUER)
                 .issuedAt(Instant.now())
                 .expiresAt(Instant.now().plus(Duration.ofMillis(expiration)));
@@ -154,6 +187,7 @@ public class JwtService {
 
     private Map<String, Object> createAndReturnClaims(Object object, Map<String, Object> extraClaims) {
         Map<String, Object> claim = new HashMap<>();
+        claim.put(TOKEN_TYPE, ACCESS_TOKEN);
 
         if (object instanceof User) {
             claim.put(SCOPE, ((User) object).getRole().getAuthority());
@@ -166,6 +200,18 @@ public class JwtService {
         return claim;
     }
 
+    private static Integer tokenVersion(Object object) {
+        if (object instanceof User user) {
+            return user.getTokenVersion();
+        }
+
+        if (object instanceof Specialist specialist) {
+            return specialist.getTokenVersion();
+        }
+
+        return null;
+    }
+
     /**
      * Extract the expiration timestamp from a JWT token.
      *
@@ -173,7 +219,7 @@ public class JwtService {
      * @return The expiration timestamp as an Instant.
      */
     public Instant extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration).toInstant();
+        return Objects.requireNonNull(decode(token).getExpiresAt());
     }
 
     /**
@@ -185,8 +231,9 @@ public class JwtService {
      * @return The extracted claim value.
      */
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver){
-        final Claims claims = Jwts.claims(extractClaim(token));
-        claims.setExpiration(Date.from(Objects.requireNonNull(jwtDecoder.decode(token).getExpiresAt())));
+        final Jwt jwt = decode(token);
+        final Claims claims = Jwts.claims(jwt.getClaims());
+        claims.setExpiration(Date.from(Objects.requireNonNull(jwt.getExpiresAt())));
         return claimsResolver.apply(claims);
     }
 
@@ -197,7 +244,7 @@ public class JwtService {
      * @return A map of extracted claims.
      */
     public Map<String, Object> extractClaim(String token) {
-        return jwtDecoder.decode(token).getClaims();
+        return decode(token).getClaims();
     }
 
     /**
@@ -208,7 +255,28 @@ public class JwtService {
      * @return true if the token is valid for the user, false otherwise.
      */
     public boolean isTokenValid(String token, UserDetails userDetails){
-        return (extractEmail(token).equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(decode(token), userDetails);
+    }
+
+    /**
+     * Check if an already decoded JWT token is valid for a specific user: it must be an access token issued to the
+     * user, not expired, and carry the current token version of the user or specialist.
+     *
+     * @param jwt The decoded JWT token to validate.
+     * @param userDetails The UserDetails representing the user.
+     * @return true if the token is valid for the user, false otherwise.
+     */
+    public boolean isTokenValid(Jwt jwt, UserDetails userDetails) {
+        return userDetails.getUsername().equals(jwt.getSubject())
+                && ACCESS_TOKEN.equals(jwt.getClaimAsString(TOKEN_TYPE))
+                && isCurrentVersion(jwt, userDetails)
+                && !isTokenExpired(jwt);
+    }
+
+    private static boolean isCurrentVersion(Jwt jwt, UserDetails userDetails) {
+        Integer version = tokenVersion(userDetails);
+        Object claim = jwt.getClaims().get(TOKEN_VERSION);
+        return version == null || (claim instanceof Number number && number.intValue() == version);
     }
 
     /**
@@ -218,6 +286,16 @@ public class JwtService {
      * @return true if the token has expired, false otherwise.
      */
     public boolean isTokenExpired(String token) {
-        return extractExpiration(token).isBefore(Instant.now());
+        return isTokenExpired(decode(token));
+    }
+
+    /**
+     * Check if an already decoded JWT token has expired.
+     *
+     * @param jwt The decoded JWT token to check.
+     * @return true if the token has expired, false otherwise.
+     */
+    public boolean isTokenExpired(Jwt jwt) {
+        return Objects.requireNonNull(jwt.getExpiresAt()).isBefore(Instant.now());
     }
 }
@@ -0,0 +1,101 @@
+package com.parunev.docconnect.security.jwt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded, time-limited cache of already verified JWT tokens, used by {@link JwtFilter}
+ * to skip the user and token lookups on every authenticated request.
+ * <p>
+ * Entries are keyed by the SHA-256 hash of the token, so raw tokens are never kept in memory,
+ * and hold the loaded principal together with the result of the validation and revocation checks.
+ * An entry lives until the cache TTL elapses or the token itself expires, whichever comes first.
+ * Revocations performed by this instance ({@code AuthHelpers.revokeUserTokens}, {@link JwtLogout})
+ * invalidate the affected entries immediately.
+ */
+@Component
+public class JwtTokenCache {
+
+    private final Cache<String, CachedToken> cache;
+
+    public JwtTokenCache(@Value("${docconnect.security.token-cache.maximum-size:10000}") long maximumSize,
+                         @Value("${docconnect.security.token-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Returns the cached verification result for the token.
+     *
+     * @param token The raw JWT token.
+     * @return The cached entry, or {@code null} if the token is unknown or has expired in the meantime.
+     */
+    public CachedToken get(String token) {
+        String key = hash(token);
+        CachedToken cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAt() != null && cached.expiresAt().isBefore(Instant.now())) {
+            cache.invalidate(key);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Stores the outcome of a full token verification.
+     *
+     * @param token     The raw JWT token.
+     * @param principal The principal the token belongs to.
+     * @param valid     Whether the token is valid, i.e. correctly signed, not expired and not revoked.
+     * @param expiresAt The expiration of the token, or {@code null} if unknown.
+     */
+    public void put(String token, UserDetails principal, boolean valid, Instant expiresAt) {
+        cache.put(hash(token), new CachedToken(principal, valid, expiresAt));
+    }
+
+    /**
+     * Removes a single token, e.g. on logout.
+     */
+    public void invalidate(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    /**
+     * Removes all tokens that belong to the given user or specialist, e.g. when their tokens are revoked.
+     *
+     * @param username The username (email) of the principal.
+     */
+    public void invalidateSubject(String username) {
+        cache.asMap().values().removeIf(cached -> cached.principal().getUsername().equals(username));
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * A cached token verification result.
+     *
+     * @param principal The principal loaded for the token's subject.
+     * @param valid     Whether the token may be used for authentication.
+     * @param expiresAt When the token expires.
+     */
+    public record CachedToken(UserDetails principal, boolean valid, Instant expiresAt) {
+    }
+}
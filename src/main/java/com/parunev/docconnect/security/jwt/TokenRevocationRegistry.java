@@ -0,0 +1,129 @@
+package com.parunev.docconnect.security.jwt;
+
+import com.parunev.docconnect.models.RevokedToken;
+import com.parunev.docconnect.repositories.RevokedTokenRepository;
+import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.DCMetrics;
+import io.micrometer.core.instrument.Gauge;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the IDs ({@code jti}) of access tokens revoked before their expiration, so {@link JwtFilter} can check a
+ * token with a map lookup instead of a database query.
+ * <p>
+ * Tokens are only revoked one by one on logout; revoking all tokens of a user or specialist increments their token
+ * version instead (see {@link JwtService#isTokenValid(org.springframework.security.oauth2.jwt.Jwt,
+ * org.springframework.security.core.userdetails.UserDetails)}), so the set stays small: at most the logouts of one
+ * token lifetime. Every revocation is also stored in {@code REVOKED_TOKENS}. The registry is loaded from there at
+ * startup and polls it for the revocations made by other instances. Entries and rows are dropped once the token
+ * has expired.
+ * <p>
+ * A poll reads the rows revoked since the previous poll started, minus an overlap: a revocation may commit after a
+ * poll that started later than its {@code REVOKED_AT}, and the clocks of the instances may differ. Rows read twice
+ * are simply put again.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private final DCLogger dcLogger = new DCLogger(TokenRevocationRegistry.class);
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    /**
+     * The revoked token IDs, mapped to the expiration of the token in epoch seconds.
+     */
+    private final Map<Long, Long> revoked = new ConcurrentHashMap<>();
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    @Value("${docconnect.security.revocation.sync-overlap-ms:60000}")
+    private long syncOverlapMs;
+
+    public TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository, DCMetrics dcMetrics) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        Gauge.builder(DCMetrics.JWT_REVOCATIONS, revoked, Map::size).register(dcMetrics.getRegistry());
+    }
+
+    /**
+     * Loads the revocations of the tokens that have not expired yet.
+     */
+    @PostConstruct
+    public void warmUp() {
+        sync();
+        dcLogger.info("Loaded {} token revocations", revoked.size());
+    }
+
+    /**
+     * Revokes a single token.
+     *
+     * @param tokenId   The ID of the token, its {@code jti} claim.
+     * @param expiresAt When the token expires.
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        Long id = parse(tokenId);
+        if (id == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        if (revoked.putIfAbsent(id, expiresAt.getEpochSecond()) == null) {
+            try {
+                revokedTokenRepository.save(RevokedToken.builder()
+                        .tokenId(id)
+                        .expiresAt(expiresAt)
+                        .revokedAt(Instant.now())
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                dcLogger.debug("Token {} was already revoked by another instance", tokenId);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a token was revoked. A token without an ID issued by this application counts as revoked.
+     *
+     * @param tokenId The ID of the token, its {@code jti} claim.
+     * @return true if the token must not be accepted, false otherwise.
+     */
+    public boolean isRevoked(String tokenId) {
+        Long id = parse(tokenId);
+        return id == null || revoked.containsKey(id);
+    }
+
+    /**
+     * Picks up the revocations stored since the last run, including those of other instances, and drops the ones
+     * whose token has expired.
+     */
+    @Scheduled(fixedDelayString = "${docconnect.security.revocation.sync-interval-ms:30000}",
+            initialDelayString = "${docconnect.security.revocation.sync-interval-ms:30000}")
+    public void sync() {
+        Instant now = Instant.now();
+        Instant since = lastSync.equals(Instant.EPOCH) ? lastSync : lastSync.minusMillis(syncOverlapMs);
+
+        for (RevokedToken revokedToken : revokedTokenRepository.findAllByRevokedAtAfterAndExpiresAtAfter(since, now)) {
+            revoked.put(revokedToken.getTokenId(), revokedToken.getExpiresAt().getEpochSecond());
+        }
+        lastSync = now;
+
+        long nowSeconds = now.getEpochSecond();
+        revoked.values().removeIf(expiresAt -> expiresAt <= nowSeconds);
+        revokedTokenRepository.deleteExpired(now);
+    }
+
+    private static Long parse(String tokenId) {
+        if (tokenId == null || tokenId.isEmpty() || tokenId.length() > 16) {
+            return null;
+        }
+
+        try {
+            return Long.parseUnsignedLong(tokenId, 16);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -15,7 +15,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Random;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 @Service
@@ -48,11 +47,8 @@ public class Email2FAuthentication {
         final var otp = generateRandomOtp();
         otpCache.put(email, otp);
 
-        CompletableFuture.supplyAsync(() -> {
-            dcLogger.info("Sending OTP to user: {}", email);
-            emailSender.send(email, subject, "OTP: " + otp);
-            return HttpStatus.OK;
-        });
+        dcLogger.info("Sending OTP to user: {}", email);
+        emailSender.send(email, subject, "OTP: " + otp);
     }
 
     /**
@@ -49,9 +49,22 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
      */
     @Override
     public OAuth2User loadUser(OAuth2UserRequest oAuth2UserRequest) throws OAuth2AuthenticationException {
-        String correlationId = UUID.randomUUID().toString();
+        // The OAuth2 login filter runs ahead of JwtFilter, so the callback request has no logging context yet
+        boolean ownsContext = DCLogger.getCorrelationId() == null;
+        if (ownsContext) {
+            DCLogger.setDCLoggerProperties(UUID.randomUUID().toString(), request);
+        }
+
+        try {
+            return loadAndProcessUser(oAuth2UserRequest);
+        } finally {
+            if (ownsContext) {
+                DCLogger.setDCLoggerProperties(null, null);
+            }
+        }
+    }
 
-        DCLogger.setDCLoggerProperties(correlationId, request);
+    private OAuth2User loadAndProcessUser(OAuth2UserRequest oAuth2UserRequest) {
         dcLogger.info("Loading OAuth2 user: {} {}"
                 , oAuth2UserRequest.getClientRegistration().getClientName()
                 , oAuth2UserRequest.getClientRegistration().getProviderDetails().getIssuerUri());
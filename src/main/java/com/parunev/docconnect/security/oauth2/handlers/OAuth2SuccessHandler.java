@@ -1,9 +1,6 @@
 package com.parunev.docconnect.security.oauth2.handlers;
 
-import com.parunev.docconnect.models.JwtToken;
 import com.parunev.docconnect.models.User;
-import com.parunev.docconnect.models.enums.TokenType;
-import com.parunev.docconnect.repositories.JwtTokenRepository;
 import com.parunev.docconnect.security.exceptions.InvalidLoginException;
 import com.parunev.docconnect.security.jwt.JwtService;
 import com.parunev.docconnect.security.oauth2.HttpCookieRequestRepository;
@@ -46,7 +43,6 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     private final HttpCookieRequestRepository httpCookieRepository;
     private final OAuthProperties oAuthProperties;
     private final AuthHelpers authHelpers;
-    private final JwtTokenRepository jwtTokenRepository;
     private final DCLogger dcLogger = new DCLogger(OAuth2SuccessHandler.class);
 
     /**
@@ -63,7 +59,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         String targetUrl = determineTargetUrl(request, response, authentication);
 
         if (response.isCommitted()) {
-            dcLogger.debug("Response has already been committed. Unable to redirect to " + targetUrl);
+            dcLogger.debug("Response has already been committed. Unable to redirect to {}", targetUrl);
             return;
         }
 
@@ -101,21 +97,10 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         String targetUrl = redirectUri.orElse(getDefaultTargetUrl());
 
         User user = (User) authentication.getPrincipal();
+        authHelpers.revokeUserTokens(user);
         String accessToken = jwtService.generateToken(user);
         String refreshToken = jwtService.generateRefreshToken(user);
 
-        authHelpers.revokeUserTokens(user);
-
-        JwtToken jwtToken = JwtToken.builder()
-                .user(user)
-                .token(accessToken)
-                .type(TokenType.BEARER)
-                .isExpired(false)
-                .isRevoked(false)
-                .build();
-
-        jwtTokenRepository.save(jwtToken);
-
         dcLogger.info("Redirecting user after OAuth2 authentication success to: {}", targetUrl);
 
         return UriComponentsBuilder.fromUriString(targetUrl)
@@ -6,8 +6,10 @@ import com.parunev.docconnect.models.enums.Status;
 import com.parunev.docconnect.models.payloads.appointment.AppointmentRequest;
 import com.parunev.docconnect.models.payloads.appointment.AppointmentResponse;
 import com.parunev.docconnect.models.payloads.specialist.SpecialistAddressResponse;
+import com.parunev.docconnect.models.projections.AppointmentSummary;
 import com.parunev.docconnect.models.specialist.Specialist;
 import com.parunev.docconnect.repositories.AppointmentRepository;
+import com.parunev.docconnect.repositories.SpecialistAddressRepository;
 import com.parunev.docconnect.repositories.SpecialistRepository;
 import com.parunev.docconnect.repositories.UserRepository;
 import com.parunev.docconnect.security.exceptions.AppointmentDeniedException;
@@ -17,10 +19,12 @@ import com.parunev.docconnect.security.exceptions.UserNotFoundException;
 import com.parunev.docconnect.security.payload.ApiError;
 import com.parunev.docconnect.security.payload.AuthenticationError;
 import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.slots.SpecialistSlotEngine;
 import com.parunev.docconnect.utils.validators.AppointmentHelpers;
+import com.parunev.docconnect.utils.mappers.SpecialistAddressMapper;
+import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -30,6 +34,7 @@ import org.springframework.validation.annotation.Validated;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static com.parunev.docconnect.security.SecurityUtils.getCurrentUserDetails;
 
@@ -52,9 +57,10 @@ public class AppointmentService {
     private final AppointmentRepository appointmentRepository;
     private final UserRepository userRepository;
     private final SpecialistRepository specialistRepository;
+    private final SpecialistAddressRepository specialistAddressRepository;
     private final AppointmentHelpers appointmentHelpers;
     private final NotificationService notificationService;
-    private final ModelMapper modelMapper;
+    private final SpecialistSlotEngine slotEngine;
     private final DCLogger dcLogger = new DCLogger(AppointmentService.class);
 
     /**
@@ -66,6 +72,7 @@ public class AppointmentService {
      * @throws AppointmentDeniedException if the appointment request is denied due to validation or other criteria.
      * @throws UserNotFoundException if the user making the appointment request is not found.
      */
+    @Transactional
     public AppointmentResponse createAppointment(@Valid AppointmentRequest request){
         User user = findBySecurityContextHolder();
         dcLogger.info("User found successfully: {}", user.getEmail());
@@ -80,7 +87,7 @@ public class AppointmentService {
                             .status(HttpStatus.NOT_FOUND)
                             .build());
                 });
-        dcLogger.info("Specialist found successfully: {}", specialist.getFirstName() + " " + specialist.getLastName());
+        dcLogger.info("Specialist found successfully: {} {}", specialist.getFirstName(), specialist.getLastName());
 
         appointmentHelpers.validateAppointmentRequest(request,user,specialist);
 
@@ -98,9 +105,7 @@ public class AppointmentService {
                 .date(appointment.getDateTime().toLocalDate())
                 .time(appointment.getDateTime().toLocalTime())
                 .specialistName(specialist.getFirstName() + " " + specialist.getLastName())
-                .specialistAddress(specialist.getAddresses().stream()
-                        .map(address -> modelMapper.map(address, SpecialistAddressResponse.class))
-                        .toList())
+                .specialistAddress(SpecialistAddressMapper.toResponses(specialist.getAddresses()))
                 .build();
     }
 
@@ -112,6 +117,7 @@ public class AppointmentService {
      * @throws AppointmentNotFoundException if the appointment with the specified ID is not found.
      * @throws AppointmentDeniedException if the appointment is already canceled.
      */
+    @Transactional
     public AppointmentResponse cancelAppointment(Long appointmentId){
         dcLogger.info("Cancelling appointment with ID: {}", appointmentId);
 
@@ -137,6 +143,7 @@ public class AppointmentService {
         } else {
             appointment.setAppointmentStatus(Status.STATUS_CANCELED);
             appointmentRepository.save(appointment);
+            slotEngine.releaseAfterCommit(appointment);
             notificationService.sendAppointmentCanceledEmail(appointment);
         }
 
@@ -157,19 +164,19 @@ public class AppointmentService {
      */
     public Page<AppointmentResponse> searchUpcomingAppointments(String specialistName, Long specialtyId, LocalDate fromDate, LocalDate toDate, Pageable pageable) {
         User user = findBySecurityContextHolder();
-        updateUserAppointments(user);
 
-        Page<Appointment> upcomingAppointments = appointmentRepository
+        Page<AppointmentSummary> upcomingAppointments = appointmentRepository
                 .findUpcomingAppointments(
                         specialistName,
                         specialtyId,
                         fromDate,
                         toDate,
                         user.getId(),
+                        AppointmentStatusService.completionCutoff(),
                         pageable
                 );
 
-        return upcomingAppointments.map(this::mapToDto);
+        return mapToDto(upcomingAppointments);
     }
 
     /**
@@ -184,39 +191,16 @@ public class AppointmentService {
      */
     public Page<AppointmentResponse> searchCompletedAppointments(String specialistName, Long specialtyId, LocalDate fromDate, LocalDate toDate, Pageable pageable) {
         User user = findBySecurityContextHolder();
-        updateUserAppointments(user);
 
-        Page<Appointment> appointmentsPage = appointmentRepository.findCompletedAppointments(specialistName,
+        Page<AppointmentSummary> appointmentsPage = appointmentRepository.findCompletedAppointments(specialistName,
                 specialtyId,
                 fromDate,
                 toDate,
                 user.getId(),
+                AppointmentStatusService.completionCutoff(),
                 pageable);
 
-        return appointmentsPage.map(this::mapToDto);
-    }
-
-    /**
-     * Updates the status of appointments for the specified user, marking them as completed if the appointment
-     * date and time are in the past.
-     *
-     * @param user The user for whom appointments are updated.
-     */
-    private void updateUserAppointments(User user) {
-        List<Appointment> appointments = appointmentRepository.findAllByUserId(user.getId());
-        if (appointments != null){
-            dcLogger.info("Updating status of {} appointments for user: {}", appointments.size(), user.getEmail());
-
-            appointments.stream()
-                    .filter(a -> !a.getAppointmentStatus().equals(Status.STATUS_CANCELED))
-                    .forEach(a -> {
-                        LocalDateTime dateTime = LocalDateTime.of(a.getDateTime().toLocalDate(), a.getDateTime().toLocalTime());
-                        if (LocalDateTime.now().isAfter(dateTime.plusHours(1))) {
-                            a.setAppointmentStatus(Status.STATUS_COMPLETED);
-                            appointmentRepository.save(a);
-                        }
-                    });
-        }
+        return mapToDto(appointmentsPage);
     }
 
     /**
@@ -239,22 +223,27 @@ public class AppointmentService {
     }
 
     /**
-     * Maps an {@link Appointment} entity to an {@link AppointmentResponse} DTO.
+     * Maps a page of {@link AppointmentSummary} projections to {@link AppointmentResponse} DTOs.
+     * The addresses of all specialists on the page are read with a single query.
      *
-     * @param appointment The appointment entity to be mapped.
-     * @return An {@link AppointmentResponse} DTO representing the appointment details.
+     * @param appointments The page of appointment projections to be mapped.
+     * @return A page of {@link AppointmentResponse} DTOs representing the appointment details.
      */
-    private AppointmentResponse mapToDto(Appointment appointment) {
-        return AppointmentResponse
+    private Page<AppointmentResponse> mapToDto(Page<AppointmentSummary> appointments) {
+        List<Long> specialistIds = appointments.stream()
+                .map(AppointmentSummary::specialistId)
+                .distinct()
+                .toList();
+        Map<Long, List<SpecialistAddressResponse>> addresses = specialistIds.isEmpty()
+                ? Map.of()
+                : SpecialistAddressMapper.groupBySpecialist(specialistAddressRepository.findAllBySpecialistIds(specialistIds));
+
+        return appointments.map(appointment -> AppointmentResponse
                 .builder()
-                .appointmentId(appointment.getId())
-                .specialistAddress(appointment.getSpecialist()
-                        .getAddresses()
-                        .stream()
-                        .map(a -> modelMapper.map(a, SpecialistAddressResponse.class))
-                        .toList())
-                .specialistName(String.format("%s %s", appointment.getSpecialist().getFirstName(), appointment.getSpecialist().getLastName()))
-                .date(appointment.getDateTime().toLocalDate())
-                .build();
+                .appointmentId(appointment.appointmentId())
+                .specialistAddress(addresses.getOrDefault(appointment.specialistId(), List.of()))
+                .specialistName(String.format("%s %s", appointment.specialistFirstName(), appointment.specialistLastName()))
+                .date(appointment.dateTime().toLocalDate())
+                .build());
     }
 }
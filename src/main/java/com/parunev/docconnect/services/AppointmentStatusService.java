@@ -0,0 +1,58 @@
+package com.parunev.docconnect.services;
+
+import com.parunev.docconnect.repositories.AppointmentRepository;
+import com.parunev.docconnect.utils.DCLogger;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Moves appointments from upcoming to completed once they are over.
+ * <p>
+ * An appointment counts as completed one hour after its start time. The transition runs on a schedule as a single
+ * set-based {@code UPDATE}, so reading appointments never writes. The update has no lower bound: it only matches
+ * upcoming appointments that started before the cutoff, which {@code IDX_APPOINTMENTS_STATUS_DATETIME} finds
+ * directly, and that range is empty again after every run. Running it again, on this or another instance, or after
+ * a rolled back run, therefore changes nothing or catches up on what was missed.
+ */
+@Service
+@RequiredArgsConstructor
+public class AppointmentStatusService {
+
+    /**
+     * How long after its start time an appointment is considered completed.
+     */
+    public static final Duration COMPLETION_DELAY = Duration.ofHours(1);
+
+    private final AppointmentRepository appointmentRepository;
+    private final DCLogger dcLogger = new DCLogger(AppointmentStatusService.class);
+
+    /**
+     * Returns the start time before which every upcoming appointment is already completed.
+     * Read paths use it to classify appointments the job has not reached yet.
+     */
+    public static LocalDateTime completionCutoff() {
+        return LocalDateTime.now().minus(COMPLETION_DELAY);
+    }
+
+    /**
+     * Completes all upcoming appointments that started before the current cutoff.
+     *
+     * @return The number of appointments that were completed.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${docconnect.appointments.status-transition.interval-ms:60000}")
+    public int completePastAppointments() {
+        LocalDateTime cutoff = completionCutoff();
+        int completed = appointmentRepository.completeUpcomingAppointmentsBefore(cutoff);
+
+        if (completed > 0) {
+            dcLogger.info("Completed {} appointments that started before {}", completed, cutoff);
+        }
+        return completed;
+    }
+}
@@ -131,12 +131,10 @@ public class AuthService {
         }
 
         dcLogger.info("Generating access/refresh token for user: {}", user.getEmail());
+        authHelpers.revokeUserTokens(user);
         String accessToken = jwtService.generateToken(user);
         String refreshToken = jwtService.generateRefreshToken(user);
 
-        authHelpers.revokeUserTokens(user);
-        authHelpers.saveJwtTokenToRepository(user, accessToken);
-
         return authHelpers.createLoginResponse(user, "User logged in successfully.",
                 accessToken, refreshToken,
                 null, false);
@@ -229,10 +227,9 @@ public class AuthService {
         }
 
         dcLogger.info("Generating access/refresh token for user: {}", user.getEmail());
+        authHelpers.revokeUserTokens(user);
         String accessToken = jwtService.generateToken(user);
         String refreshToken = jwtService.generateRefreshToken(user);
-        authHelpers.revokeUserTokens(user);
-        authHelpers.saveJwtTokenToRepository(user, accessToken);
 
         return authHelpers.createLoginResponse(
                 user,
@@ -10,10 +10,12 @@ import com.parunev.docconnect.repositories.CountryRepository;
 import com.parunev.docconnect.security.exceptions.CityServiceException;
 import com.parunev.docconnect.security.exceptions.CountryServiceException;
 import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.cache.ReferenceDataCache;
+import com.parunev.docconnect.utils.cache.ReferenceDataCache.CachedResponse;
+import com.parunev.docconnect.utils.mappers.CityMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
@@ -33,8 +35,8 @@ public class CityService {
     private final CityRepository cityRepository;
     private final CountryRepository countryRepository;
     private final DCLogger dcLogger = new DCLogger(CityService.class);
-    private final ModelMapper modelMapper;
     private final HttpServletRequest httpServletRequest;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Adds a new city record to the database.
@@ -78,11 +80,14 @@ public class CityService {
                 .country(country)
                 .build();
 
+        City saved = cityRepository.save(city);
+        referenceDataCache.invalidateCities();
+
         dcLogger.info("City with name {} was added", request.getCityName());
         return CityResponse.builder()
                 .path(httpServletRequest.getRequestURI())
                 .message("City was added")
-                .cityName(cityRepository.save(city).getCityName())
+                .cityName(saved.getCityName())
                 .countryName(country.getCountryName())
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.CREATED)
@@ -107,6 +112,7 @@ public class CityService {
 
         dcLogger.info("City with id: {} was updated", id);
         city.setCityName(request.getCityName());
+        referenceDataCache.invalidateCities();
 
         return CityResponse.builder()
                 .path(httpServletRequest.getRequestURI())
@@ -129,6 +135,7 @@ public class CityService {
 
         dcLogger.info("City with id {} was removed", id);
         cityRepository.deleteById(id);
+        referenceDataCache.invalidateCities();
 
         return CityResponse.builder()
                 .path(httpServletRequest.getRequestURI())
@@ -139,16 +146,21 @@ public class CityService {
     }
 
     /**
-     * Retrieves a list of all city records from the database.
+     * Retrieves a list of all city records, served from the reference data cache.
      *
      * @return A list of city responses.
      */
     public List<CityResponse> getAllCities(){
-        List<City> cities = cityRepository.findAll();
+        return getAllCitiesCached().body();
+    }
 
-        return cities.stream()
-                .map(city -> modelMapper.map(city, CityResponse.class))
-                .toList();
+    /**
+     * Retrieves a list of all city records together with its ETag, served from the reference data cache.
+     *
+     * @return The cached list of city responses.
+     */
+    public CachedResponse<List<CityResponse>> getAllCitiesCached(){
+        return referenceDataCache.allCities();
     }
 
     /**
@@ -158,18 +170,28 @@ public class CityService {
      * @return A response containing the city data.
      */
     public CityResponse getCityById(Long id) {
-        return modelMapper.map(findCityById(id), CityResponse.class);
+        return CityMapper.toResponse(findCityById(id));
     }
 
     /**
-     * Retrieves a list of all city records by country id from the database.
+     * Retrieves a list of all city records by country id, served from the reference data cache.
      *
      * @return A list of city responses.
      */
     public List<CityResponse> getAllCitiesByCountryId(Long id){
-        List<City> cities = cityRepository.findAllByCountryId(id);
+        return getAllCitiesByCountryIdCached(id).body();
+    }
+
+    /**
+     * Retrieves a list of all city records by country id together with its ETag, served from the reference data cache.
+     *
+     * @return The cached list of city responses.
+     * @throws CityServiceException if the country has no cities.
+     */
+    public CachedResponse<List<CityResponse>> getAllCitiesByCountryIdCached(Long id){
+        CachedResponse<List<CityResponse>> cities = referenceDataCache.citiesByCountry(id);
 
-        if (cities.isEmpty()){
+        if (cities.body().isEmpty()){
             dcLogger.warn("Cities with country id: {} not found", id);
 
             throw new CityServiceException(CityResponse.builder()
@@ -180,9 +202,7 @@ public class CityService {
                     .build());
         }
 
-        return cities.stream()
-                .map(city -> modelMapper.map(city, CityResponse.class))
-                .toList();
+        return cities;
     }
 
     private City findCityById(Long id) {
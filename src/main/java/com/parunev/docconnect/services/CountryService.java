@@ -6,10 +6,12 @@ import com.parunev.docconnect.models.payloads.country.CountryResponse;
 import com.parunev.docconnect.repositories.CountryRepository;
 import com.parunev.docconnect.security.exceptions.CountryServiceException;
 import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.cache.ReferenceDataCache;
+import com.parunev.docconnect.utils.cache.ReferenceDataCache.CachedResponse;
+import com.parunev.docconnect.utils.mappers.CountryMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
@@ -29,8 +31,8 @@ public class CountryService {
     // Dependencies
     private final CountryRepository countryRepository;
     private final DCLogger dcLogger = new DCLogger(CountryService.class);
-    private final ModelMapper modelMapper;
     private final HttpServletRequest httpServletRequest;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Adds a new country record to the database.
@@ -57,6 +59,7 @@ public class CountryService {
                 .countryName(request.getCountryName())
                 .build();
         countryRepository.save(country);
+        referenceDataCache.invalidateCountries();
 
         dcLogger.info("Country with name {} was added", request.getCountryName());
         return CountryResponse.builder()
@@ -81,6 +84,7 @@ public class CountryService {
         dcLogger.info("Country with id {} was updated", id);
         country.setCountryName(request.getCountryName());
         countryRepository.save(country);
+        referenceDataCache.invalidateCountries();
 
         return CountryResponse.builder()
                 .path(httpServletRequest.getRequestURI())
@@ -102,6 +106,7 @@ public class CountryService {
 
         dcLogger.info("Country with id {} was removed", id);
         countryRepository.deleteById(country.getId());
+        referenceDataCache.invalidateCountries();
 
         return CountryResponse.builder()
                 .path(httpServletRequest.getRequestURI())
@@ -113,16 +118,21 @@ public class CountryService {
     }
 
     /**
-     * Retrieves a list of all country records from the database.
+     * Retrieves a list of all country records, served from the reference data cache.
      *
      * @return A list of country responses.
      */
     public List<CountryResponse> getAllCountries(){
-        List<Country> countries = countryRepository.findAll();
+        return getAllCountriesCached().body();
+    }
 
-        return countries.stream()
-                .map(country -> modelMapper.map(country, CountryResponse.class))
-                .toList();
+    /**
+     * Retrieves a list of all country records together with its ETag, served from the reference data cache.
+     *
+     * @return The cached list of country responses.
+     */
+    public CachedResponse<List<CountryResponse>> getAllCountriesCached(){
+        return referenceDataCache.allCountries();
     }
 
     /**
@@ -132,7 +142,7 @@ public class CountryService {
      * @return A response containing the country data.
      */
     public CountryResponse getCountryById(Long id) {
-        return modelMapper.map(findCountryById(id), CountryResponse.class);
+        return CountryMapper.toResponse(findCountryById(id));
     }
 
     public Country findCountryById(Long id){
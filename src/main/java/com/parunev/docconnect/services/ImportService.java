@@ -0,0 +1,558 @@
+package com.parunev.docconnect.services;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.parunev.docconnect.config.ImportConfig;
+import com.parunev.docconnect.config.PasswordHashingConfig;
+import com.parunev.docconnect.models.enums.ImportType;
+import com.parunev.docconnect.models.payloads.city.CityRequest;
+import com.parunev.docconnect.models.payloads.imports.ImportResponse;
+import com.parunev.docconnect.models.payloads.specialist.SpecialistRegistrationRequest;
+import com.parunev.docconnect.models.payloads.specialty.SpecialtyRequest;
+import com.parunev.docconnect.repositories.BulkImportRepository;
+import com.parunev.docconnect.repositories.BulkImportRepository.NewSpecialist;
+import com.parunev.docconnect.security.exceptions.ImportServiceException;
+import com.parunev.docconnect.security.payload.ApiError;
+import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.DCMetrics;
+import com.parunev.docconnect.utils.cache.ReferenceDataCache;
+import com.parunev.docconnect.utils.imports.ImportFileReader;
+import com.parunev.docconnect.utils.imports.ImportJob;
+import com.parunev.docconnect.utils.validators.AuthHelpers;
+import dev.samstevens.totp.secret.DefaultSecretGenerator;
+import dev.samstevens.totp.secret.SecretGenerator;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code ImportService} imports specialists, cities and specialties in bulk from CSV or JSON files uploaded by an
+ * administrator.
+ * <p>
+ * An upload is stored in a temporary file and queued for a single background worker, so imports never compete with
+ * each other for the database. The worker streams the file in chunks of {@code chunkSize} rows. Every row is
+ * validated with the constraints of the matching request payload and checked against lookup data loaded once per
+ * job (existing emails and names, and the IDs of countries, cities and specialties); rows that fail are skipped and
+ * reported with their row number. The passwords of a chunk are hashed in parallel on a dedicated pool, and the valid
+ * rows of a chunk are inserted with JDBC batches in one transaction. If that transaction fails, the whole chunk is
+ * reported as skipped and the import carries on with the next one.
+ * <p>
+ * The progress of a job can be looked up by its ID for {@code retention} after it was submitted.
+ *
+ * @see ImportConfig
+ * @see BulkImportRepository
+ */
+@Service
+public class ImportService {
+
+    private static final String ADDRESS_SEPARATOR = "\\|";
+
+    private final ImportConfig importConfig;
+    private final BulkImportRepository bulkImportRepository;
+    private final ImportFileReader importFileReader;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ReferenceDataCache referenceDataCache;
+    private final SpecialistService specialistService;
+    private final AuthHelpers authHelpers;
+    private final AuditorAware<String> auditorAware;
+    private final HttpServletRequest httpServletRequest;
+    private final DCMetrics dcMetrics;
+    private final DCLogger dcLogger = new DCLogger(ImportService.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final SecretGenerator secretGenerator = new DefaultSecretGenerator();
+    private final ForkJoinPool hashingPool;
+    private final ThreadPoolExecutor worker;
+    private final Cache<UUID, ImportJob> jobs;
+
+    public ImportService(ImportConfig importConfig,
+                         PasswordHashingConfig passwordHashingConfig,
+                         BulkImportRepository bulkImportRepository,
+                         ImportFileReader importFileReader,
+                         ObjectMapper objectMapper,
+                         Validator validator,
+                         PlatformTransactionManager transactionManager,
+                         ReferenceDataCache referenceDataCache,
+                         SpecialistService specialistService,
+                         AuthHelpers authHelpers,
+                         AuditorAware<String> auditorAware,
+                         HttpServletRequest httpServletRequest,
+                         DCMetrics dcMetrics) {
+        this.importConfig = importConfig;
+        this.bulkImportRepository = bulkImportRepository;
+        this.importFileReader = importFileReader;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.referenceDataCache = referenceDataCache;
+        this.specialistService = specialistService;
+        this.authHelpers = authHelpers;
+        this.auditorAware = auditorAware;
+        this.httpServletRequest = httpServletRequest;
+        this.dcMetrics = dcMetrics;
+
+        // The shared encoder hands one password at a time to its own bounded pool, which would serialize an import
+        // behind the logins, so imports hash with the same cost factor on a pool of their own.
+        int hashingThreads = importConfig.getHashingThreads() > 0
+                ? importConfig.getHashingThreads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.passwordEncoder = new BCryptPasswordEncoder(passwordHashingConfig.getStrength());
+        this.hashingPool = new ForkJoinPool(hashingThreads);
+        this.worker = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(importConfig.getQueueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-import");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.jobs = CacheBuilder.newBuilder()
+                .expireAfterWrite(importConfig.getRetention())
+                .build();
+    }
+
+    /**
+     * Stores the uploaded file and queues it for import.
+     *
+     * @param typeName The kind of records in the file, the name of an {@link ImportType} in any case.
+     * @param file     The uploaded CSV or JSON file.
+     * @return The queued job, with HTTP status "ACCEPTED".
+     * @throws ImportServiceException If the type is unknown, the file is empty or not CSV or JSON, or the import
+     *                                queue is full.
+     */
+    public ImportResponse submit(String typeName, MultipartFile file) {
+        ImportType type = Arrays.stream(ImportType.values())
+                .filter(value -> value.name().equalsIgnoreCase(typeName))
+                .findFirst()
+                .orElseThrow(() -> importException("Unknown import type: %s".formatted(typeName), HttpStatus.BAD_REQUEST));
+
+        if (file == null || file.isEmpty()) {
+            throw importException("Please upload a non-empty file.", HttpStatus.BAD_REQUEST);
+        }
+
+        ImportFileReader.Format format = ImportFileReader.Format.of(file.getOriginalFilename(), file.getContentType())
+                .orElseThrow(() -> importException("Only CSV and JSON files can be imported.", HttpStatus.BAD_REQUEST));
+
+        File stored;
+        try {
+            stored = Files.createTempFile("docconnect-import-", "." + format.name().toLowerCase(Locale.ROOT)).toFile();
+            file.transferTo(stored);
+        } catch (IOException e) {
+            dcLogger.error("Could not store the uploaded import file {}", e, file.getOriginalFilename());
+            throw importException("The uploaded file could not be stored.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        String auditor = auditorAware.getCurrentAuditor().orElse("DOC_CONNECT");
+        ImportJob job = new ImportJob(type, stored, format, auditor, importConfig.getMaxErrors());
+        jobs.put(job.getId(), job);
+        ImportResponse queued = toResponse(job, HttpStatus.ACCEPTED);
+
+        try {
+            worker.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            deleteFile(job);
+            dcLogger.warn("Rejected the import of {} by {}, the import queue is full", type, auditor);
+            throw importException("Too many imports are waiting, please try again later.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        dcLogger.info("Queued import {} of {} from {} by {}", job.getId(), type, file.getOriginalFilename(), auditor);
+        return queued;
+    }
+
+    /**
+     * Returns the progress of an import job.
+     *
+     * @param id The ID of the job.
+     * @return The job, with HTTP status "OK".
+     * @throws ImportServiceException If no job with the ID was submitted within the retention period.
+     */
+    public ImportResponse getImport(UUID id) {
+        ImportJob job = jobs.getIfPresent(id);
+        if (job == null) {
+            throw importException("Import with id:%s not found".formatted(id), HttpStatus.NOT_FOUND);
+        }
+        return toResponse(job, HttpStatus.OK);
+    }
+
+    /**
+     * Stops the import worker and the hashing pool; a running import is interrupted and queued imports are dropped.
+     */
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+        hashingPool.shutdownNow();
+    }
+
+    void run(ImportJob job) {
+        job.start();
+        dcLogger.info("Started import {} of {}", job.getId(), job.getType());
+
+        try (MappingIterator<Map<String, Object>> rows = importFileReader.open(job.getFile(), job.getFormat())) {
+            ChunkImporter importer = switch (job.getType()) {
+                case SPECIALISTS -> new SpecialistImporter();
+                case CITIES -> new CityImporter();
+                case SPECIALTIES -> new SpecialtyImporter();
+            };
+
+            List<Row> chunk = new ArrayList<>(importConfig.getChunkSize());
+            long rowNumber = 0;
+            while (rows.hasNextValue()) {
+                chunk.add(new Row(++rowNumber, rows.nextValue()));
+                if (chunk.size() == importConfig.getChunkSize()) {
+                    importChunk(job, importer, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, importer, chunk);
+            }
+
+            job.complete();
+            dcLogger.info("Completed import {}: {} rows imported, {} rows skipped",
+                    job.getId(), job.getImportedRows().get(), job.getFailedRows().get());
+        } catch (IOException | RuntimeException e) {
+            job.fail("The file could not be read after row %d: %s"
+                    .formatted(job.getProcessedRows().get(), Throwables.getRootCause(e).getMessage()));
+            dcLogger.error("Import {} failed after {} rows", e, job.getId(), job.getProcessedRows().get());
+        } finally {
+            deleteFile(job);
+            refreshReferenceData(job);
+        }
+    }
+
+    private void importChunk(ImportJob job, ChunkImporter importer, List<Row> chunk) {
+        Timer.Sample sample = dcMetrics.start();
+        List<Row> accepted = importer.validate(job, chunk);
+
+        String outcome = "imported";
+        if (!accepted.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> importer.insert(job, accepted));
+                job.rowsImported(accepted.size());
+            } catch (RuntimeException e) {
+                outcome = "failed";
+                importer.rollback(accepted);
+                String error = "The row could not be saved: " + Throwables.getRootCause(e).getMessage();
+                accepted.forEach(row -> job.rowFailed(row.number(), error));
+                dcLogger.warn("Import {} could not save rows {} to {}: {}", job.getId(),
+                        chunk.get(0).number(), chunk.get(chunk.size() - 1).number(), e.getMessage());
+            }
+        }
+
+        job.rowsProcessed(chunk.size());
+        dcMetrics.stop(sample, DCMetrics.IMPORT_CHUNK,
+                "type", job.getType().name().toLowerCase(Locale.ROOT), "outcome", outcome);
+    }
+
+    private void refreshReferenceData(ImportJob job) {
+        if (job.getImportedRows().get() == 0) {
+            return;
+        }
+
+        try {
+            switch (job.getType()) {
+                case SPECIALISTS -> specialistService.rebuildSearchIndex();
+                case CITIES -> referenceDataCache.invalidateCities();
+                case SPECIALTIES -> referenceDataCache.invalidateSpecialties();
+            }
+        } catch (RuntimeException e) {
+            dcLogger.error("Could not refresh the data changed by import {}", e, job.getId());
+        }
+    }
+
+    /**
+     * Converts a row to the request payload and validates it; records the error and returns {@code null} if the
+     * row is invalid.
+     */
+    private <T> T readRow(ImportJob job, Row row, Class<T> payloadType) {
+        T payload;
+        try {
+            payload = objectMapper.convertValue(row.values(), payloadType);
+        } catch (IllegalArgumentException e) {
+            job.rowFailed(row.number(), "The row could not be read: " + Throwables.getRootCause(e).getMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(payload);
+        if (!violations.isEmpty()) {
+            job.rowFailed(row.number(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" ")));
+            return null;
+        }
+        return payload;
+    }
+
+    private ImportResponse toResponse(ImportJob job, HttpStatus status) {
+        return ImportResponse.builder()
+                .path(httpServletRequest.getRequestURI())
+                .message(job.getMessage())
+                .jobId(job.getId())
+                .type(job.getType())
+                .state(job.getState())
+                .processedRows(job.getProcessedRows().get())
+                .importedRows(job.getImportedRows().get())
+                .failedRows(job.getFailedRows().get())
+                .errors(job.getErrors())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .timestamp(LocalDateTime.now())
+                .status(status)
+                .build();
+    }
+
+    private ImportServiceException importException(String error, HttpStatus status) {
+        return new ImportServiceException(ApiError.builder()
+                .path(httpServletRequest.getRequestURI())
+                .error(error)
+                .timestamp(LocalDateTime.now())
+                .status(status)
+                .build());
+    }
+
+    private void deleteFile(ImportJob job) {
+        try {
+            Files.deleteIfExists(job.getFile().toPath());
+        } catch (IOException e) {
+            dcLogger.warn("Could not delete the import file {}", job.getFile());
+        }
+    }
+
+    private static String lowerCase(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A row of the file with its 1-based number and, once validated, its request payload.
+     */
+    private record Row(long number, Map<String, Object> values, Object payload) {
+
+        Row(long number, Map<String, Object> values) {
+            this(number, values, null);
+        }
+
+        Row accept(Object validPayload) {
+            return new Row(number, values, validPayload);
+        }
+    }
+
+    /**
+     * Validates and inserts the rows of one type. The lookup data is loaded when the importer is created and kept
+     * up to date with the accepted rows, so duplicates within the file are caught as well.
+     */
+    private interface ChunkImporter {
+
+        /**
+         * Returns the valid rows of the chunk, with their payload; the invalid ones are recorded on the job.
+         */
+        List<Row> validate(ImportJob job, List<Row> chunk);
+
+        /**
+         * Inserts the valid rows. Called within the chunk's transaction.
+         */
+        void insert(ImportJob job, List<Row> accepted);
+
+        /**
+         * Forgets the rows of a chunk that could not be saved, so later rows are checked as if they never existed.
+         */
+        void rollback(List<Row> accepted);
+    }
+
+    private final class SpecialistImporter implements ChunkImporter {
+
+        private final Set<String> emails = bulkImportRepository.findAllEmails();
+        private final Set<Long> countryIds = bulkImportRepository.findAllCountryIds();
+        private final Set<Long> specialtyIds = bulkImportRepository.findAllSpecialtyIds();
+        private final Map<Long, Long> cityCountryIds = bulkImportRepository.findCityCountryIds();
+
+        @Override
+        public List<Row> validate(ImportJob job, List<Row> chunk) {
+            List<Row> accepted = new ArrayList<>(chunk.size());
+            for (Row row : chunk) {
+                SpecialistRegistrationRequest request = readRow(job, new Row(row.number(), normalize(row.values())),
+                        SpecialistRegistrationRequest.class);
+                if (request == null) {
+                    continue;
+                }
+
+                String error = checkReferences(request);
+                if (error != null) {
+                    job.rowFailed(row.number(), error);
+                    continue;
+                }
+
+                request.setFirstName(authHelpers.capitalizeFirstLetter(request.getFirstName()));
+                request.setLastName(authHelpers.capitalizeFirstLetter(request.getLastName()));
+                emails.add(lowerCase(request.getEmail()));
+                accepted.add(row.accept(request));
+            }
+
+            // Hashing is the slow part of a chunk, so it runs before the transaction instead of holding a connection.
+            List<String> hashes = hashingPool.submit(() -> accepted.parallelStream()
+                    .map(row -> passwordEncoder.encode(((SpecialistRegistrationRequest) row.payload()).getPassword()))
+                    .toList()).join();
+            List<Row> hashed = new ArrayList<>(accepted.size());
+            for (int i = 0; i < accepted.size(); i++) {
+                Row row = accepted.get(i);
+                hashed.add(row.accept(new NewSpecialist((SpecialistRegistrationRequest) row.payload(),
+                        hashes.get(i), secretGenerator.generate())));
+            }
+            return hashed;
+        }
+
+        @Override
+        public void insert(ImportJob job, List<Row> accepted) {
+            bulkImportRepository.insertSpecialists(accepted.stream().map(row -> (NewSpecialist) row.payload()).toList(),
+                    job.getSubmittedBy());
+        }
+
+        @Override
+        public void rollback(List<Row> accepted) {
+            accepted.forEach(row -> emails.remove(lowerCase(((NewSpecialist) row.payload()).request().getEmail())));
+        }
+
+        private String checkReferences(SpecialistRegistrationRequest request) {
+            if (emails.contains(lowerCase(request.getEmail()))) {
+                return "The email address provided is already associated with an existing account.";
+            }
+            if (request.getCountryId() == null || !countryIds.contains(request.getCountryId())) {
+                return "Country with id:%s not found".formatted(request.getCountryId());
+            }
+            Long cityCountryId = request.getCityId() == null ? null : cityCountryIds.get(request.getCityId());
+            if (cityCountryId == null) {
+                return "City with id:%s not found".formatted(request.getCityId());
+            }
+            if (!cityCountryId.equals(request.getCountryId())) {
+                return "City with id:%d is not in country with id:%d".formatted(request.getCityId(), request.getCountryId());
+            }
+            if (request.getSpecialtyId() == null || !specialtyIds.contains(request.getSpecialtyId())) {
+                return "Specialty with id:%s not found".formatted(request.getSpecialtyId());
+            }
+            return null;
+        }
+
+        /**
+         * Adapts a row to the registration request: CSV rows list the addresses separated by "|", the gender may be
+         * written in any case, and the password does not have to be repeated.
+         */
+        private Map<String, Object> normalize(Map<String, Object> values) {
+            Map<String, Object> normalized = new HashMap<>(values);
+            if (normalized.get("addresses") instanceof String addresses) {
+                normalized.put("addresses", addresses.isBlank() ? null : Arrays.stream(addresses.split(ADDRESS_SEPARATOR))
+                        .map(String::trim)
+                        .filter(address -> !address.isEmpty())
+                        .toList());
+            }
+            if (normalized.get("gender") instanceof String gender) {
+                normalized.put("gender", gender.isBlank() ? null : gender.trim().toUpperCase(Locale.ROOT));
+            }
+            normalized.putIfAbsent("confirmPassword", normalized.get("password"));
+            return normalized;
+        }
+    }
+
+    private final class CityImporter implements ChunkImporter {
+
+        private final Set<String> cityNames = bulkImportRepository.findAllCityNames();
+        private final Set<Long> countryIds = bulkImportRepository.findAllCountryIds();
+
+        @Override
+        public List<Row> validate(ImportJob job, List<Row> chunk) {
+            List<Row> accepted = new ArrayList<>(chunk.size());
+            for (Row row : chunk) {
+                CityRequest request = readRow(job, row, CityRequest.class);
+                if (request == null) {
+                    continue;
+                }
+
+                if (request.getCountryId() == null || !countryIds.contains(request.getCountryId())) {
+                    job.rowFailed(row.number(), "Country with id:%s not found".formatted(request.getCountryId()));
+                } else if (!cityNames.add(lowerCase(request.getCityName()))) {
+                    job.rowFailed(row.number(), "City already exists");
+                } else {
+                    accepted.add(row.accept(request));
+                }
+            }
+            return accepted;
+        }
+
+        @Override
+        public void insert(ImportJob job, List<Row> accepted) {
+            bulkImportRepository.insertCities(accepted.stream().map(row -> (CityRequest) row.payload()).toList(),
+                    job.getSubmittedBy());
+        }
+
+        @Override
+        public void rollback(List<Row> accepted) {
+            accepted.forEach(row -> cityNames.remove(lowerCase(((CityRequest) row.payload()).getCityName())));
+        }
+    }
+
+    private final class SpecialtyImporter implements ChunkImporter {
+
+        private final Set<String> specialtyNames = bulkImportRepository.findAllSpecialtyNames();
+
+        @Override
+        public List<Row> validate(ImportJob job, List<Row> chunk) {
+            List<Row> accepted = new ArrayList<>(chunk.size());
+            for (Row row : chunk) {
+                SpecialtyRequest request = readRow(job, row, SpecialtyRequest.class);
+                if (request == null) {
+                    continue;
+                }
+
+                if (!specialtyNames.add(lowerCase(request.getSpecialtyName()))) {
+                    job.rowFailed(row.number(), "Specialty already exists");
+                } else {
+                    accepted.add(row.accept(request));
+                }
+            }
+            return accepted;
+        }
+
+        @Override
+        public void insert(ImportJob job, List<Row> accepted) {
+            bulkImportRepository.insertSpecialties(accepted.stream().map(row -> (SpecialtyRequest) row.payload()).toList(),
+                    job.getSubmittedBy());
+        }
+
+        @Override
+        public void rollback(List<Row> accepted) {
+            accepted.forEach(row -> specialtyNames.remove(lowerCase(((SpecialtyRequest) row.payload()).getSpecialtyName())));
+        }
+    }
+}
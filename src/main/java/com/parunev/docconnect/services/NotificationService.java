@@ -2,17 +2,21 @@ package com.parunev.docconnect.services;
 
 import com.parunev.docconnect.models.Appointment;
 import com.parunev.docconnect.models.UserProfile;
-import com.parunev.docconnect.models.enums.Status;
 import com.parunev.docconnect.repositories.AppointmentRepository;
 import com.parunev.docconnect.repositories.UserProfileRepository;
 import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.DCMetrics;
 import com.parunev.docconnect.utils.email.EmailSender;
+import io.micrometer.core.instrument.Timer;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static com.parunev.docconnect.utils.email.Patterns.*;
 
@@ -38,6 +42,7 @@ public class NotificationService {
     private final UserProfileRepository userProfileRepository;
     private final AppointmentRepository appointmentRepository;
     private final EmailSender emailSender;
+    private final DCMetrics dcMetrics;
     private final DCLogger dcLogger = new DCLogger(NotificationService.class);
 
     /**
@@ -58,78 +63,74 @@ public class NotificationService {
                             appointment.getSpecialist().getAddresses().get(0).getDocAddress(),
                             appointment),
                     "DocConnect: Appointment Canceled");
-            dcLogger.info("A cancel appointment email was sent to: " + appointment.getUser().getEmail());
+            dcLogger.info("A cancel appointment email was sent to: {}", appointment.getUser().getEmail());
         }
     }
 
     /**
      * Sends email reminders for upcoming appointments to users.
-     * This method is scheduled to run periodically.
+     * This method is scheduled to run periodically and reminds about the appointments that start in
+     * the same hour on the next day, for users who have reminders enabled.
      */
+    @Transactional
     @Scheduled(cron = "0 0 9-16 * * ?")
     public void sendAppointmentRemindingEmail() {
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(24);
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
-
-        appointmentRepository.findAllByAppointmentStatus(Status.STATUS_UPCOMING).stream()
-                .filter(
-                        appointment ->
-                                LocalDateTime.of(appointment.getDateTime().toLocalDate(), appointment.getDateTime().toLocalTime())
-                                        .format(formatter)
-                                        .equals(LocalDateTime.now().withMinute(0).plusHours(24).format(formatter)))
-                .forEach(
-                        appointment -> {
-                            UserProfile userProfile = userProfileRepository.findByUserId(appointment.getUser().getId());
-                            if (userProfile.isUpcomingNotification()) {
-                                emailSender.send(
-                                        appointment.getUser().getEmail(),
-                                        buildAppointmentReminderEmail(
-                                                appointment.getUser().getName(),
-                                                appointment.getSpecialist().getFirstName()
-                                                        + " "
-                                                        + appointment.getSpecialist().getLastName(),
-                                                appointment.getSpecialist().getSpecialty().getSpecialtyName(),
-                                                appointment.getSpecialist().getAddresses().get(0).getDocAddress(),
-                                                appointment),
-                                        "DocConnect: Appointment Reminder");
-                                dcLogger.info("A reminding email was sent to: " + appointment.getUser().getEmail());
-                            }
-                        });
+        Timer.Sample scan = dcMetrics.start();
+        AtomicInteger found = new AtomicInteger();
+        try (Stream<Appointment> appointments = appointmentRepository.streamAppointmentsToRemind(from, from.plusHours(1))) {
+            appointments.forEach(appointment -> {
+                found.incrementAndGet();
+                emailSender.send(
+                        appointment.getUser().getEmail(),
+                        buildAppointmentReminderEmail(
+                                appointment.getUser().getName(),
+                                appointment.getSpecialist().getFirstName()
+                                        + " "
+                                        + appointment.getSpecialist().getLastName(),
+                                appointment.getSpecialist().getSpecialty().getSpecialtyName(),
+                                appointment.getSpecialist().getAddresses().get(0).getDocAddress(),
+                                appointment),
+                        "DocConnect: Appointment Reminder");
+                dcLogger.info("A reminding email was sent to: {}", appointment.getUser().getEmail());
+            });
+        }
+        dcMetrics.record(DCMetrics.NOTIFICATION_SCAN_SIZE, found.get(), "scan", "reminder");
+        dcMetrics.stop(scan, DCMetrics.NOTIFICATION_SCAN, "scan", "reminder");
     }
 
     /**
      * Sends email reminders to users for providing feedback on completed appointments.
-     * This method is scheduled to run periodically.
+     * This method is scheduled to run periodically and asks for feedback on the appointments that started
+     * two hours ago, for users who have feedback requests enabled.
      */
+    @Transactional
     @Scheduled(cron = "0 0 11-18 * * ?")
     public void sendFeedbackEmail() {
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(2);
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
-
-        appointmentRepository.findAllByAppointmentStatus(Status.STATUS_COMPLETED).stream()
-                .filter(
-                        appointment ->
-                                LocalDateTime.of(appointment.getDateTime().toLocalDate(), appointment.getDateTime().toLocalTime())
-                                        .format(formatter)
-                                        .equals(LocalDateTime.now().withMinute(0).minusHours(2).format(formatter)))
-                .forEach(
-                        appointment -> {
-                            UserProfile userProfile = userProfileRepository.findByUserId(appointment.getUser().getId());
-                            if (userProfile.isFeedbackNotification()) {
-                                emailSender.send(
-                                        appointment.getUser().getEmail(),
-                                        buildFeedbackEmail(
-                                                appointment.getUser().getName(),
-                                                appointment.getSpecialist().getFirstName()
-                                                        + " "
-                                                        + appointment.getSpecialist().getLastName(),
-                                                appointment.getSpecialist().getSpecialty().getSpecialtyName(),
-                                                appointment.getSpecialist().getAddresses().get(0).getDocAddress(),
-                                                appointment,
-                                                appointment.getSpecialist().getId()),
-                                        "DocConnect: Appointment Feedback");
-                                dcLogger.info("A reminding email was sent to: " + appointment.getUser().getEmail());
-                            }
-                        });
+        Timer.Sample scan = dcMetrics.start();
+        AtomicInteger found = new AtomicInteger();
+        try (Stream<Appointment> appointments = appointmentRepository.streamAppointmentsForFeedback(from, from.plusHours(1))) {
+            appointments.forEach(appointment -> {
+                found.incrementAndGet();
+                emailSender.send(
+                        appointment.getUser().getEmail(),
+                        buildFeedbackEmail(
+                                appointment.getUser().getName(),
+                                appointment.getSpecialist().getFirstName()
+                                        + " "
+                                        + appointment.getSpecialist().getLastName(),
+                                appointment.getSpecialist().getSpecialty().getSpecialtyName(),
+                                appointment.getSpecialist().getAddresses().get(0).getDocAddress(),
+                                appointment,
+                                appointment.getSpecialist().getId()),
+                        "DocConnect: Appointment Feedback");
+                dcLogger.info("A feedback email was sent to: {}", appointment.getUser().getEmail());
+            });
+        }
+        dcMetrics.record(DCMetrics.NOTIFICATION_SCAN_SIZE, found.get(), "scan", "feedback");
+        dcMetrics.stop(scan, DCMetrics.NOTIFICATION_SCAN, "scan", "feedback");
     }
 }
@@ -0,0 +1,132 @@
+package com.parunev.docconnect.services;
+
+import com.parunev.docconnect.models.Rating;
+import com.parunev.docconnect.models.RatingAggregate;
+import com.parunev.docconnect.repositories.RatingAggregateRepository;
+import com.parunev.docconnect.repositories.SpecialistRepository;
+import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.search.SpecialistSearchIndex;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the denormalized {@link RatingAggregate} of every specialist.
+ * <p>
+ * The aggregate is updated in the same transaction as the rating write it reflects,
+ * with the aggregate row locked, so count, sum, average and histogram never drift
+ * from the {@code RATING} table. The first rating of a specialist has no aggregate row to
+ * lock yet, so rating writes lock the specialist row first and create the aggregate only
+ * while holding that lock.
+ */
+@Service
+@RequiredArgsConstructor
+public class RatingAggregateService {
+
+    private final RatingAggregateRepository ratingAggregateRepository;
+    private final SpecialistRepository specialistRepository;
+    private final SpecialistSearchIndex specialistSearchIndex;
+    private final DCLogger dcLogger = new DCLogger(RatingAggregateService.class);
+
+    /**
+     * Adds a newly created rating to the aggregate of the rated specialist.
+     * Must be called inside the transaction that saves the rating.
+     *
+     * @param rating The rating that was just created.
+     * @return The updated aggregate.
+     */
+    @Transactional
+    public RatingAggregate recordRating(Rating rating) {
+        // Serializes concurrent first ratings, which would otherwise both insert an aggregate
+        specialistRepository.lockById(rating.getSpecialist().getId());
+        RatingAggregate aggregate = ratingAggregateRepository
+                .findBySpecialistIdForUpdate(rating.getSpecialist().getId())
+                .orElseGet(() -> RatingAggregate.builder().specialist(rating.getSpecialist()).build());
+
+        applyRating(aggregate, rating.getRatingSize(), 1);
+        specialistSearchIndex.updateRating(rating.getSpecialist().getId(), aggregate.getAverageRating());
+        return ratingAggregateRepository.save(aggregate);
+    }
+
+    /**
+     * Removes a deleted rating from the aggregate of the rated specialist.
+     * Must be called inside the transaction that deletes the rating.
+     *
+     * @param rating The rating that is being deleted.
+     */
+    @Transactional
+    public void removeRating(Rating rating) {
+        ratingAggregateRepository.findBySpecialistIdForUpdate(rating.getSpecialist().getId())
+                .ifPresent(aggregate -> {
+                    applyRating(aggregate, rating.getRatingSize(), -1);
+                    specialistSearchIndex.updateRating(rating.getSpecialist().getId(), aggregate.getAverageRating());
+                    ratingAggregateRepository.save(aggregate);
+                });
+    }
+
+    /**
+     * Builds the aggregates of specialists that were rated before the aggregate table existed.
+     * Runs once on startup; specialists that already have an aggregate are skipped.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingAggregates() {
+        List<Object[]> rows = ratingAggregateRepository.countRatingsWithoutAggregate();
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Map<Long, RatingAggregate> aggregates = new HashMap<>();
+        for (Object[] row : rows) {
+            Long specialistId = (Long) row[0];
+            int ratingSize = (Integer) row[1];
+            long count = (Long) row[2];
+
+            RatingAggregate aggregate = aggregates.computeIfAbsent(specialistId, id -> RatingAggregate.builder()
+                    .specialist(specialistRepository.getReferenceById(id))
+                    .build());
+            applyRating(aggregate, ratingSize, count);
+        }
+
+        ratingAggregateRepository.saveAll(aggregates.values());
+        dcLogger.info("Backfilled rating aggregates for {} specialists", aggregates.size());
+    }
+
+    /**
+     * Applies {@code delta} ratings of the given size to the aggregate.
+     * A negative delta removes ratings. A counter that would go below zero means the aggregate
+     * has drifted from the {@code RATING} table; that is logged and the counter is kept at zero.
+     */
+    private void applyRating(RatingAggregate aggregate, int ratingSize, long delta) {
+        long count = counter(aggregate, "rating count", aggregate.getRatingCount() + delta);
+        long sum = count == 0 ? 0 : counter(aggregate, "rating sum", aggregate.getRatingSum() + delta * ratingSize);
+
+        aggregate.setRatingCount(count);
+        aggregate.setRatingSum(sum);
+        aggregate.setAverageRating(count == 0 ? 0.0 : (double) sum / count);
+
+        switch (ratingSize) {
+            case 1 -> aggregate.setOneStarCount(counter(aggregate, "one star count", aggregate.getOneStarCount() + delta));
+            case 2 -> aggregate.setTwoStarCount(counter(aggregate, "two star count", aggregate.getTwoStarCount() + delta));
+            case 3 -> aggregate.setThreeStarCount(counter(aggregate, "three star count", aggregate.getThreeStarCount() + delta));
+            case 4 -> aggregate.setFourStarCount(counter(aggregate, "four star count", aggregate.getFourStarCount() + delta));
+            case 5 -> aggregate.setFiveStarCount(counter(aggregate, "five star count", aggregate.getFiveStarCount() + delta));
+            default -> { /* sizes outside 1-5 count towards the average only */ }
+        }
+    }
+
+    private long counter(RatingAggregate aggregate, String name, long value) {
+        if (value < 0) {
+            dcLogger.warn("Rating aggregate of specialist {} has drifted: {} would be {}, keeping it at zero",
+                    aggregate.getSpecialist().getId(), name, value);
+            return 0;
+        }
+        return value;
+    }
+}
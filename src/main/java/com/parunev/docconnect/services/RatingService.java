@@ -3,27 +3,33 @@ package com.parunev.docconnect.services;
 import com.parunev.docconnect.models.Rating;
 import com.parunev.docconnect.models.User;
 import com.parunev.docconnect.models.payloads.rating.RatingRequest;
+import com.parunev.docconnect.models.payloads.pagination.CursorPageResponse;
 import com.parunev.docconnect.models.payloads.rating.RatingResponse;
 import com.parunev.docconnect.models.specialist.Specialist;
 import com.parunev.docconnect.repositories.RatingRepository;
 import com.parunev.docconnect.repositories.SpecialistRepository;
 import com.parunev.docconnect.repositories.UserRepository;
+import com.parunev.docconnect.security.exceptions.InvalidCursorException;
 import com.parunev.docconnect.security.exceptions.RatingNotFoundException;
 import com.parunev.docconnect.security.exceptions.SpecialistNotFoundException;
 import com.parunev.docconnect.security.exceptions.UserNotFoundException;
 import com.parunev.docconnect.security.payload.ApiError;
 import com.parunev.docconnect.security.payload.AuthenticationError;
 import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.pagination.Cursors;
 import com.parunev.docconnect.utils.validators.AuthHelpers;
+import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static com.parunev.docconnect.security.SecurityUtils.getCurrentUserDetails;
 
@@ -36,8 +42,10 @@ public class RatingService {
     private final UserRepository userRepository;
     private final SpecialistRepository specialistRepository;
     private final AuthHelpers authHelpers;
+    private final RatingAggregateService ratingAggregateService;
     private final DCLogger dcLogger = new DCLogger(RatingService.class);
 
+    @Transactional
     public RatingResponse createRating(@Valid RatingRequest request, Long specialistId){
         User user = userRepository.findByEmail(getCurrentUserDetails().getUsername())
                 .orElseThrow(() -> {
@@ -63,12 +71,13 @@ public class RatingService {
 
         dcLogger.info("Creating a new rating for user {} on specialist with ID: {}", user.getId(), specialistId);
 
-        ratingRepository.save(Rating.builder()
+        Rating rating = ratingRepository.save(Rating.builder()
                 .user(user)
                 .specialist(specialist)
                 .ratingSize(request.getRating())
                 .comment(request.getComment())
                 .build());
+        ratingAggregateService.recordRating(rating);
 
         return RatingResponse.builder()
                 .path(authHelpers.getRequest().getRequestURI())
@@ -80,9 +89,10 @@ public class RatingService {
                 .build();
     }
 
+    @Transactional
     public RatingResponse deleteRating(Long ratingId){
         dcLogger.info("Deleting rating with ID: {}", ratingId);
-        ratingRepository.delete(ratingRepository.findById(ratingId)
+        Rating rating = ratingRepository.findById(ratingId)
                 .orElseThrow(() -> {
                     dcLogger.warn("Rating not found");
                     return new RatingNotFoundException(ApiError.builder()
@@ -91,7 +101,10 @@ public class RatingService {
                             .timestamp(LocalDateTime.now())
                             .status(HttpStatus.NOT_FOUND)
                             .build());
-                }));
+                });
+
+        ratingAggregateService.removeRating(rating);
+        ratingRepository.delete(rating);
 
         return RatingResponse.builder()
                 .path(authHelpers.getRequest().getRequestURI())
@@ -109,6 +122,28 @@ public class RatingService {
         return ratingsPage.map(RatingService::mapEntityToDto);
     }
 
+    /**
+     * Retrieves the ratings of a specialist, newest first, using keyset pagination. No total count is computed,
+     * so every page has the same cost regardless of its depth.
+     *
+     * @param specialistId The ID of the specialist.
+     * @param cursor       The continuation token of the previous page, or a blank value for the first page.
+     * @param size         The page size, clamped to {@value Cursors#MAX_SIZE}.
+     * @return A page of ratings with the cursor of the next page.
+     * @throws InvalidCursorException If the cursor is not valid.
+     */
+    public CursorPageResponse<RatingResponse> getAllRatingsForSpecialistByCursor(Long specialistId, String cursor, int size) {
+        dcLogger.info("Retrieving ratings for specialist with ID: {} by cursor", specialistId);
+
+        Long beforeId = Cursors.decode(cursor, authHelpers.getRequest().getRequestURI());
+        int pageSize = Cursors.size(size);
+
+        List<Rating> ratings = ratingRepository.findAllBySpecialistIdBefore(specialistId, beforeId,
+                PageRequest.of(0, pageSize + 1));
+
+        return Cursors.page(ratings, pageSize, Rating::getId, RatingService::mapEntityToDto);
+    }
+
     private static RatingResponse mapEntityToDto(Rating rating) {
         return RatingResponse.builder()
                 .message(rating.getUser().getName())
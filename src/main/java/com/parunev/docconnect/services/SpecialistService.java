@@ -1,21 +1,28 @@
 package com.parunev.docconnect.services;
 
 import com.parunev.docconnect.models.PasswordToken;
-import com.parunev.docconnect.models.Rating;
 import com.parunev.docconnect.models.enums.Role;
 import com.parunev.docconnect.models.payloads.city.CityResponse;
 import com.parunev.docconnect.models.payloads.country.CountryResponse;
+import com.parunev.docconnect.models.payloads.pagination.CursorPageResponse;
 import com.parunev.docconnect.models.payloads.specialist.SpecialistAddressResponse;
+import com.parunev.docconnect.models.payloads.specialist.SpecialistAvailabilityResponse;
+import com.parunev.docconnect.models.payloads.specialist.SpecialistAvailableDay;
 import com.parunev.docconnect.models.payloads.specialist.SpecialistRegistrationRequest;
 import com.parunev.docconnect.models.payloads.specialist.SpecialistResponse;
 import com.parunev.docconnect.models.payloads.specialty.SpecialtyResponse;
 import com.parunev.docconnect.models.payloads.user.login.*;
 import com.parunev.docconnect.models.payloads.user.registration.RegistrationResponse;
+import com.parunev.docconnect.models.projections.SpecialistSummary;
 import com.parunev.docconnect.models.specialist.Specialist;
+import com.parunev.docconnect.models.RatingAggregate;
 import com.parunev.docconnect.repositories.PasswordTokenRepository;
+import com.parunev.docconnect.repositories.RatingAggregateRepository;
 import com.parunev.docconnect.repositories.RatingRepository;
+import com.parunev.docconnect.repositories.SpecialistAddressRepository;
 import com.parunev.docconnect.repositories.SpecialistRepository;
 import com.parunev.docconnect.security.exceptions.AlreadyEnabledException;
+import com.parunev.docconnect.security.exceptions.InvalidCursorException;
 import com.parunev.docconnect.security.exceptions.InvalidLoginException;
 import com.parunev.docconnect.security.exceptions.SpecialistNotFoundException;
 import com.parunev.docconnect.security.jwt.JwtService;
@@ -24,12 +31,21 @@ import com.parunev.docconnect.security.mfa.Google2FAuthentication;
 import com.parunev.docconnect.security.payload.AuthenticationError;
 import com.parunev.docconnect.utils.DCLogger;
 import com.parunev.docconnect.utils.email.EmailSender;
+import com.parunev.docconnect.utils.pagination.Cursors;
+import com.parunev.docconnect.utils.search.SpecialistSearchIndex;
+import com.parunev.docconnect.utils.slots.SpecialistSlotEngine;
 import com.parunev.docconnect.utils.validators.AuthHelpers;
+import com.parunev.docconnect.utils.mappers.CityMapper;
+import com.parunev.docconnect.utils.mappers.CountryMapper;
+import com.parunev.docconnect.utils.mappers.SpecialistAddressMapper;
+import com.parunev.docconnect.utils.mappers.SpecialtyMapper;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -40,7 +56,11 @@ import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.parunev.docconnect.services.AuthService.CONFIRMATION_LINK;
 import static com.parunev.docconnect.utils.email.Patterns.buildConfirmationEmail;
@@ -52,8 +72,10 @@ import static com.parunev.docconnect.utils.email.Patterns.buildRegistrationSucce
 public class SpecialistService {
 
     private final SpecialistRepository specialistRepository;
+    private final SpecialistAddressRepository specialistAddressRepository;
     private final PasswordTokenRepository passwordTokenRepository;
     private final RatingRepository ratingRepository;
+    private final RatingAggregateRepository ratingAggregateRepository;
     private final AuthHelpers authHelpers;
     private final PasswordEncoder passwordEncoder;
     private final EmailSender emailSender;
@@ -62,7 +84,8 @@ public class SpecialistService {
     private final Google2FAuthentication google2FAuthentication;
     private final Email2FAuthentication email2FAuthentication;
     private final JwtService jwtService;
-    private final ModelMapper modelMapper;
+    private final SpecialistSearchIndex specialistSearchIndex;
+    private final SpecialistSlotEngine slotEngine;
 
     /**
      * Registers a new specialist.
@@ -71,13 +94,14 @@ public class SpecialistService {
      * @return A response indicating the registration status.
      */
     public RegistrationResponse registerSpecialist(@Valid SpecialistRegistrationRequest request) {
-        dcLogger.info("Registering specialist with email: " + request.getEmail());
+        dcLogger.info("Registering specialist with email: {}", request.getEmail());
 
         Specialist specialist = buildSpecialistDto(request);
         specialistRepository.save(specialist);
-        dcLogger.info("Specialist with email: " + request.getEmail() + " was successfully registered");
+        indexSpecialist(specialist, 0.0);
+        dcLogger.info("Specialist with email: {} was successfully registered", request.getEmail());
 
-        dcLogger.info("Specialist with email: " + request.getEmail() + " is created. Awaits admin confirmation");
+        dcLogger.info("Specialist with email: {} is created. Awaits admin confirmation", request.getEmail());
         return authHelpers.createRegistrationResponse("Specialist account is created. Awaits admin confirmation",
                 specialist.getEmail(),
                 HttpStatus.CREATED);
@@ -118,7 +142,7 @@ public class SpecialistService {
      * @return A response containing login information and JWT tokens.
      */
     public LoginResponse specialistLogin(@Valid LoginRequest request){
-        dcLogger.info("Specialist with email: " + request.getEmailAddress() + " is trying to login");
+        dcLogger.info("Specialist with email: {} is trying to login", request.getEmailAddress());
 
         Specialist specialist = authHelpers.returnSpecialistIfPresent(request.getEmailAddress());
         authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(request.getEmailAddress(), request.getPassword()));
@@ -131,7 +155,7 @@ public class SpecialistService {
             }
 
             // Generate a response indicating MFA is enabled and send QR code for setup
-            dcLogger.info("Specialist with email: " + request.getEmailAddress() + " has MFA enabled. Sending QR code to email");
+            dcLogger.info("Specialist with email: {} has MFA enabled. Sending QR code to email", request.getEmailAddress());
             return authHelpers.createLoginResponse(specialist,
                     "Specialist provided correct credentials. Please enter the code from the QR code.",
                     null,
@@ -140,11 +164,10 @@ public class SpecialistService {
                     ,true);
         }
 
-        dcLogger.info("Specialist with email: " + request.getEmailAddress() + " has MFA disabled. Generating JWT tokens");
+        dcLogger.info("Specialist with email: {} has MFA disabled. Generating JWT tokens", request.getEmailAddress());
+        authHelpers.revokeUserTokens(specialist);
         String accessToken = jwtService.generateToken(specialist);
         String refreshToken = jwtService.generateRefreshToken(specialist);
-        authHelpers.revokeUserTokens(specialist);
-        authHelpers.saveJwtTokenToRepository(specialist, accessToken);
 
         return authHelpers.createLoginResponse(specialist,
                 "Specialist provided correct credentials. Logged in successfully.",
@@ -185,6 +208,10 @@ public class SpecialistService {
         }
 
         specialistRepository.enableSpecialist(specialist.getEmail());
+        if (specialistSearchIndex.isEnabled()) {
+            Double averageRating = ratingRepository.getAverageRatingBySpecialistId(specialist.getId());
+            indexSpecialist(specialist, averageRating == null ? 0.0 : averageRating);
+        }
 
         emailSender.send(specialist.getEmail(), buildRegistrationSuccessEmail(specialist.getFirstName() + " " + specialist.getLastName()),
                 "DocConnect: Your DocConnect account was confirmed");
@@ -223,10 +250,9 @@ public class SpecialistService {
         }
 
         dcLogger.info("Generating access/refresh token for specialist: {}", specialist.getEmail());
+        authHelpers.revokeUserTokens(specialist);
         String accessToken = jwtService.generateToken(specialist);
         String refreshToken = jwtService.generateRefreshToken(specialist);
-        authHelpers.revokeUserTokens(specialist);
-        authHelpers.saveJwtTokenToRepository(specialist, accessToken);
 
         return authHelpers.createLoginResponse(
                 specialist,
@@ -327,14 +353,45 @@ public class SpecialistService {
                             .build());
                 });
 
-        List<Rating> specialistRatings = ratingRepository.findAllBySpecialistId(specialist.getId());
+        Double averageRating = ratingRepository.getAverageRatingBySpecialistId(specialist.getId());
+        if (averageRating == null) averageRating = 0.0;
 
-        dcLogger.debug("Returned specialist with ID {}: {}", specialistId, specialist.getFirstName() + " " + specialist.getLastName());
-        Double averageRating = specialistRatings.stream().mapToDouble(Rating::getRatingSize).average().orElse(0.0);
+        dcLogger.debug("Returned specialist with ID {}: {} {}", specialistId, specialist.getFirstName(), specialist.getLastName());
 
         return buildSpecialResponse(specialist, averageRating);
     }
 
+    /**
+     * Returns the free appointment slots of a specialist for every working day in the booking window.
+     *
+     * @param specialistId The unique identifier of the specialist.
+     * @return A {@link SpecialistAvailabilityResponse} listing the free slots per day.
+     * @throws SpecialistNotFoundException If the specialist with the provided ID is not found.
+     */
+    public SpecialistAvailabilityResponse getSpecialistAvailability(Long specialistId) {
+        dcLogger.info("Returning availability for specialist with ID: {}", specialistId);
+
+        if (!specialistRepository.existsById(specialistId)) {
+            dcLogger.warn("Specialist not found for ID: {}", specialistId);
+            throw new SpecialistNotFoundException(AuthenticationError.builder()
+                    .path(authHelpers.getRequest().getRequestURI())
+                    .error("Specialist not found.")
+                    .timestamp(LocalDateTime.now())
+                    .status(HttpStatus.NOT_FOUND)
+                    .build());
+        }
+
+        return SpecialistAvailabilityResponse.builder()
+                .specialistId(specialistId)
+                .days(slotEngine.freeSlots(specialistId).entrySet().stream()
+                        .map(day -> SpecialistAvailableDay.builder()
+                                .date(day.getKey())
+                                .freeSlots(day.getValue())
+                                .build())
+                        .toList())
+                .build();
+    }
+
     /**
      * Searches for specialists based on specified filters, and returns a pageable list of SpecialistResponse objects.
      *
@@ -345,18 +402,19 @@ public class SpecialistService {
      * @return A pageable list of {@link SpecialistResponse} objects matching the search criteria.
      */
     public Page<SpecialistResponse> searchDoctorsPageable(Long cityId, String name, Long specialtyId, Pageable pageable) {
-        try {
-            Page<Object[]> specialistsPage = specialistRepository.searchDoctorsPageable(name, specialtyId, cityId, pageable);
+        if (name != null) name = name.toLowerCase(Locale.ROOT);
+
+        if (specialistSearchIndex.isReady() && pageable.getSort().isUnsorted()) {
+            dcLogger.debug("Serving specialist search from the in-memory index");
+            return specialistSearchIndex.search(name, cityId, specialtyId, pageable);
+        }
 
-            Page<SpecialistResponse> specialistsDtoPage = specialistsPage.map(row -> {
-                Specialist specialist = (Specialist) row[0];
-                Double averageRating = (Double) row[1];
+        try {
+            Page<SpecialistSummary> specialistsPage = specialistRepository.searchDoctorsPageable(name, specialtyId, cityId, pageable);
 
-                SpecialistResponse specialistDto = modelMapper.map(specialist, SpecialistResponse.class);
-                if (averageRating == null) averageRating = 0.0;
-                specialistDto.setRating(averageRating);
-                return buildSpecialResponse(specialist, averageRating);
-            });
+            Map<Long, List<SpecialistAddressResponse>> addresses = findAddresses(specialistsPage.getContent());
+            Page<SpecialistResponse> specialistsDtoPage = specialistsPage
+                    .map(specialist -> buildSpecialResponse(specialist, addresses));
 
             dcLogger.debug("Retrieved {} specialists with filters: cityId={}, name={}, specialtyId={}, pageSize={}, pageNum={}",
                     specialistsDtoPage.getTotalElements(), cityId, name, specialtyId, pageable.getPageSize(), pageable.getPageNumber());
@@ -368,6 +426,63 @@ public class SpecialistService {
         }
     }
 
+    /**
+     * Searches for specialists based on specified filters using keyset pagination. Specialists are returned in ID
+     * order, and no total count is computed, so every page has the same cost regardless of its depth.
+     *
+     * @param cityId      The ID of the city to filter specialists by (can be null for no city filter).
+     * @param name        The name or part of the name of specialists to search for (can be null for no name filter).
+     * @param specialtyId The ID of the specialty to filter specialists by (can be null for no specialty filter).
+     * @param cursor      The continuation token of the previous page, or a blank value for the first page.
+     * @param size        The page size, clamped to {@value Cursors#MAX_SIZE}.
+     * @return A page of {@link SpecialistResponse} objects with the cursor of the next page.
+     * @throws InvalidCursorException If the cursor is not valid.
+     */
+    public CursorPageResponse<SpecialistResponse> searchDoctorsByCursor(Long cityId, String name, Long specialtyId,
+                                                                        String cursor, int size) {
+        if (name != null) name = name.toLowerCase(Locale.ROOT);
+        Long afterId = Cursors.decode(cursor, authHelpers.getRequest().getRequestURI());
+        int pageSize = Cursors.size(size);
+
+        if (specialistSearchIndex.isReady()) {
+            dcLogger.debug("Serving specialist cursor search from the in-memory index");
+            return Cursors.page(specialistSearchIndex.searchAfter(name, cityId, specialtyId, afterId, pageSize + 1),
+                    pageSize, SpecialistResponse::getId, Function.identity());
+        }
+
+        List<SpecialistSummary> rows = specialistRepository.searchDoctorsAfter(name, specialtyId, cityId, afterId,
+                PageRequest.of(0, pageSize + 1));
+
+        dcLogger.debug("Retrieved {} specialists after id {} with filters: cityId={}, name={}, specialtyId={}",
+                rows.size(), afterId, cityId, name, specialtyId);
+        Map<Long, List<SpecialistAddressResponse>> addresses = findAddresses(rows.subList(0, Math.min(rows.size(), pageSize)));
+        return Cursors.page(rows, pageSize, SpecialistSummary::id, specialist -> buildSpecialResponse(specialist, addresses));
+    }
+
+    /**
+     * Builds the in-memory specialist search index from the database on startup, if the index is enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSearchIndex() {
+        if (!specialistSearchIndex.isEnabled()) {
+            return;
+        }
+
+        Map<Long, Double> averageRatings = ratingAggregateRepository.findAll().stream()
+                .collect(Collectors.toMap(aggregate -> aggregate.getSpecialist().getId(), RatingAggregate::getAverageRating));
+
+        specialistSearchIndex.rebuild(specialistRepository.findAll().stream()
+                .map(specialist -> SpecialistSearchIndex.Entry.of(specialist,
+                        buildSpecialResponse(specialist, averageRatings.getOrDefault(specialist.getId(), 0.0))))
+                .toList());
+    }
+
+    private void indexSpecialist(Specialist specialist, double averageRating) {
+        if (specialistSearchIndex.isEnabled()) {
+            specialistSearchIndex.index(SpecialistSearchIndex.Entry.of(specialist, buildSpecialResponse(specialist, averageRating)));
+        }
+    }
+
     private SpecialistResponse buildSpecialResponse(Specialist specialist, Double averageRating){
         return SpecialistResponse.builder()
                 .id(specialist.getId())
@@ -377,14 +492,53 @@ public class SpecialistService {
                 .email(specialist.getEmail())
                 .summary(specialist.getSummary())
                 .experienceYears(specialist.getExperienceYears())
-                .city(modelMapper.map(specialist.getCity(), CityResponse.class))
-                .country(modelMapper.map(specialist.getCountry(), CountryResponse.class))
-                .specialty(modelMapper.map(specialist.getSpecialty(), SpecialtyResponse.class))
+                .city(CityMapper.toResponse(specialist.getCity()))
+                .country(CountryMapper.toResponse(specialist.getCountry()))
+                .specialty(SpecialtyMapper.toResponse(specialist.getSpecialty()))
                 .imageUrl(specialist.getImageUrl())
-                .addresses(specialist.getAddresses().stream()
-                        .map(address -> modelMapper.map(address, SpecialistAddressResponse.class))
-                        .toList())
+                .addresses(SpecialistAddressMapper.toResponses(specialist.getAddresses()))
                 .rating(averageRating)
                 .build();
     }
+
+    /**
+     * Reads the addresses of the given specialists with a single query.
+     */
+    private Map<Long, List<SpecialistAddressResponse>> findAddresses(List<SpecialistSummary> specialists) {
+        if (specialists.isEmpty()) {
+            return Map.of();
+        }
+
+        return SpecialistAddressMapper.groupBySpecialist(specialistAddressRepository
+                .findAllBySpecialistIds(specialists.stream().map(SpecialistSummary::id).toList()));
+    }
+
+    private SpecialistResponse buildSpecialResponse(SpecialistSummary specialist, Map<Long, List<SpecialistAddressResponse>> addresses) {
+        CityResponse city = new CityResponse();
+        city.setCityName(specialist.cityName());
+        city.setCountryName(specialist.cityCountryName());
+
+        CountryResponse country = new CountryResponse();
+        country.setCountryName(specialist.countryName());
+
+        SpecialtyResponse specialty = new SpecialtyResponse();
+        specialty.setSpecialtyName(specialist.specialtyName());
+        specialty.setImageUrl(specialist.specialtyImageUrl());
+
+        return SpecialistResponse.builder()
+                .id(specialist.id())
+                .firstName(specialist.firstName())
+                .lastName(specialist.lastName())
+                .phoneNumber(specialist.phoneNumber())
+                .email(specialist.email())
+                .summary(specialist.summary())
+                .experienceYears(specialist.experienceYears())
+                .city(city)
+                .country(country)
+                .specialty(specialty)
+                .imageUrl(specialist.imageUrl())
+                .addresses(addresses.getOrDefault(specialist.id(), List.of()))
+                .rating(specialist.averageRating() == null ? 0.0 : specialist.averageRating())
+                .build();
+    }
 }
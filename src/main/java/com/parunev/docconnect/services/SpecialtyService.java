@@ -6,10 +6,12 @@ import com.parunev.docconnect.models.payloads.specialty.SpecialtyResponse;
 import com.parunev.docconnect.repositories.SpecialtyRepository;
 import com.parunev.docconnect.security.exceptions.SpecialtyServiceException;
 import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.cache.ReferenceDataCache;
+import com.parunev.docconnect.utils.cache.ReferenceDataCache.CachedResponse;
+import com.parunev.docconnect.utils.mappers.SpecialtyMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -30,8 +32,8 @@ public class SpecialtyService {
 
     private final SpecialtyRepository specialtyRepository;
     private final HttpServletRequest httpServletRequest;
+    private final ReferenceDataCache referenceDataCache;
     private final DCLogger dcLogger = new DCLogger(SpecialtyService.class);
-    private final ModelMapper modelMapper;
 
     /**
      * Adds a new medical specialty based on the provided `SpecialtyRequest`.
@@ -61,6 +63,7 @@ public class SpecialtyService {
                 .specialtyName(request.getSpecialtyName())
                 .imageUrl(request.getImageUrl())
                 .build());
+        referenceDataCache.invalidateSpecialties();
 
         dcLogger.info("Specialty with name {} was added", request.getSpecialtyName());
 
@@ -88,6 +91,7 @@ public class SpecialtyService {
         specialty.setImageUrl(request.getImageUrl());
 
         specialtyRepository.save(specialty);
+        referenceDataCache.invalidateSpecialties();
 
         dcLogger.info("Specialty with name {} was updated", request.getSpecialtyName());
 
@@ -111,6 +115,7 @@ public class SpecialtyService {
         Specialty specialty = findSpecialtyById(id);
 
         specialtyRepository.delete(specialty);
+        referenceDataCache.invalidateSpecialties();
 
         dcLogger.info("Specialty with id {} was deleted", id);
 
@@ -133,20 +138,31 @@ public class SpecialtyService {
      */
     public SpecialtyResponse getSpecialtyById(Long id){
         dcLogger.info("Specialty with id {} was retrieved", id);
-        return modelMapper.map(findSpecialtyById(id), SpecialtyResponse.class);
+        return SpecialtyMapper.toResponse(findSpecialtyById(id));
     }
 
     /**
-     * Retrieves a pageable list of medical specialties.
+     * Retrieves a pageable list of medical specialties, served from the reference data cache.
      *
      * @param pageable The `Pageable` object for pagination.
      * @return A `Page` of `SpecialtyResponse` objects representing the retrieved specialties.
      * @throws SpecialtyServiceException if no specialties are found.
      */
     public Page<SpecialtyResponse> getAllSpecialtiesPageable(Pageable pageable){
-        Page<Specialty> specialtiesPage = specialtyRepository.findAll(pageable);
+        return getAllSpecialtiesPageableCached(pageable).body();
+    }
+
+    /**
+     * Retrieves a pageable list of medical specialties together with its ETag, served from the reference data cache.
+     *
+     * @param pageable The `Pageable` object for pagination.
+     * @return The cached `Page` of `SpecialtyResponse` objects.
+     * @throws SpecialtyServiceException if no specialties are found.
+     */
+    public CachedResponse<Page<SpecialtyResponse>> getAllSpecialtiesPageableCached(Pageable pageable){
+        CachedResponse<Page<SpecialtyResponse>> specialtiesPage = referenceDataCache.specialties(pageable);
 
-        if (specialtiesPage.isEmpty()) {
+        if (specialtiesPage.body().isEmpty()) {
             dcLogger.warn("No specialties found");
             throw new SpecialtyServiceException(SpecialtyResponse.builder()
                     .path(httpServletRequest.getRequestURI())
@@ -156,8 +172,8 @@ public class SpecialtyService {
                     .build());
         }
 
-        dcLogger.info("Retrieved {} specialties", specialtiesPage.getTotalElements());
-        return specialtiesPage.map(entity -> modelMapper.map(entity, SpecialtyResponse.class));
+        dcLogger.info("Retrieved {} specialties", specialtiesPage.body().getTotalElements());
+        return specialtiesPage;
     }
 
     private Specialty findSpecialtyById(Long id) {
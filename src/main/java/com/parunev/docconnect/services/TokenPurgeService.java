@@ -0,0 +1,92 @@
+package com.parunev.docconnect.services;
+
+import com.parunev.docconnect.config.TokenPurgeConfig;
+import com.parunev.docconnect.repositories.ConfirmationTokenRepository;
+import com.parunev.docconnect.repositories.PasswordTokenRepository;
+import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.DCMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Deletes expired email confirmation and password reset tokens, which are otherwise kept forever.
+ * <p>
+ * Each run deletes the tokens that expired more than the configured retention ago. Rows are deleted in small batches
+ * by ID, each batch in its own short transaction, with a pause in between, so the purge can run next to regular
+ * traffic. The run stops after a maximum number of batches per table and the next run continues where it left off.
+ *
+ * @see TokenPurgeConfig
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenPurgeService {
+
+    private final ConfirmationTokenRepository confirmationTokenRepository;
+    private final PasswordTokenRepository passwordTokenRepository;
+    private final TokenPurgeConfig tokenPurgeConfig;
+    private final DCMetrics dcMetrics;
+    private final DCLogger dcLogger = new DCLogger(TokenPurgeService.class);
+
+    /**
+     * Deletes the tokens that expired before the retention period.
+     *
+     * @return The number of deleted tokens.
+     */
+    @Scheduled(fixedDelayString = "${docconnect.tokens.purge.interval-ms:3600000}",
+            initialDelayString = "${docconnect.tokens.purge.interval-ms:3600000}")
+    public synchronized int purgeExpiredTokens() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(tokenPurgeConfig.getRetention());
+
+        int purged = purge("CONFIRMATION_TOKENS", confirmationTokenRepository,
+                confirmationTokenRepository::findIdsExpiredBefore, cutoff)
+                + purge("PASSWORD_RESET_TOKENS", passwordTokenRepository,
+                passwordTokenRepository::findIdsExpiredBefore, cutoff);
+
+        if (purged > 0) {
+            dcLogger.info("Purged {} tokens that expired before {}", purged, cutoff);
+        }
+        return purged;
+    }
+
+    private int purge(String table, JpaRepository<?, Long> repository,
+                      BiFunction<LocalDateTime, Pageable, List<Long>> expiredIds, LocalDateTime cutoff) {
+        int batchSize = tokenPurgeConfig.getBatchSize();
+        int purged = 0;
+
+        for (int batch = 0; batch < tokenPurgeConfig.getMaxBatches(); batch++) {
+            List<Long> ids = expiredIds.apply(cutoff, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            repository.deleteAllByIdInBatch(ids);
+            purged += ids.size();
+
+            if (ids.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        dcMetrics.record(DCMetrics.TOKEN_PURGE, purged, "table", table);
+        return purged;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(tokenPurgeConfig.getPauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dcLogger.warn("Token purge interrupted");
+            return false;
+        }
+    }
+}
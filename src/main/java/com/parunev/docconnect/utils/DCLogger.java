@@ -4,6 +4,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.Data;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.Arrays;
 
 /**
  * The `DCLogger` class is a utility for logging messages with additional context,
@@ -12,24 +15,26 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Key Features:
  * - Supports standard logging levels: debug, info, warn, error.
- * - Appends correlation ID and client IP address to log messages for added context.
- * - Provides a thread-local mechanism to store and retrieve correlation ID and
- *   HTTP servlet request for each thread.
+ * - Puts the correlation ID and client IP address in the SLF4J {@link MDC} once per request, under
+ *   {@value #CORRELATION_ID} and {@value #CLIENT_IP}. The log pattern (or the JSON encoder of the {@code json}
+ *   profile) renders them, so a log call does not build any string of its own.
+ * - Passes the message and its arguments to SLF4J unformatted. Fixed-arity overloads for up to two arguments
+ *   avoid the varargs array, so a call for a disabled level allocates nothing.
  * <p>
  * Usage:
  * 1. Create an instance of `DCLogger` for a specific class:
  *    ```java
  *    DCLogger logger = new DCLogger(MyClass.class);
  *    ```
- * 2. Set the logger properties (correlation ID and HTTP servlet request) using
- *    the `setDCLoggerProperties` method before logging messages:
+ * 2. Bind the logging context (correlation ID and HTTP servlet request) to the current thread
+ *    using the `setDCLoggerProperties` method, and clear it with `null` values when the request is done:
  *    ```java
  *    DCLogger.setDCLoggerProperties(correlationId, request);
  *    ```
- * 3. Use the provided logging methods to log messages with context:
+ * 3. Use the provided logging methods with {@code {}} placeholders instead of string concatenation:
  *    ```java
  *    logger.debug("Debug message");
- *    logger.info("Info message");
+ *    logger.info("User logged in: {}", username);
  *    logger.warn("Warning message");
  *    logger.error("Error message", exception);
  *    ```
@@ -46,6 +51,7 @@ import org.slf4j.LoggerFactory;
  * ```
  *
  * @see org.slf4j.Logger
+ * @see org.slf4j.MDC
  * @see jakarta.servlet.http.HttpServletRequest
  * @see org.slf4j.LoggerFactory
  */
@@ -53,19 +59,19 @@ import org.slf4j.LoggerFactory;
 public class DCLogger {
 
     /**
-     * The logger instance associated with the specified class.
+     * The MDC key of the correlation ID.
      */
-    private final Logger logger;
+    public static final String CORRELATION_ID = "correlationId";
 
     /**
-     * Thread-local storage for correlation ID.
+     * The MDC key of the client IP address.
      */
-    private static ThreadLocal<String> correlationIdTL = new ThreadLocal<>();
+    public static final String CLIENT_IP = "clientIp";
 
     /**
-     * Thread-local storage for HTTP servlet request.
+     * The logger instance associated with the specified class.
      */
-    private static ThreadLocal<HttpServletRequest> requestTL = new ThreadLocal<>();
+    private final Logger logger;
 
     /**
      * Constructs a `DCLogger` instance for the specified class.
@@ -77,106 +83,188 @@ public class DCLogger {
     }
 
     /**
-     * Sets the correlation ID and HTTP servlet request properties in the
-     * thread-local storage for logging context.
+     * Binds the correlation ID and the client IP address of the request to the
+     * current thread's MDC. The client IP address is resolved once, here.
+     * Passing {@code null} values clears the context.
      *
      * @param correlationId The correlation ID associated with the log messages.
      * @param request       The HTTP servlet request associated with the log messages.
      */
-    public static void setDCLoggerProperties(String correlationId, HttpServletRequest request){
-        correlationIdTL.set(correlationId);
-        requestTL.set(request);
+    public static void setDCLoggerProperties(String correlationId, HttpServletRequest request) {
+        if (correlationId == null) {
+            MDC.remove(CORRELATION_ID);
+        } else {
+            MDC.put(CORRELATION_ID, correlationId);
+        }
+
+        if (request == null) {
+            MDC.remove(CLIENT_IP);
+        } else {
+            MDC.put(CLIENT_IP, getClientIp(request));
+        }
     }
 
     /**
-     * Retrieves the current correlation ID from the thread-local storage.
+     * Retrieves the current correlation ID from the MDC.
      *
-     * @return The current correlation ID or "Unknown" if not set.
+     * @return The current correlation ID or `null` if not set.
      */
     public static String getCorrelationId() {
-        return correlationIdTL.get();
+        return MDC.get(CORRELATION_ID);
     }
 
     /**
-     * Retrieves the current HTTP servlet request from the thread-local storage.
+     * Logs a debug-level message.
      *
-     * @return The current HTTP servlet request or `null` if not set.
+     * @param message The log message.
      */
-    public static HttpServletRequest getRequest() {
-        return requestTL.get();
+    public void debug(String message) {
+        logger.debug(message);
     }
 
     /**
-     * Logs a debug-level message with context.
+     * Logs a debug-level message with one argument.
+     *
+     * @param message The log message.
+     * @param arg     The argument to include in the message.
+     */
+    public void debug(String message, Object arg) {
+        logger.debug(message, arg);
+    }
+
+    /**
+     * Logs a debug-level message with two arguments.
+     *
+     * @param message The log message.
+     * @param arg1    The first argument to include in the message.
+     * @param arg2    The second argument to include in the message.
+     */
+    public void debug(String message, Object arg1, Object arg2) {
+        logger.debug(message, arg1, arg2);
+    }
+
+    /**
+     * Logs a debug-level message.
      *
      * @param message The log message.
      * @param args    The arguments to include in the message.
      */
     public void debug(String message, Object... args) {
-        if (logger.isDebugEnabled()) {
-            logger.debug(formatMessage(message), args);
-        }
+        logger.debug(message, args);
+    }
+
+    /**
+     * Logs an info-level message.
+     *
+     * @param message The log message.
+     */
+    public void info(String message) {
+        logger.info(message);
+    }
+
+    /**
+     * Logs an info-level message with one argument.
+     *
+     * @param message The log message.
+     * @param arg     The argument to include in the message.
+     */
+    public void info(String message, Object arg) {
+        logger.info(message, arg);
+    }
+
+    /**
+     * Logs an info-level message with two arguments.
+     *
+     * @param message The log message.
+     * @param arg1    The first argument to include in the message.
+     * @param arg2    The second argument to include in the message.
+     */
+    public void info(String message, Object arg1, Object arg2) {
+        logger.info(message, arg1, arg2);
     }
 
     /**
-     * Logs an info-level message with context.
+     * Logs an info-level message.
      *
      * @param message The log message.
      * @param args    The arguments to include in the message.
      */
     public void info(String message, Object... args) {
-        if (logger.isInfoEnabled()) {
-            logger.info(formatMessage(message), args);
-        }
+        logger.info(message, args);
     }
 
     /**
-     * Logs a warn-level message with context.
+     * Logs a warn-level message.
+     *
+     * @param message The log message.
+     */
+    public void warn(String message) {
+        logger.warn(message);
+    }
+
+    /**
+     * Logs a warn-level message with one argument.
+     *
+     * @param message The log message.
+     * @param arg     The argument to include in the message.
+     */
+    public void warn(String message, Object arg) {
+        logger.warn(message, arg);
+    }
+
+    /**
+     * Logs a warn-level message with two arguments.
+     *
+     * @param message The log message.
+     * @param arg1    The first argument to include in the message.
+     * @param arg2    The second argument to include in the message.
+     */
+    public void warn(String message, Object arg1, Object arg2) {
+        logger.warn(message, arg1, arg2);
+    }
+
+    /**
+     * Logs a warn-level message.
      *
      * @param message The log message.
      * @param args    The arguments to include in the message.
      */
     public void warn(String message, Object... args) {
-        if (logger.isWarnEnabled()) {
-            logger.warn(formatMessage(message), args);
-        }
+        logger.warn(message, args);
     }
 
     /**
-     * Logs an error-level message with context.
+     * Logs an error-level message with its exception.
      *
      * @param message   The log message.
      * @param throwable The exception associated with the error.
-     * @param args      The arguments to include in the message.
      */
-    public void error(String message, Throwable throwable, Object... args) {
-        if (logger.isErrorEnabled()) {
-            logger.error(formatMessage(message), args, throwable);
-        }
+    public void error(String message, Throwable throwable) {
+        logger.error(message, throwable);
     }
 
     /**
-     * Formats a log message with context, including the correlation ID and
-     * client IP address.
+     * Logs an error-level message with its exception.
      *
-     * @param message The original log message.
-     * @return The formatted log message.
+     * @param message   The log message.
+     * @param throwable The exception associated with the error.
+     * @param args      The arguments to include in the message.
      */
-    private String formatMessage(String message) {
-        return message + " (Correlation ID: " + getCorrelationId() + ", Client IP: " + getClientIp(getRequest()) + ")";
+    public void error(String message, Throwable throwable, Object... args) {
+        if (logger.isErrorEnabled()) {
+            Object[] withThrowable = Arrays.copyOf(args, args.length + 1);
+            withThrowable[args.length] = throwable;
+            logger.error(message, withThrowable);
+        }
     }
 
     /**
      * Retrieves the client IP address from the HTTP servlet request.
      *
      * @param request The HTTP servlet request.
-     * @return The client IP address or "Unknown" if not available.
+     * @return The client IP address.
      */
-    private String getClientIp(HttpServletRequest request) {
-        if (request == null) {
-            return "Unknown";
-        }
-
+    private static String getClientIp(HttpServletRequest request) {
         String clientIp = request.getHeader("X-Forwarded-For");
         if (clientIp == null || clientIp.isEmpty() || "unknown".equalsIgnoreCase(clientIp)) {
             clientIp = request.getHeader("Proxy-Client-IP");
@@ -0,0 +1,157 @@
+package com.parunev.docconnect.utils;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * The `DCMetrics` class is the single entry point for the application's own Micrometer meters, the way `DCLogger`
+ * is for log lines. It keeps the meter names in one place and registers every timer and distribution summary with a
+ * percentile histogram, so p95 and p99 latencies can be computed on the Prometheus side across instances.
+ * <p>
+ * HTTP latencies per controller method ({@code http.server.requests}) and the HikariCP pool metrics
+ * ({@code hikaricp.connections.*}) are recorded by Spring Boot Actuator itself; their histograms are enabled in
+ * {@code application.properties}. All meters are exposed on {@code /actuator/prometheus}.
+ * <p>
+ * Usage:
+ * ```java
+ * Timer.Sample sample = dcMetrics.start();
+ * ...
+ * dcMetrics.stop(sample, DCMetrics.JWT_AUTHENTICATION, "result", "cache_hit");
+ * <p>
+ * dcMetrics.record(DCMetrics.NOTIFICATION_SCAN_SIZE, sent, "scan", "reminder");
+ * ```
+ *
+ * @see io.micrometer.core.instrument.MeterRegistry
+ */
+@Getter
+@Component
+@RequiredArgsConstructor
+public class DCMetrics {
+
+    /**
+     * Time to authenticate a request carrying a bearer token, tagged with {@code result}:
+     * {@code cache_hit}, {@code cache_miss} or {@code rejected}.
+     */
+    public static final String JWT_AUTHENTICATION = "docconnect.jwt.authentication";
+
+    /**
+     * Access tokens revoked one by one (on logout) that have not expired yet.
+     */
+    public static final String JWT_REVOCATIONS = "docconnect.jwt.revocations";
+
+    /**
+     * Time of a single delivery attempt through the email transport, tagged with {@code outcome}.
+     */
+    public static final String EMAIL_SEND = "docconnect.email.send";
+
+    /**
+     * Time from queueing an email to its successful delivery, retries included.
+     */
+    public static final String EMAIL_DELIVERY = "docconnect.email.delivery";
+
+    /**
+     * Emails waiting in the queue for delivery or for a retry.
+     */
+    public static final String EMAIL_QUEUE_DEPTH = "docconnect.email.queue.depth";
+
+    /**
+     * Emails handled by the queue, tagged with {@code outcome}: {@code sent}, {@code retried},
+     * {@code dead_lettered} or {@code rejected}.
+     */
+    public static final String EMAIL_OUTCOMES = "docconnect.email.outcomes";
+
+    /**
+     * Time to validate a booking request, tagged with {@code outcome}: {@code accepted} or {@code denied}.
+     */
+    public static final String APPOINTMENT_VALIDATION = "docconnect.appointment.validation";
+
+    /**
+     * Number of appointments found by a notification scan, tagged with {@code scan}.
+     */
+    public static final String NOTIFICATION_SCAN_SIZE = "docconnect.notification.scan.size";
+
+    /**
+     * Duration of a notification scan, including queueing its emails, tagged with {@code scan}.
+     */
+    public static final String NOTIFICATION_SCAN = "docconnect.notification.scan";
+
+    /**
+     * Time to hash or verify a password, including the wait for a worker, tagged with {@code operation}:
+     * {@code encode} or {@code matches}, and {@code outcome}: {@code completed}, {@code rejected} or {@code timed_out}.
+     */
+    public static final String PASSWORD_HASHING = "docconnect.password.hashing";
+
+    /**
+     * Number of expired rows deleted by a token purge run, tagged with {@code table}.
+     */
+    public static final String TOKEN_PURGE = "docconnect.tokens.purged";
+
+    /**
+     * Time to validate and insert one chunk of a bulk import, tagged with {@code type}: {@code specialists},
+     * {@code cities} or {@code specialties}, and {@code outcome}: {@code imported} or {@code failed}.
+     */
+    public static final String IMPORT_CHUNK = "docconnect.imports.chunk";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Starts timing an operation.
+     */
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * Stops a sample started with {@link #start()} and records it.
+     *
+     * @param sample The sample.
+     * @param name   The name of the timer.
+     * @param tags   The tags of the timer as key-value pairs.
+     */
+    public void stop(Timer.Sample sample, String name, String... tags) {
+        sample.stop(timer(name, tags));
+    }
+
+    /**
+     * Times an operation.
+     *
+     * @param name   The name of the timer.
+     * @param action The operation.
+     * @param tags   The tags of the timer as key-value pairs.
+     * @return The result of the operation.
+     */
+    public <T> T time(String name, Supplier<T> action, String... tags) {
+        return timer(name, tags).record(action);
+    }
+
+    /**
+     * Records a value, such as the size of a batch, in a distribution summary.
+     *
+     * @param name   The name of the distribution summary.
+     * @param amount The value.
+     * @param tags   The tags of the distribution summary as key-value pairs.
+     */
+    public void record(String name, double amount, String... tags) {
+        DistributionSummary.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(amount);
+    }
+
+    /**
+     * Returns the timer with the given name and tags, registering it on first use.
+     */
+    public Timer timer(String name, String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
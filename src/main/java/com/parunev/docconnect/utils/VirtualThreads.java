@@ -0,0 +1,72 @@
+package com.parunev.docconnect.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Helpers for running work on virtual threads.
+ * <p>
+ * The application is compiled for Java 17, where virtual threads do not exist, so the Java 21 APIs
+ * ({@code Thread.ofVirtual()} and {@code Executors.newThreadPerTaskExecutor}) are looked up at runtime. The same
+ * build therefore runs on both; virtual threads are only used when the application runs on Java 21 or newer and
+ * {@code docconnect.threads.virtual.enabled=true}.
+ *
+ * @see com.parunev.docconnect.config.VirtualThreadsConfig
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreads {
+
+    private static final int MIN_FEATURE_VERSION = 21;
+
+    /**
+     * Returns whether the running JVM supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= MIN_FEATURE_VERSION;
+    }
+
+    /**
+     * Creates a factory of virtual threads named {@code prefix0}, {@code prefix1}, and so on.
+     *
+     * @param prefix The prefix of the thread names.
+     * @return The thread factory.
+     * @throws IllegalStateException if the running JVM does not support virtual threads.
+     */
+    public static ThreadFactory factory(String prefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads require Java %d or newer, running on Java %d"
+                    .formatted(MIN_FEATURE_VERSION, Runtime.version().feature()));
+        }
+
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available on this JVM", e);
+        }
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for every task.
+     *
+     * @param prefix The prefix of the thread names.
+     * @return The executor.
+     * @throws IllegalStateException if the running JVM does not support virtual threads.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        ThreadFactory factory = factory(prefix);
+
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available on this JVM", e);
+        }
+    }
+}
@@ -24,6 +24,9 @@ import java.lang.annotation.Target;
                 content = @Content(mediaType = "application/json",
                         schema = @Schema(implementation = CityResponse.class))
         ),
+        @ApiResponse(responseCode = "304",
+                description = "The list matching the If-None-Match ETag is still current"
+        ),
         @ApiResponse(responseCode = "500"
                 , description = "Internal server error"
                 , content = @Content(mediaType = "application/json"))
@@ -32,6 +32,9 @@ import java.lang.annotation.Target;
                 description = "No cities found for specified country id",
                 content = @Content(mediaType = "application/json")
         ),
+        @ApiResponse(responseCode = "304",
+                description = "The list matching the If-None-Match ETag is still current"
+        ),
         @ApiResponse(responseCode = "500"
                 , description = "Internal server error"
                 , content = @Content(mediaType = "application/json"))
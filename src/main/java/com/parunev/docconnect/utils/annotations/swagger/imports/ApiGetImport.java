@@ -0,0 +1,36 @@
+package com.parunev.docconnect.utils.annotations.swagger.imports;
+
+import com.parunev.docconnect.models.payloads.imports.ImportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(summary = "Get import by id",
+        description = "Get the progress and the skipped rows of an import",
+        tags = {"Import Controller"},
+        operationId = "getImport")
+@ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                description = "Import retrieved successfully",
+                content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = ImportResponse.class))
+        ),
+        @ApiResponse(responseCode = "404",
+                description = "Import with specified id not found",
+                content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(responseCode = "500"
+                , description = "Internal server error"
+                , content = @Content(mediaType = "application/json"))
+})
+public @interface ApiGetImport {
+}
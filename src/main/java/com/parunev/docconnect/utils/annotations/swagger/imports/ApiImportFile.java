@@ -0,0 +1,43 @@
+package com.parunev.docconnect.utils.annotations.swagger.imports;
+
+import com.parunev.docconnect.models.payloads.imports.ImportResponse;
+import com.parunev.docconnect.security.payload.ApiError;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(summary = "Import file",
+        description = "Queue a CSV or JSON file of specialists, cities or specialties for import",
+        tags = {"Import Controller"},
+        operationId = "importFile")
+@ApiResponses(value = {
+        @ApiResponse(responseCode = "202",
+                description = "Import queued successfully",
+                content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = ImportResponse.class))
+        ),
+        @ApiResponse(responseCode = "400",
+                description = "The file is empty or neither CSV nor JSON",
+                content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = ApiError.class))
+        ),
+        @ApiResponse(responseCode = "503",
+                description = "Too many imports are waiting",
+                content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = ApiError.class))
+        ),
+        @ApiResponse(responseCode = "500"
+                , description = "Internal server error"
+                , content = @Content(mediaType = "application/json"))
+})
+public @interface ApiImportFile {
+}
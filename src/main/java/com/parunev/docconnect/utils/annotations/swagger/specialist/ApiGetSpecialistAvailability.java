@@ -0,0 +1,31 @@
+package com.parunev.docconnect.utils.annotations.swagger.specialist;
+
+import com.parunev.docconnect.models.payloads.specialist.SpecialistAvailabilityResponse;
+import com.parunev.docconnect.security.payload.AuthenticationError;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(summary = "Get Specialist Availability",
+        description = "Retrieve the free appointment slots of a specialist for every working day in the booking window.")
+@ApiResponses(value = {
+        @ApiResponse(responseCode = "200"
+                , description = "Specialist availability retrieved successfully."
+                , content = {@Content(mediaType = "application/json"
+                , schema = @Schema(implementation = SpecialistAvailabilityResponse.class))}),
+        @ApiResponse(responseCode = "404"
+                , description = "Specialist with current Id not found."
+                , content = {@Content(mediaType = "application/json",
+                schema = @Schema(implementation = AuthenticationError.class))})
+})
+public @interface ApiGetSpecialistAvailability {
+}
@@ -0,0 +1,33 @@
+package com.parunev.docconnect.utils.annotations.swagger.specialist;
+
+import com.parunev.docconnect.models.payloads.pagination.CursorPageResponse;
+import com.parunev.docconnect.security.payload.ApiError;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(summary = "Get All Specialists By City Id/Name/Specialty Id Using A Cursor",
+        description = "Retrieve a page of specialists by city id, name and specialty id in id order. " +
+                "Selected when the cursor parameter is present; pass an empty cursor for the first page and the " +
+                "returned nextCursor for the following ones. No total count is returned.")
+@ApiResponses(value = {
+        @ApiResponse(responseCode = "200"
+                , description = "Specialists retrieved successfully."
+                , content = {@Content(mediaType = "application/json"
+                , schema = @Schema(implementation = CursorPageResponse.class))}),
+        @ApiResponse(responseCode = "400"
+                , description = "The cursor is invalid."
+                , content = {@Content(mediaType = "application/json",
+                schema = @Schema(implementation = ApiError.class))})
+})
+public @interface ApiSearchSpecialistsByCursor {
+}
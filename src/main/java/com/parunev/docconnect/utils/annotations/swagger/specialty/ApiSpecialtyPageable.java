@@ -19,6 +19,10 @@ import java.lang.annotation.Target;
                         description = "A Page of Specialties is returned",
                         responseCode = "200"
                 ),
+                @ApiResponse(
+                        description = "The page matching the If-None-Match ETag is still current",
+                        responseCode = "304"
+                ),
                 @ApiResponse(
                         description = "Most likely due to an empty Specialty table in the DB",
                         responseCode = "404"
@@ -0,0 +1,254 @@
+package com.parunev.docconnect.utils.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.parunev.docconnect.models.City;
+import com.parunev.docconnect.models.Country;
+import com.parunev.docconnect.models.Specialty;
+import com.parunev.docconnect.models.payloads.city.CityResponse;
+import com.parunev.docconnect.models.payloads.country.CountryResponse;
+import com.parunev.docconnect.models.payloads.specialty.SpecialtyResponse;
+import com.parunev.docconnect.repositories.CityRepository;
+import com.parunev.docconnect.repositories.CountryRepository;
+import com.parunev.docconnect.repositories.SpecialtyRepository;
+import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.mappers.CityMapper;
+import com.parunev.docconnect.utils.mappers.CountryMapper;
+import com.parunev.docconnect.utils.mappers.SpecialtyMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A read-through, in-process cache for the reference data of the application: countries, cities and specialties.
+ * <p>
+ * The data changes a few times a year, so both the IDs known to exist (checked by {@code AuthHelpers} during
+ * registration) and the response lists (served by the reference endpoints) are kept in memory. The entities themselves
+ * are not cached: every lookup hands out a fresh reference from the repository, so no managed entity is ever shared
+ * between threads or persistence contexts. Every cached response
+ * is serialized once when it is loaded into a {@link ResponseSnapshot}, which the endpoints write out as is,
+ * and whose ETag lets clients revalidate without downloading the payload again.
+ * <p>
+ * {@code CountryService}, {@code CityService} and {@code SpecialtyService} invalidate the affected entries
+ * whenever they add, update or delete data. The TTL only bounds the staleness of changes made outside this
+ * instance, e.g. by another node or directly in the database.
+ * <p>
+ * Values are loaded outside the caches and stored only if no invalidation happened while they were being loaded,
+ * which is tracked by a generation counter bumped on every invalidation. Without it, a reader that loaded the old
+ * data just before an admin edit could put it back right after the invalidation, where it would stay for the whole
+ * TTL.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private final CountryRepository countryRepository;
+    private final CityRepository cityRepository;
+    private final SpecialtyRepository specialtyRepository;
+    private final ObjectMapper objectMapper;
+    private final int gzipMinSize;
+    private final DCLogger dcLogger = new DCLogger(ReferenceDataCache.class);
+
+    private final Cache<Long, Boolean> countryIds;
+    private final Cache<Long, Boolean> cityIds;
+    private final Cache<Long, Boolean> specialtyIds;
+    private final Cache<String, CachedResponse<?>> responses;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ReferenceDataCache(CountryRepository countryRepository,
+                              CityRepository cityRepository,
+                              SpecialtyRepository specialtyRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${docconnect.reference-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${docconnect.reference-cache.ttl-minutes:60}") long ttlMinutes,
+                              @Value("${docconnect.reference-cache.gzip-min-size:1024}") int gzipMinSize) {
+        this.countryRepository = countryRepository;
+        this.cityRepository = cityRepository;
+        this.specialtyRepository = specialtyRepository;
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = gzipMinSize;
+        this.countryIds = newCache(maximumSize, ttlMinutes);
+        this.cityIds = newCache(maximumSize, ttlMinutes);
+        this.specialtyIds = newCache(maximumSize, ttlMinutes);
+        this.responses = newCache(maximumSize, ttlMinutes);
+    }
+
+    /**
+     * Returns a reference to the country with the given ID, or empty if there is none. Missing countries are not cached.
+     */
+    public Optional<Country> findCountry(Long id) {
+        return exists(countryIds, id, () -> countryRepository.existsById(id))
+                ? Optional.of(countryRepository.getReferenceById(id))
+                : Optional.empty();
+    }
+
+    /**
+     * Returns a reference to the city with the given ID, or empty if there is none. Missing cities are not cached.
+     */
+    public Optional<City> findCity(Long id) {
+        return exists(cityIds, id, () -> cityRepository.existsById(id))
+                ? Optional.of(cityRepository.getReferenceById(id))
+                : Optional.empty();
+    }
+
+    /**
+     * Returns a reference to the specialty with the given ID, or empty if there is none.
+     * Missing specialties are not cached.
+     */
+    public Optional<Specialty> findSpecialty(Long id) {
+        return exists(specialtyIds, id, () -> specialtyRepository.existsById(id))
+                ? Optional.of(specialtyRepository.getReferenceById(id))
+                : Optional.empty();
+    }
+
+    /**
+     * Returns the responses of all countries.
+     */
+    public CachedResponse<List<CountryResponse>> allCountries() {
+        return response("countries", () ->
+                List.copyOf(CountryMapper.toResponses(countryRepository.findAll())));
+    }
+
+    /**
+     * Returns the responses of all cities.
+     */
+    public CachedResponse<List<CityResponse>> allCities() {
+        return response("cities", () ->
+                List.copyOf(CityMapper.toResponses(cityRepository.findAll())));
+    }
+
+    /**
+     * Returns the responses of all cities in the given country. The list is empty if there are none.
+     */
+    public CachedResponse<List<CityResponse>> citiesByCountry(Long countryId) {
+        return response("cities:country:" + countryId, () ->
+                List.copyOf(CityMapper.toResponses(cityRepository.findAllByCountryId(countryId))));
+    }
+
+    /**
+     * Returns the requested page of specialty responses. Every page, size and sort combination is cached separately.
+     */
+    public CachedResponse<Page<SpecialtyResponse>> specialties(Pageable pageable) {
+        return response("specialties:" + pageKey(pageable), () ->
+                specialtyRepository.findAll(pageable).map(SpecialtyMapper::toResponse));
+    }
+
+    /**
+     * Drops all cached countries. Cities are dropped as well, because their responses contain the country name.
+     */
+    public void invalidateCountries() {
+        generation.incrementAndGet();
+        countryIds.invalidateAll();
+        invalidateResponses("countries");
+        invalidateCities();
+    }
+
+    /**
+     * Drops all cached cities.
+     */
+    public void invalidateCities() {
+        generation.incrementAndGet();
+        cityIds.invalidateAll();
+        invalidateResponses("cities");
+    }
+
+    /**
+     * Drops all cached specialties.
+     */
+    public void invalidateSpecialties() {
+        generation.incrementAndGet();
+        specialtyIds.invalidateAll();
+        invalidateResponses("specialties");
+    }
+
+    private void invalidateResponses(String prefix) {
+        responses.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        dcLogger.debug("Invalidated cached {} responses", prefix);
+    }
+
+    private boolean exists(Cache<Long, Boolean> cache, Long id, Supplier<Boolean> loader) {
+        if (cache.getIfPresent(id) != null) {
+            return true;
+        }
+
+        long loadedAt = generation.get();
+        if (!loader.get()) {
+            return false;
+        }
+        storeIfCurrent(cache, id, Boolean.TRUE, loadedAt);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CachedResponse<T> response(String key, Supplier<T> loader) {
+        CachedResponse<?> cached = responses.getIfPresent(key);
+        if (cached != null) {
+            return (CachedResponse<T>) cached;
+        }
+
+        long loadedAt = generation.get();
+        T body = loader.get();
+        ResponseSnapshot snapshot;
+        try {
+            snapshot = ResponseSnapshot.of(objectMapper.writeValueAsBytes(body), gzipMinSize);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize reference data " + key, e);
+        }
+        dcLogger.debug("Loaded reference data response {} ({} bytes)", key, snapshot.size());
+        return (CachedResponse<T>) storeIfCurrent(responses, key, new CachedResponse<>(body, snapshot), loadedAt);
+    }
+
+    /**
+     * Stores a loaded value unless an invalidation happened since {@code loadedAt}, and returns the value to hand out.
+     * The check runs inside {@code compute}, which holds the entry lock that {@code invalidateAll} also takes, so an
+     * invalidation either sees the stored value and drops it, or has already bumped the generation and the value is
+     * not stored. If another reader stored the entry first, that one is kept and returned.
+     */
+    private <K, V> V storeIfCurrent(Cache<K, V> cache, K key, V value, long loadedAt) {
+        V stored = cache.asMap().compute(key, (k, current) -> {
+            if (current != null) {
+                return current;
+            }
+            return generation.get() == loadedAt ? value : null;
+        });
+        return stored != null ? stored : value;
+    }
+
+    private static String pageKey(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return "unpaged:" + pageable.getSort();
+        }
+        return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize, long ttlMinutes) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * A cached response body together with its pre-encoded snapshot.
+     *
+     * @param body     The response body, for callers that work with the objects.
+     * @param snapshot The serialized body, for the endpoints.
+     */
+    public record CachedResponse<T>(T body, ResponseSnapshot snapshot) {
+
+        /**
+         * Returns the quoted ETag of the uncompressed snapshot.
+         */
+        public String etag() {
+            return snapshot.etag();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.parunev.docconnect.utils.cache;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An immutable, pre-encoded JSON response: the serialized bytes, an optional gzip-compressed copy and the ETag
+ * of each representation.
+ * <p>
+ * Snapshots are built once when {@link ReferenceDataCache} loads a response and are replaced as a whole when the
+ * data changes, so a request always sees either the old or the new snapshot. The bytes are written to the servlet
+ * output stream as they are, without running Jackson again.
+ */
+public final class ResponseSnapshot {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipEtag;
+
+    private ResponseSnapshot(byte[] json, byte[] gzip) {
+        this.json = json;
+        this.gzip = gzip;
+        String hash = DigestUtils.md5DigestAsHex(json);
+        this.etag = "\"" + hash + "\"";
+        this.gzipEtag = "\"" + hash + "-gzip\"";
+    }
+
+    /**
+     * Creates a snapshot of the given JSON bytes.
+     *
+     * @param json        The serialized response.
+     * @param gzipMinSize The minimum size in bytes from which a gzip-compressed copy is kept as well,
+     *                    or a negative value to never compress.
+     * @return The snapshot.
+     */
+    public static ResponseSnapshot of(byte[] json, int gzipMinSize) {
+        boolean compress = gzipMinSize >= 0 && json.length >= gzipMinSize;
+        return new ResponseSnapshot(json, compress ? gzip(json) : null);
+    }
+
+    /**
+     * Returns the quoted ETag of the uncompressed representation.
+     */
+    public String etag() {
+        return etag;
+    }
+
+    /**
+     * Returns the size of the uncompressed representation in bytes.
+     */
+    public int size() {
+        return json.length;
+    }
+
+    /**
+     * Returns whether a gzip-compressed representation is available.
+     */
+    public boolean isCompressed() {
+        return gzip != null;
+    }
+
+    /**
+     * Builds a {@code 200 OK} response with the pre-encoded bytes. The gzip-compressed representation is used when
+     * the client accepts it. Spring answers requests with a matching {@code If-None-Match} header with
+     * {@code 304 Not Modified} and no body.
+     *
+     * @param acceptEncoding The {@code Accept-Encoding} header of the request, may be {@code null}.
+     * @return The response entity.
+     */
+    public ResponseEntity<byte[]> toResponseEntity(String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache());
+
+        if (gzip == null) {
+            return builder.eTag(etag).body(json);
+        }
+
+        builder.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return builder.eTag(gzipEtag)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(gzip);
+        }
+        return builder.eTag(etag).body(json);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
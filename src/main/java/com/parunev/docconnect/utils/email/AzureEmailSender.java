@@ -8,8 +8,8 @@ import com.azure.core.util.polling.SyncPoller;
 import com.parunev.docconnect.security.exceptions.EmailSenderException;
 import com.parunev.docconnect.security.payload.EmailError;
 import com.parunev.docconnect.utils.DCLogger;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
@@ -18,15 +18,16 @@ import org.springframework.stereotype.Service;
 /**
  * The {@code AzureEmailSender} class is responsible for sending emails using the Azure Communication Service.
  * It implements the {@link EmailSender} interface to provide email sending functionality.
+ * It is the transport behind {@link QueuedEmailSender}, which calls it from its worker threads.
  */
 @Service
+@Qualifier("transport")
 @ConditionalOnProperty(prefix = "email-sender", name = "client", havingValue = "azure")
 @RequiredArgsConstructor
 public class AzureEmailSender implements EmailSender{
 
     private final DCLogger dcLogger = new DCLogger(AzureEmailSender.class);
     private final EmailClient emailClient;
-    private final HttpServletRequest request;
 
     @Value("${azure.communication.from}")
     private String senderAddress;
@@ -54,14 +55,13 @@ public class AzureEmailSender implements EmailSender{
             PollResponse<EmailSendResult> response = poller.waitForCompletion();
 
             if (response.getStatus().isComplete()) {
-                dcLogger.info("Email sent to: " + to);
+                dcLogger.info("Email sent to: {}", to);
             }
 
         } catch (Exception e) {
             // Handle email sending failure and log the error.
             dcLogger.error("Failed to send email", e);
             throw new EmailSenderException(EmailError.builder()
-                    .path(request.getRequestURI())
                     .error("Failed to send email. %s".formatted(e.getMessage()))
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .build());
@@ -463,7 +463,7 @@ public class Patterns {
                     """
                 + appointment.getDateTime().toLocalDate().format(DateTimeFormatter.ofPattern("MM/dd/yyyy"))
                 + " " + " "
-                + appointment.getDateTime().toLocalDate().format(DateTimeFormatter.ofPattern("ha")).toUpperCase()
+                + appointment.getDateTime().toLocalTime().format(DateTimeFormatter.ofPattern("ha")).toUpperCase()
                 + """
                     </p>
 
@@ -0,0 +1,228 @@
+package com.parunev.docconnect.utils.email;
+
+import com.parunev.docconnect.config.EmailQueueConfig;
+import com.parunev.docconnect.security.exceptions.EmailSenderException;
+import com.parunev.docconnect.security.payload.EmailError;
+import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.DCMetrics;
+import com.parunev.docconnect.utils.VirtualThreads;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code QueuedEmailSender} class is the {@link EmailSender} used by the application services.
+ * It puts every email on a bounded in-memory queue and returns immediately; a worker pool hands the emails
+ * to the configured transport ({@link SmtpEmailSender} or {@link AzureEmailSender}).
+ *
+ * <p>Failed deliveries are retried with an exponential backoff. Retries are scheduled rather than slept,
+ * so a failing mail server never ties up a worker. Emails that still fail after the last attempt are kept
+ * in a bounded dead-letter store. {@link #stats()} exposes the queue depth, outcome counters and delivery latency;
+ * the same figures and the latency of every transport call are published through {@link DCMetrics}.
+ */
+@Service
+@Primary
+@EnableConfigurationProperties(EmailQueueConfig.class)
+public class QueuedEmailSender implements EmailSender {
+
+    private final DCLogger dcLogger = new DCLogger(QueuedEmailSender.class);
+    private final EmailSender transport;
+    private final EmailQueueConfig config;
+    private final DCMetrics dcMetrics;
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Deque<DeadLetter> deadLetters = new ConcurrentLinkedDeque<>();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalLatencyMs = new LongAdder();
+    private final AtomicLong maxLatencyMs = new AtomicLong();
+
+    public QueuedEmailSender(@Qualifier("transport") EmailSender transport,
+                             EmailQueueConfig config,
+                             DCMetrics dcMetrics) {
+        this.transport = transport;
+        this.config = config;
+        this.dcMetrics = dcMetrics;
+        this.executor = new ScheduledThreadPoolExecutor(config.getWorkers(), workerThreadFactory(config));
+        this.executor.setRemoveOnCancelPolicy(true);
+        bindMetrics(dcMetrics.getRegistry());
+    }
+
+    private void bindMetrics(MeterRegistry registry) {
+        Gauge.builder(DCMetrics.EMAIL_QUEUE_DEPTH, pending, AtomicInteger::get).register(registry);
+        FunctionCounter.builder(DCMetrics.EMAIL_OUTCOMES, sent, LongAdder::sum).tag("outcome", "sent").register(registry);
+        FunctionCounter.builder(DCMetrics.EMAIL_OUTCOMES, retried, LongAdder::sum).tag("outcome", "retried").register(registry);
+        FunctionCounter.builder(DCMetrics.EMAIL_OUTCOMES, deadLettered, LongAdder::sum).tag("outcome", "dead_lettered").register(registry);
+        FunctionCounter.builder(DCMetrics.EMAIL_OUTCOMES, rejected, LongAdder::sum).tag("outcome", "rejected").register(registry);
+    }
+
+    /**
+     * Queues an email for delivery.
+     *
+     * @param to      The recipient's email address.
+     * @param email   The email content in HTML format.
+     * @param subject The email subject.
+     * @throws EmailSenderException If the queue is full.
+     */
+    @Override
+    public void send(String to, String email, String subject) {
+        if (pending.incrementAndGet() > config.getCapacity()) {
+            pending.decrementAndGet();
+            rejected.increment();
+            dcLogger.warn("Email queue is full, rejecting email to: {}", to);
+            throw new EmailSenderException(EmailError.builder()
+                    .error("Failed to send email. The email queue is full, please try again later.")
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .timestamp(LocalDateTime.now())
+                    .build());
+        }
+
+        executor.execute(() -> deliver(new OutboundEmail(to, email, subject, Instant.now()), 1));
+        dcLogger.debug("Email to {} queued, {} emails pending", to, pending.get());
+    }
+
+    private void deliver(OutboundEmail outbound, int attempt) {
+        Timer.Sample attemptSample = dcMetrics.start();
+        try {
+            transport.send(outbound.to(), outbound.body(), outbound.subject());
+            dcMetrics.stop(attemptSample, DCMetrics.EMAIL_SEND, "outcome", "success");
+        } catch (RuntimeException e) {
+            dcMetrics.stop(attemptSample, DCMetrics.EMAIL_SEND, "outcome", "failure");
+            if (attempt < config.getMaxAttempts()) {
+                long delay = backoff(attempt);
+                retried.increment();
+                dcLogger.warn("Delivery of email to {} failed (attempt {}), retrying in {} ms", outbound.to(), attempt, delay);
+                executor.schedule(() -> deliver(outbound, attempt + 1), delay, TimeUnit.MILLISECONDS);
+                return;
+            }
+
+            deadLetter(outbound, attempt, e);
+            pending.decrementAndGet();
+            return;
+        }
+
+        long latency = Instant.now().toEpochMilli() - outbound.queuedAt().toEpochMilli();
+        sent.increment();
+        totalLatencyMs.add(latency);
+        maxLatencyMs.accumulateAndGet(latency, Math::max);
+        dcMetrics.timer(DCMetrics.EMAIL_DELIVERY).record(Duration.ofMillis(latency));
+        pending.decrementAndGet();
+    }
+
+    private void deadLetter(OutboundEmail outbound, int attempts, RuntimeException e) {
+        dcLogger.error("Giving up on email to {} after {} attempts", e, outbound.to(), attempts);
+        deadLettered.increment();
+        deadLetters.addLast(new DeadLetter(outbound.to(), outbound.subject(), attempts, e.getMessage(), Instant.now()));
+        while (deadLetters.size() > config.getDeadLetterCapacity()) {
+            deadLetters.pollFirst();
+        }
+    }
+
+    long backoff(int attempt) {
+        long delay = config.getInitialBackoffMs() << Math.min(attempt - 1, 30);
+        return Math.min(delay, config.getMaxBackoffMs());
+    }
+
+    /**
+     * Returns the emails that could not be delivered, oldest first.
+     */
+    public List<DeadLetter> getDeadLetters() {
+        return new ArrayList<>(deadLetters);
+    }
+
+    /**
+     * Returns a snapshot of the queue metrics.
+     */
+    public EmailQueueStats stats() {
+        long sentCount = sent.sum();
+        return new EmailQueueStats(
+                pending.get(),
+                sentCount,
+                retried.sum(),
+                deadLettered.sum(),
+                rejected.sum(),
+                sentCount == 0 ? 0 : totalLatencyMs.sum() / sentCount,
+                maxLatencyMs.get());
+    }
+
+    /**
+     * Stops accepting retries and gives the workers a moment to finish the emails in flight.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            dcLogger.warn("Email queue shut down with {} emails pending", pending.get());
+            executor.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory(EmailQueueConfig config) {
+        // The workers mostly wait on the mail server; as virtual threads they do not hold a platform thread meanwhile
+        if (config.isVirtualThreads()) {
+            return VirtualThreads.factory("email-sender-vt-");
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "email-sender-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record OutboundEmail(String to, String body, String subject, Instant queuedAt) {
+    }
+
+    /**
+     * An email that could not be delivered.
+     *
+     * @param to        The recipient's email address.
+     * @param subject   The email subject.
+     * @param attempts  How many delivery attempts were made.
+     * @param lastError The error of the last attempt.
+     * @param failedAt  When the email was given up on.
+     */
+    public record DeadLetter(String to, String subject, int attempts, String lastError, Instant failedAt) {
+    }
+
+    /**
+     * A snapshot of the email queue metrics.
+     *
+     * @param queueDepth       Emails waiting for delivery or for a retry.
+     * @param sent             Emails delivered successfully.
+     * @param retried          Failed attempts that were retried.
+     * @param deadLettered     Emails given up on.
+     * @param rejected         Emails rejected because the queue was full.
+     * @param averageLatencyMs Average time from queueing to delivery.
+     * @param maxLatencyMs     Longest time from queueing to delivery.
+     */
+    public record EmailQueueStats(int queueDepth, long sent, long retried, long deadLettered, long rejected,
+                                  long averageLatencyMs, long maxLatencyMs) {
+    }
+}
@@ -5,27 +5,27 @@ import com.parunev.docconnect.security.payload.EmailError;
 import com.parunev.docconnect.utils.DCLogger;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 /**
  * The {@code SmtpEmailSender} class is responsible for sending emails using the SMTP (Simple Mail Transfer Protocol) server.
  * It implements the {@link EmailSender} interface to provide email sending functionality.
+ * It is the transport behind {@link QueuedEmailSender}, which calls it from its worker threads.
  */
 @Service
+@Qualifier("transport")
 @ConditionalOnProperty(prefix = "email-sender", name = "client", havingValue = "smtp")
 @RequiredArgsConstructor
 public class SmtpEmailSender implements EmailSender {
 
     private final DCLogger dcLogger = new DCLogger(SmtpEmailSender.class);
     private final JavaMailSender mailSender;
-    private final HttpServletRequest request;
 
     /**
      * Sends an email using the SMTP server.
@@ -36,9 +36,8 @@ public class SmtpEmailSender implements EmailSender {
      * @throws EmailSenderException If an error occurs while sending the email.
      */
     @Override
-    @Async
     public void send(String to, String email, String subject) {
-        dcLogger.info("Sending email to: " + to);
+        dcLogger.info("Sending email to: {}", to);
         try{
             // Create a MimeMessage for the email.
             MimeMessage mimeMessage = mailSender.createMimeMessage();
@@ -51,14 +50,13 @@ public class SmtpEmailSender implements EmailSender {
             helper.setFrom("docconnect.bt@gmail.com");
 
             // Send the email.
-            dcLogger.info("Email sent to: " + to);
+            dcLogger.info("Email sent to: {}", to);
             mailSender.send(mimeMessage);
         }catch (MessagingException e){
             // Handle email sending failure and log the error.
             dcLogger.error("Failed to send email", e);
 
             throw new EmailSenderException(EmailError.builder()
-                    .path(request.getRequestURI())
                     .error("Failed to send email. %s".formatted(e.getMessage()))
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .build());
@@ -0,0 +1,84 @@
+package com.parunev.docconnect.utils.imports;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The {@code ImportFileReader} streams the rows of an uploaded import file, so that a file of any size is read with
+ * constant memory. A CSV file must start with a header row naming the fields; a JSON file must contain a top-level
+ * array of objects. Either way every row is returned as a map from field name to value, and the caller converts it
+ * to the request payload of the imported type.
+ */
+@Component
+public class ImportFileReader {
+
+    private final ObjectReader jsonReader;
+    private final ObjectReader csvReader;
+
+    public ImportFileReader(ObjectMapper objectMapper) {
+        this.jsonReader = objectMapper.readerFor(Map.class);
+        this.csvReader = new CsvMapper().readerFor(Map.class).with(CsvSchema.emptySchema().withHeader());
+    }
+
+    /**
+     * Opens the file for reading. The returned iterator must be closed, which closes the file.
+     *
+     * @param file   The uploaded file.
+     * @param format The format of the file.
+     * @return An iterator over the rows of the file.
+     * @throws IOException If the file cannot be opened or does not start like a file of the given format.
+     */
+    public MappingIterator<Map<String, Object>> open(File file, Format format) throws IOException {
+        return switch (format) {
+            case CSV -> csvReader.readValues(file);
+            case JSON -> jsonReader.readValues(file);
+        };
+    }
+
+    /**
+     * The supported file formats.
+     */
+    public enum Format {
+
+        CSV,
+
+        JSON;
+
+        /**
+         * Derives the format of an upload from its file name, or from its content type if the name has no known
+         * extension.
+         *
+         * @param filename    The original file name, may be {@code null}.
+         * @param contentType The content type of the upload, may be {@code null}.
+         * @return The format, or an empty optional if it is not supported.
+         */
+        public static Optional<Format> of(String filename, String contentType) {
+            String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return Optional.of(CSV);
+            }
+            if (name.endsWith(".json")) {
+                return Optional.of(JSON);
+            }
+
+            String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+            if (type.startsWith("text/csv")) {
+                return Optional.of(CSV);
+            }
+            if (type.startsWith("application/json")) {
+                return Optional.of(JSON);
+            }
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.parunev.docconnect.utils.imports;
+
+import com.parunev.docconnect.models.enums.ImportState;
+import com.parunev.docconnect.models.enums.ImportType;
+import com.parunev.docconnect.models.payloads.imports.ImportRowError;
+import lombok.Getter;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code ImportJob} holds the progress of one bulk import. It is updated by the import worker and read by the
+ * status endpoint, so the counters are atomic and the remaining state is published through volatile fields.
+ */
+@Getter
+public class ImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final ImportType type;
+    private final File file;
+    private final ImportFileReader.Format format;
+    private final String submittedBy;
+    private final int maxErrors;
+
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final List<ImportRowError> errors = new ArrayList<>();
+
+    private volatile ImportState state = ImportState.QUEUED;
+    private volatile String message = "Import was queued";
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public ImportJob(ImportType type, File file, ImportFileReader.Format format, String submittedBy, int maxErrors) {
+        this.type = type;
+        this.file = file;
+        this.format = format;
+        this.submittedBy = submittedBy;
+        this.maxErrors = maxErrors;
+    }
+
+    public void start() {
+        startedAt = LocalDateTime.now();
+        message = "Import is running";
+        state = ImportState.RUNNING;
+    }
+
+    public void rowsProcessed(int rows) {
+        processedRows.addAndGet(rows);
+    }
+
+    public void rowsImported(int rows) {
+        importedRows.addAndGet(rows);
+    }
+
+    /**
+     * Counts a skipped row. Its error is kept only while fewer than {@code maxErrors} errors were recorded.
+     */
+    public void rowFailed(long row, String error) {
+        failedRows.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(ImportRowError.builder().row(row).message(error).build());
+            }
+        }
+    }
+
+    public void complete() {
+        finish(ImportState.COMPLETED, "Import completed");
+    }
+
+    public void fail(String reason) {
+        finish(ImportState.FAILED, reason);
+    }
+
+    /**
+     * Returns a copy of the recorded row errors.
+     */
+    public List<ImportRowError> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    private void finish(ImportState finalState, String finalMessage) {
+        finishedAt = LocalDateTime.now();
+        message = finalMessage;
+        state = finalState;
+    }
+}
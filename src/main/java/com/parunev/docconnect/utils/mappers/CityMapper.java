@@ -0,0 +1,46 @@
+package com.parunev.docconnect.utils.mappers;
+
+import com.parunev.docconnect.models.City;
+import com.parunev.docconnect.models.payloads.city.CityResponse;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps {@link City} entities to {@link CityResponse} payloads.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CityMapper {
+
+    /**
+     * Maps a city to its response, including the name of the country it belongs to.
+     *
+     * @param city The city to map, may be {@code null}.
+     * @return The city response, or {@code null} if the city is {@code null}.
+     */
+    public static CityResponse toResponse(City city) {
+        if (city == null) {
+            return null;
+        }
+
+        CityResponse response = new CityResponse();
+        response.setCityName(city.getCityName());
+        if (city.getCountry() != null) {
+            response.setCountryName(city.getCountry().getCountryName());
+        }
+        return response;
+    }
+
+    /**
+     * Maps a list of cities to their responses, keeping the order.
+     */
+    public static List<CityResponse> toResponses(List<City> cities) {
+        List<CityResponse> responses = new ArrayList<>(cities.size());
+        for (City city : cities) {
+            responses.add(toResponse(city));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,43 @@
+package com.parunev.docconnect.utils.mappers;
+
+import com.parunev.docconnect.models.Country;
+import com.parunev.docconnect.models.payloads.country.CountryResponse;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps {@link Country} entities to {@link CountryResponse} payloads.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CountryMapper {
+
+    /**
+     * Maps a country to its response.
+     *
+     * @param country The country to map, may be {@code null}.
+     * @return The country response, or {@code null} if the country is {@code null}.
+     */
+    public static CountryResponse toResponse(Country country) {
+        if (country == null) {
+            return null;
+        }
+
+        CountryResponse response = new CountryResponse();
+        response.setCountryName(country.getCountryName());
+        return response;
+    }
+
+    /**
+     * Maps a list of countries to their responses, keeping the order.
+     */
+    public static List<CountryResponse> toResponses(List<Country> countries) {
+        List<CountryResponse> responses = new ArrayList<>(countries.size());
+        for (Country country : countries) {
+            responses.add(toResponse(country));
+        }
+        return responses;
+    }
+}
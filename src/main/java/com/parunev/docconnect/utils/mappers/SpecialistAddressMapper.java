@@ -0,0 +1,65 @@
+package com.parunev.docconnect.utils.mappers;
+
+import com.parunev.docconnect.models.payloads.specialist.SpecialistAddressResponse;
+import com.parunev.docconnect.models.projections.SpecialistAddressRow;
+import com.parunev.docconnect.models.specialist.SpecialistAddress;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps {@link SpecialistAddress} entities to {@link SpecialistAddressResponse} payloads.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SpecialistAddressMapper {
+
+    /**
+     * Maps an address to its response.
+     *
+     * @param address The address to map.
+     * @return The address response.
+     */
+    public static SpecialistAddressResponse toResponse(SpecialistAddress address) {
+        SpecialistAddressResponse response = new SpecialistAddressResponse();
+        response.setDocAddress(address.getDocAddress());
+        return response;
+    }
+
+    /**
+     * Maps the addresses of a specialist to their responses, keeping the order.
+     *
+     * @param addresses The addresses to map, may be {@code null}.
+     * @return The address responses; empty if there are no addresses.
+     */
+    public static List<SpecialistAddressResponse> toResponses(List<SpecialistAddress> addresses) {
+        if (addresses == null) {
+            return List.of();
+        }
+
+        List<SpecialistAddressResponse> responses = new ArrayList<>(addresses.size());
+        for (SpecialistAddress address : addresses) {
+            responses.add(toResponse(address));
+        }
+        return responses;
+    }
+
+    /**
+     * Groups address rows read for several specialists by specialist ID, keeping the order of the rows.
+     *
+     * @param rows The address rows to group.
+     * @return The address responses of each specialist that has at least one address.
+     */
+    public static Map<Long, List<SpecialistAddressResponse>> groupBySpecialist(List<SpecialistAddressRow> rows) {
+        Map<Long, List<SpecialistAddressResponse>> addresses = new HashMap<>();
+        for (SpecialistAddressRow row : rows) {
+            SpecialistAddressResponse response = new SpecialistAddressResponse();
+            response.setDocAddress(row.docAddress());
+            addresses.computeIfAbsent(row.specialistId(), id -> new ArrayList<>()).add(response);
+        }
+        return addresses;
+    }
+}
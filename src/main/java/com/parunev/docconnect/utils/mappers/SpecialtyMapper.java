@@ -0,0 +1,30 @@
+package com.parunev.docconnect.utils.mappers;
+
+import com.parunev.docconnect.models.Specialty;
+import com.parunev.docconnect.models.payloads.specialty.SpecialtyResponse;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Maps {@link Specialty} entities to {@link SpecialtyResponse} payloads.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SpecialtyMapper {
+
+    /**
+     * Maps a specialty to its response.
+     *
+     * @param specialty The specialty to map, may be {@code null}.
+     * @return The specialty response, or {@code null} if the specialty is {@code null}.
+     */
+    public static SpecialtyResponse toResponse(Specialty specialty) {
+        if (specialty == null) {
+            return null;
+        }
+
+        SpecialtyResponse response = new SpecialtyResponse();
+        response.setSpecialtyName(specialty.getSpecialtyName());
+        response.setImageUrl(specialty.getImageUrl());
+        return response;
+    }
+}
@@ -0,0 +1,97 @@
+package com.parunev.docconnect.utils.pagination;
+
+import com.parunev.docconnect.models.payloads.pagination.CursorPageResponse;
+import com.parunev.docconnect.security.exceptions.InvalidCursorException;
+import com.parunev.docconnect.security.payload.ApiError;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helpers for keyset (seek) pagination.
+ * <p>
+ * Instead of an offset, a cursor-paginated endpoint hands out an opaque continuation token that holds the ID of
+ * the last element of the page. The next page is then read with {@code id > :afterId} (or {@code <} for a
+ * descending order) over an indexed column, so every page costs the same no matter how deep it is, and no
+ * {@code COUNT} query is needed.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Cursors {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private static final String PREFIX = "v1:";
+
+    /**
+     * Encodes the ID of the last element of a page as an opaque cursor.
+     */
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor handed out by {@link #encode(Long)}.
+     *
+     * @param cursor The cursor sent by the client. A blank cursor requests the first page.
+     * @param path   The request path, used in the error response.
+     * @return The ID of the last element of the previous page, or {@code null} for the first page.
+     * @throws InvalidCursorException if the cursor is not one this application issued.
+     */
+    public static Long decode(String cursor, String path) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (value.startsWith(PREFIX)) {
+                return Long.parseLong(value.substring(PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            // Falls through to the error below, NumberFormatException included
+        }
+
+        throw new InvalidCursorException(ApiError.builder()
+                .path(path)
+                .error("The cursor is invalid. Start again without a cursor.")
+                .status(HttpStatus.BAD_REQUEST)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Clamps the requested page size to {@code 1..}{@value #MAX_SIZE}.
+     */
+    public static int size(int requested) {
+        return Math.max(1, Math.min(requested, MAX_SIZE));
+    }
+
+    /**
+     * Builds a cursor page from the rows of a seek query.
+     *
+     * @param rows   The rows read by the query, at most {@code size + 1}. The extra row only signals that there is a next page.
+     * @param size   The page size.
+     * @param idOf   Extracts the ID the query seeks on from a row.
+     * @param mapper Maps a row to its response.
+     * @return The page.
+     */
+    public static <R, T> CursorPageResponse<T> page(List<R> rows, int size, Function<R, Long> idOf, Function<R, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encode(idOf.apply(page.get(page.size() - 1))) : null)
+                .build();
+    }
+}
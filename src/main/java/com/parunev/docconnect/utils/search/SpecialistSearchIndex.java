@@ -0,0 +1,335 @@
+package com.parunev.docconnect.utils.search;
+
+import com.parunev.docconnect.models.payloads.specialist.SpecialistResponse;
+import com.parunev.docconnect.models.specialist.Specialist;
+import com.parunev.docconnect.utils.DCLogger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An optional in-process index over all specialists, used to answer
+ * {@code GET /api/v1/specialist} searches without touching the database.
+ * <p>
+ * Entries are kept in a concurrent map and compiled lazily into an immutable
+ * {@link Snapshot}: specialists sorted by id, a sorted array of lower-cased first and
+ * last names for prefix lookups, and one {@link BitSet} per city and per specialty.
+ * A search intersects those bitsets and walks the result in id order, which is the
+ * same order the database query returns. Adding a specialist marks the snapshot as stale,
+ * and the next search recompiles it; a rating change only replaces the entry of that
+ * specialist in the current snapshot, since ratings are not searched on.
+ * <p>
+ * Writes made inside a transaction are applied once it commits, so a rollback never
+ * leaves a specialist or rating in the index that is not in the database. Writes and
+ * the compilation of a snapshot hold the same lock, so a search never publishes a
+ * snapshot that misses a write.
+ * <p>
+ * The index is disabled by default and is turned on with
+ * {@code docconnect.search.index.enabled=true}.
+ */
+@Component
+public class SpecialistSearchIndex {
+
+    private final DCLogger dcLogger = new DCLogger(SpecialistSearchIndex.class);
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot;
+    private volatile boolean ready;
+
+    @Value("${docconnect.search.index.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * @return {@code true} if the index is enabled and has been built, meaning searches can be served from it.
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Replaces the whole content of the index.
+     *
+     * @param newEntries All specialists that should be searchable.
+     */
+    public synchronized void rebuild(Collection<Entry> newEntries) {
+        entries.clear();
+        newEntries.forEach(entry -> entries.put(entry.id(), entry));
+        snapshot = null;
+        ready = true;
+        dcLogger.info("Specialist search index rebuilt with {} entries", entries.size());
+    }
+
+    /**
+     * Adds or replaces a single specialist, e.g. after registration or confirmation.
+     */
+    public void index(Entry entry) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> put(entry));
+    }
+
+    /**
+     * Updates the average rating shown for a specialist that is already indexed.
+     */
+    public void updateRating(Long specialistId, double averageRating) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> patchRating(specialistId, averageRating));
+    }
+
+    private synchronized void put(Entry entry) {
+        entries.put(entry.id(), entry);
+        snapshot = null;
+    }
+
+    private synchronized void patchRating(Long specialistId, double averageRating) {
+        Entry updated = entries.computeIfPresent(specialistId, (id, entry) -> entry.withRating(averageRating));
+        Snapshot current = snapshot;
+        if (updated != null && current != null) {
+            current.replace(updated);
+        }
+    }
+
+    private static void afterCommit(Runnable write) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                write.run();
+            }
+        });
+    }
+
+    /**
+     * Searches the index with the same semantics as {@code SpecialistRepository.searchDoctorsPageable}:
+     * a case-insensitive prefix match on the first or last name, optionally narrowed by city and specialty.
+     *
+     * @param name        The name prefix, or {@code null}/empty for no name filter.
+     * @param cityId      The city to filter by, or {@code null}.
+     * @param specialtyId The specialty to filter by, or {@code null}.
+     * @param pageable    The page to return. Sorting is not supported by the index.
+     * @return The matching page, ordered by specialist id.
+     */
+    public Page<SpecialistResponse> search(String name, Long cityId, Long specialtyId, Pageable pageable) {
+        Snapshot current = currentSnapshot();
+        BitSet matches = current.match(name, cityId, specialtyId);
+
+        int total = matches.cardinality();
+        int offset = pageable.isPaged() ? (int) pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : total;
+
+        List<SpecialistResponse> content = new ArrayList<>(Math.min(limit, Math.max(0, total - offset)));
+        int position = 0;
+        for (int slot = matches.nextSetBit(0); slot >= 0 && content.size() < limit; slot = matches.nextSetBit(slot + 1)) {
+            if (position++ >= offset) {
+                content.add(current.byId[slot].response());
+            }
+        }
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Keyset variant of {@link #search}: returns up to {@code limit} matching specialists with an ID greater than
+     * {@code afterId}, in ID order.
+     *
+     * @param afterId The ID of the last specialist of the previous page, or {@code null} for the first page.
+     * @param limit   The maximum number of specialists to return.
+     */
+    public List<SpecialistResponse> searchAfter(String name, Long cityId, Long specialtyId, Long afterId, int limit) {
+        Snapshot current = currentSnapshot();
+        BitSet matches = current.match(name, cityId, specialtyId);
+
+        List<SpecialistResponse> content = new ArrayList<>(Math.min(limit, matches.cardinality()));
+        for (int slot = matches.nextSetBit(current.firstSlotAfter(afterId)); slot >= 0 && content.size() < limit;
+             slot = matches.nextSetBit(slot + 1)) {
+            content.add(current.byId[slot].response());
+        }
+        return content;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = Snapshot.of(entries.values());
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * A single searchable specialist together with the response that is returned for it.
+     */
+    public record Entry(Long id, String firstName, String lastName, Long cityId, Long specialtyId,
+                        SpecialistResponse response) {
+
+        public static Entry of(Specialist specialist, SpecialistResponse response) {
+            return new Entry(specialist.getId(),
+                    normalize(specialist.getFirstName()),
+                    normalize(specialist.getLastName()),
+                    specialist.getCity() != null ? specialist.getCity().getId() : null,
+                    specialist.getSpecialty() != null ? specialist.getSpecialty().getId() : null,
+                    response);
+        }
+
+        Entry withRating(double averageRating) {
+            SpecialistResponse copy = SpecialistResponse.builder()
+                    .id(response.getId())
+                    .firstName(response.getFirstName())
+                    .lastName(response.getLastName())
+                    .phoneNumber(response.getPhoneNumber())
+                    .email(response.getEmail())
+                    .summary(response.getSummary())
+                    .imageUrl(response.getImageUrl())
+                    .experienceYears(response.getExperienceYears())
+                    .city(response.getCity())
+                    .country(response.getCountry())
+                    .specialty(response.getSpecialty())
+                    .addresses(response.getAddresses())
+                    .rating(averageRating)
+                    .build();
+            return new Entry(id, firstName, lastName, cityId, specialtyId, copy);
+        }
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A compiled view of the index. Slots are positions in {@link #byId}. Only the entries in
+     * {@link #byId} are ever replaced, and only by an entry with the same id, names, city and
+     * specialty; {@link Entry} is immutable, so a search that reads a replaced slot sees either
+     * the old or the new entry in full.
+     */
+    private static final class Snapshot {
+
+        private final Entry[] byId;
+        private final String[] names;
+        private final int[] nameSlots;
+        private final Map<Long, BitSet> byCity = new HashMap<>();
+        private final Map<Long, BitSet> bySpecialty = new HashMap<>();
+
+        private Snapshot(Entry[] byId, String[] names, int[] nameSlots) {
+            this.byId = byId;
+            this.names = names;
+            this.nameSlots = nameSlots;
+        }
+
+        static Snapshot of(Collection<Entry> entries) {
+            Entry[] byId = entries.toArray(Entry[]::new);
+            Arrays.sort(byId, Comparator.comparing(Entry::id));
+
+            // Every specialist is reachable through both its first and last name
+            Integer[] order = new Integer[byId.length * 2];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing(i -> nameAt(byId, i)));
+
+            String[] names = new String[order.length];
+            int[] nameSlots = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                names[i] = nameAt(byId, order[i]);
+                nameSlots[i] = order[i] / 2;
+            }
+
+            Snapshot snapshot = new Snapshot(byId, names, nameSlots);
+            for (int slot = 0; slot < byId.length; slot++) {
+                Entry entry = byId[slot];
+                if (entry.cityId() != null) {
+                    snapshot.byCity.computeIfAbsent(entry.cityId(), id -> new BitSet(byId.length)).set(slot);
+                }
+                if (entry.specialtyId() != null) {
+                    snapshot.bySpecialty.computeIfAbsent(entry.specialtyId(), id -> new BitSet(byId.length)).set(slot);
+                }
+            }
+            return snapshot;
+        }
+
+        private static String nameAt(Entry[] byId, int index) {
+            Entry entry = byId[index / 2];
+            return index % 2 == 0 ? entry.firstName() : entry.lastName();
+        }
+
+        BitSet match(String name, Long cityId, Long specialtyId) {
+            BitSet result = new BitSet(byId.length);
+            String prefix = normalize(name);
+            if (prefix.isEmpty()) {
+                result.set(0, byId.length);
+            } else {
+                for (int i = lowerBound(prefix); i < names.length && names[i].startsWith(prefix); i++) {
+                    result.set(nameSlots[i]);
+                }
+            }
+
+            if (cityId != null) {
+                result.and(byCity.getOrDefault(cityId, new BitSet()));
+            }
+            if (specialtyId != null) {
+                result.and(bySpecialty.getOrDefault(specialtyId, new BitSet()));
+            }
+            return result;
+        }
+
+        void replace(Entry entry) {
+            int slot = firstSlotAfter(entry.id() - 1);
+            if (slot < byId.length && byId[slot].id().equals(entry.id())) {
+                byId[slot] = entry;
+            }
+        }
+
+        int firstSlotAfter(Long afterId) {
+            if (afterId == null) {
+                return 0;
+            }
+
+            int low = 0;
+            int high = byId.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (byId[mid].id() <= afterId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = names.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (names[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
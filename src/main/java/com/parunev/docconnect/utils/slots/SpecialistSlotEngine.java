@@ -0,0 +1,268 @@
+package com.parunev.docconnect.utils.slots;
+
+import com.parunev.docconnect.models.Appointment;
+import com.parunev.docconnect.repositories.AppointmentRepository;
+import com.parunev.docconnect.utils.DCLogger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code SpecialistSlotEngine} keeps the booking window of every specialist in memory
+ * as one bitmap per day, so slot checks never have to read the specialist's appointment history.
+ *
+ * <p>The booking window spans today plus {@value #WINDOW_DAYS} days, matching
+ * {@code AppointmentHelpers.validateDateTime}. Every day has {@value #SLOTS_PER_DAY} hourly slots from
+ * 09:00 to 16:00, and a set bit means the slot is booked. A single byte covers a whole day.
+ *
+ * <p>A specialist's window is loaded lazily with one bounded query over the upcoming appointments in
+ * the window. In between it is kept up to date by {@link #tryReserve(Long, LocalDateTime)} and
+ * {@link #release(Appointment)}, so checking a slot is O(1).
+ *
+ * <p>The windows only see the bookings and cancellations made through this instance, so they are a hint and not
+ * the authority on availability: {@code AppointmentHelpers} always checks the database, with the specialist's row
+ * locked, in the transaction that saves the appointment, and corrects the window when it was wrong. A window is
+ * reloaded when the day rolls over or after {@code docconnect.slots.window-ttl-ms}, which bounds how long
+ * {@link #freeSlots(Long)} can miss a change made through another instance.
+ */
+@Component
+@RequiredArgsConstructor
+public class SpecialistSlotEngine {
+
+    public static final int WINDOW_DAYS = 32;
+    public static final int SLOTS_PER_DAY = 8;
+    public static final LocalTime FIRST_SLOT = LocalTime.of(9, 0);
+
+    private final AppointmentRepository appointmentRepository;
+    private final Map<Long, SlotWindow> windows = new ConcurrentHashMap<>();
+    private final DCLogger dcLogger = new DCLogger(SpecialistSlotEngine.class);
+
+    @Value("${docconnect.slots.window-ttl-ms:300000}")
+    private long windowTtlMs = 300_000;
+
+    /**
+     * Checks whether the slot at the given date and time is free for the specialist.
+     *
+     * @param specialistId The ID of the specialist.
+     * @param dateTime     The start of the slot.
+     * @return {@code true} if nobody has booked the slot; slots outside the window are reported as free.
+     */
+    public boolean isFree(Long specialistId, LocalDateTime dateTime) {
+        SlotWindow window = window(specialistId);
+        int day = window.dayIndex(dateTime.toLocalDate());
+        int slot = slotIndex(dateTime.toLocalTime());
+        return day < 0 || slot < 0 || !window.isBooked(day, slot);
+    }
+
+    /**
+     * Atomically books the slot if it is still free.
+     *
+     * @param specialistId The ID of the specialist.
+     * @param dateTime     The start of the slot.
+     * @return {@code true} if the slot was free and is now reserved, {@code false} if it was already booked.
+     */
+    public boolean tryReserve(Long specialistId, LocalDateTime dateTime) {
+        SlotWindow window = window(specialistId);
+        int day = window.dayIndex(dateTime.toLocalDate());
+        int slot = slotIndex(dateTime.toLocalTime());
+        return day < 0 || slot < 0 || window.book(day, slot);
+    }
+
+    /**
+     * Frees a previously reserved slot, e.g. after a cancellation or a failed booking.
+     *
+     * @param specialistId The ID of the specialist.
+     * @param dateTime     The start of the slot.
+     */
+    public void release(Long specialistId, LocalDateTime dateTime) {
+        SlotWindow window = windows.get(specialistId);
+        if (window == null) {
+            return;
+        }
+
+        int day = window.dayIndex(dateTime.toLocalDate());
+        int slot = slotIndex(dateTime.toLocalTime());
+        if (day >= 0 && slot >= 0) {
+            window.free(day, slot);
+        }
+    }
+
+    /**
+     * Frees the slot occupied by the given appointment.
+     */
+    public void release(Appointment appointment) {
+        if (appointment.getSpecialist() != null && appointment.getDateTime() != null) {
+            release(appointment.getSpecialist().getId(), appointment.getDateTime());
+        }
+    }
+
+    /**
+     * Frees a slot reserved in the current transaction if that transaction does not commit, e.g. because the
+     * appointment could not be saved. Outside a transaction there is nothing to undo.
+     *
+     * @param specialistId The ID of the specialist.
+     * @param dateTime     The start of the slot.
+     */
+    public void releaseOnRollback(Long specialistId, LocalDateTime dateTime) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(specialistId, dateTime);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Frees the slot of a canceled appointment once the cancellation commits, or right away outside a transaction.
+     */
+    public void releaseAfterCommit(Appointment appointment) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(appointment);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(appointment);
+            }
+        });
+    }
+
+    /**
+     * Lists the free slots of the specialist for every working day in the booking window.
+     * Past slots of the current day are left out.
+     *
+     * @param specialistId The ID of the specialist.
+     * @return The free slot start times, keyed by date in ascending order.
+     */
+    public Map<LocalDate, List<LocalTime>> freeSlots(Long specialistId) {
+        SlotWindow window = window(specialistId);
+        LocalDateTime now = LocalDateTime.now();
+        Map<LocalDate, List<LocalTime>> result = new LinkedHashMap<>();
+
+        for (int day = 0; day <= WINDOW_DAYS; day++) {
+            LocalDate date = LocalDate.ofEpochDay(window.firstDay + day);
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+
+            byte booked = window.bookedSlots(day);
+            List<LocalTime> free = new ArrayList<>(SLOTS_PER_DAY);
+            for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                LocalTime time = FIRST_SLOT.plusHours(slot);
+                if ((booked & (1 << slot)) == 0 && !LocalDateTime.of(date, time).isBefore(now)) {
+                    free.add(time);
+                }
+            }
+            result.put(date, free);
+        }
+
+        return result;
+    }
+
+    private SlotWindow window(Long specialistId) {
+        long today = LocalDate.now().toEpochDay();
+        long now = System.currentTimeMillis();
+        SlotWindow window = windows.get(specialistId);
+        if (window != null && window.isCurrent(today, now, windowTtlMs)) {
+            return window;
+        }
+
+        // Loaded outside the map, so the query never runs while a bin of the map is locked. Concurrent loads
+        // keep the first window that was published.
+        SlotWindow loaded = load(specialistId, today, now);
+        return windows.merge(specialistId, loaded, (current, fresh) ->
+                current.isCurrent(today, now, windowTtlMs) ? current : fresh);
+    }
+
+    private SlotWindow load(Long specialistId, long today, long now) {
+        LocalDate firstDay = LocalDate.ofEpochDay(today);
+        List<LocalDateTime> booked = appointmentRepository.findUpcomingDateTimesBySpecialistId(
+                specialistId, firstDay.atStartOfDay(), firstDay.plusDays(WINDOW_DAYS + 1L).atStartOfDay());
+
+        SlotWindow window = new SlotWindow(today, now);
+        for (LocalDateTime dateTime : booked) {
+            int day = window.dayIndex(dateTime.toLocalDate());
+            int slot = slotIndex(dateTime.toLocalTime());
+            if (day >= 0 && slot >= 0) {
+                window.book(day, slot);
+            }
+        }
+
+        dcLogger.debug("Loaded slot window for specialist {} with {} booked slots", specialistId, booked.size());
+        return window;
+    }
+
+    /**
+     * Maps a time to its slot index, or returns -1 if the time is not the start of a working slot.
+     */
+    static int slotIndex(LocalTime time) {
+        if (time.getMinute() != 0) {
+            return -1;
+        }
+
+        int slot = time.getHour() - FIRST_SLOT.getHour();
+        return slot >= 0 && slot < SLOTS_PER_DAY ? slot : -1;
+    }
+
+    /**
+     * The booked slots of one specialist, one byte per day starting at {@code firstDay}.
+     */
+    private static final class SlotWindow {
+
+        private final long firstDay;
+        private final long loadedAt;
+        private final byte[] days = new byte[WINDOW_DAYS + 1];
+
+        private SlotWindow(long firstDay, long loadedAt) {
+            this.firstDay = firstDay;
+            this.loadedAt = loadedAt;
+        }
+
+        boolean isCurrent(long today, long now, long ttlMs) {
+            return firstDay == today && now - loadedAt < ttlMs;
+        }
+
+        int dayIndex(LocalDate date) {
+            long day = date.toEpochDay() - firstDay;
+            return day >= 0 && day < days.length ? (int) day : -1;
+        }
+
+        synchronized boolean isBooked(int day, int slot) {
+            return (days[day] & (1 << slot)) != 0;
+        }
+
+        synchronized byte bookedSlots(int day) {
+            return days[day];
+        }
+
+        synchronized boolean book(int day, int slot) {
+            if ((days[day] & (1 << slot)) != 0) {
+                return false;
+            }
+            days[day] |= (byte) (1 << slot);
+            return true;
+        }
+
+        synchronized void free(int day, int slot) {
+            days[day] &= (byte) ~(1 << slot);
+        }
+    }
+}
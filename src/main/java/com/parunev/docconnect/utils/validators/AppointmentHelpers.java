@@ -1,13 +1,17 @@
 package com.parunev.docconnect.utils.validators;
 
-import com.parunev.docconnect.models.Appointment;
 import com.parunev.docconnect.models.User;
+import com.parunev.docconnect.models.enums.Status;
 import com.parunev.docconnect.models.payloads.appointment.AppointmentRequest;
 import com.parunev.docconnect.models.specialist.Specialist;
 import com.parunev.docconnect.repositories.AppointmentRepository;
+import com.parunev.docconnect.repositories.SpecialistRepository;
 import com.parunev.docconnect.security.exceptions.AppointmentDeniedException;
 import com.parunev.docconnect.security.payload.ApiError;
 import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.DCMetrics;
+import com.parunev.docconnect.utils.slots.SpecialistSlotEngine;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +22,6 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.List;
 
 @Data
 @Component
@@ -26,7 +29,10 @@ import java.util.List;
 public class AppointmentHelpers {
 
     private final AppointmentRepository appointmentRepository;
+    private final SpecialistRepository specialistRepository;
     private final HttpServletRequest request;
+    private final SpecialistSlotEngine slotEngine;
+    private final DCMetrics dcMetrics;
     private final DCLogger dcLogger = new DCLogger(AuthHelpers.class);
 
     /**
@@ -34,7 +40,8 @@ public class AppointmentHelpers {
      * - The requested date and time are valid and fall within the specialist's working hours.
      * - The user has not already booked an appointment at the same date and time.
      * - The user does not already have an upcoming appointment with the same specialist on the same date.
-     * - The specialist is available at the requested date and time.
+     * - The specialist is available at the requested date and time. The slot is reserved for the caller
+     *   when it is, and released again if the caller's transaction does not commit.
      *
      * @param appointmentRequest The appointment request to be validated.
      * @param user               The user making the appointment.
@@ -43,83 +50,92 @@ public class AppointmentHelpers {
      */
     public void validateAppointmentRequest(AppointmentRequest appointmentRequest, User user, Specialist specialist) {
         dcLogger.info("Validating appointment request for user: {}, specialist: {}", user.getId(), specialist.getId());
-        validateDateTime(appointmentRequest.getDateTime().toLocalDate(), appointmentRequest.getDateTime().toLocalTime());
-        validateUserSpecialistAppointment(user.getId(), specialist.getId(), appointmentRequest.getDateTime().toLocalDate());
-        validateUserAppointments(user, appointmentRequest);
-        validateSpecialistAvailability(specialist, appointmentRequest);
+        Timer.Sample validation = dcMetrics.start();
+        try {
+            validateDateTime(appointmentRequest.getDateTime().toLocalDate(), appointmentRequest.getDateTime().toLocalTime());
+            validateUserSpecialistAppointment(user.getId(), specialist.getId(), appointmentRequest.getDateTime().toLocalDate());
+            validateUserAppointments(user, appointmentRequest);
+            validateSpecialistAvailability(specialist, appointmentRequest);
+        } catch (AppointmentDeniedException e) {
+            dcMetrics.stop(validation, DCMetrics.APPOINTMENT_VALIDATION, "outcome", "denied");
+            throw e;
+        }
+        dcMetrics.stop(validation, DCMetrics.APPOINTMENT_VALIDATION, "outcome", "accepted");
     }
 
+    /**
+     * Checks that the specialist is free at the requested time and reserves the slot. Must be called inside the
+     * transaction that saves the appointment: the specialist's row stays locked until it completes, and the slot is
+     * released again if it does not commit. The slot engine is only a hint; the database decides.
+     */
     public void validateSpecialistAvailability(Specialist specialist, AppointmentRequest appointmentRequest) {
         dcLogger.info("Validating specialist availability for appointment on date: {} and time: {}"
                 , appointmentRequest.getDateTime().toLocalDate(), appointmentRequest.getDateTime().toLocalTime());
 
-        validateAppointmentExists(
-                appointmentRepository.findAllBySpecialistId(specialist.getId()),
-                appointmentRequest.getDateTime().toLocalDate(),
-                appointmentRequest.getDateTime().toLocalTime(),
-                "Current specialist is not available, please choose another time."
-        );
+        Long specialistId = specialist.getId();
+        LocalDateTime dateTime = appointmentRequest.getDateTime();
 
+        // The lock serializes the bookings of the specialist across instances
+        specialistRepository.lockById(specialistId);
+        if (appointmentRepository.existsBySpecialistIdAndDateTimeAndAppointmentStatus(
+                specialistId, dateTime, Status.STATUS_UPCOMING)) {
+            dcLogger.warn("Appointment denied: specialist {} is already booked", specialistId);
+            throw specialistNotAvailable();
+        }
+
+        if (!slotEngine.isFree(specialistId, dateTime)) {
+            // Canceled through another instance since the window was loaded
+            dcLogger.debug("Clearing stale slot of specialist {} at {}", specialistId, dateTime);
+            slotEngine.release(specialistId, dateTime);
+        }
+        slotEngine.tryReserve(specialistId, dateTime);
+        slotEngine.releaseOnRollback(specialistId, dateTime);
         dcLogger.info("Specialist availability validated");
     }
 
+    private AppointmentDeniedException specialistNotAvailable() {
+        return new AppointmentDeniedException(ApiError.builder()
+                .path(request.getRequestURI())
+                .error("Current specialist is not available, please choose another time.")
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST)
+                .build());
+    }
+
     public void validateUserAppointments(User user, AppointmentRequest appointmentRequest) {
         dcLogger.info("Validating user appointments for appointment on date: {} and time: {}"
                 , appointmentRequest.getDateTime().toLocalDate(), appointmentRequest.getDateTime().toLocalTime());
 
-        validateAppointmentExists(
-                appointmentRepository.findAllByUserId(user.getId()),
-                appointmentRequest.getDateTime().toLocalDate(),
-                appointmentRequest.getDateTime().toLocalTime(),
-                "You have already booked an appointment on this day and time."
-        );
-
-        dcLogger.info("User appointments validated");
-    }
-
-    public void validateUserSpecialistAppointment(Long userId, Long specialistId, LocalDate date) {
-        dcLogger.debug("Validating user specialist appointment - User ID: {}, Specialist ID: {}, Date: {}", userId, specialistId, date);
-        List<Appointment> appointments = appointmentRepository.findAllByUserIdAndSpecialistId(userId, specialistId);
-
-        boolean exists = appointments.stream().anyMatch(a -> a
-                .getDateTime()
-                .toLocalDate()
-                .equals(date) &&
-                a.getAppointmentStatus()
-                .getAppointmentStatus()
-                .equals("Upcoming"));
-
-        if (exists) {
-            dcLogger.warn("User already has an appointment with the current doctor on the specified date.");
+        if (appointmentRepository.existsByUserIdAndDateTimeAndAppointmentStatus(
+                user.getId(), appointmentRequest.getDateTime(), Status.STATUS_UPCOMING)) {
+            dcLogger.warn("Appointment denied: user {} is already booked at {}", user.getId(), appointmentRequest.getDateTime());
             throw new AppointmentDeniedException(ApiError.builder()
                     .path(request.getRequestURI())
-                    .error("The user has already booked an appointment for the current doctor on that date.")
+                    .error("You have already booked an appointment on this day and time.")
                     .timestamp(LocalDateTime.now())
                     .status(HttpStatus.BAD_REQUEST)
                     .build());
         }
 
+        dcLogger.info("User appointments validated");
     }
 
-    void validateAppointmentExists(List<Appointment> appointments, LocalDate date, LocalTime time, String errorMessage) {
-        dcLogger.info("Validating appointment existence for date: {} and time: {}", date, time);
+    public void validateUserSpecialistAppointment(Long userId, Long specialistId, LocalDate date) {
+        dcLogger.debug("Validating user specialist appointment - User ID: {}, Specialist ID: {}, Date: {}", userId, specialistId, date);
 
-        boolean exists = appointments.stream()
-                .anyMatch(a -> a.getDateTime().toLocalDate().equals(date)
-                        && a.getDateTime().toLocalTime().equals(time)
-                        && a.getAppointmentStatus().getAppointmentStatus().equals("Upcoming"));
+        boolean exists = appointmentRepository.existsByUserIdAndSpecialistIdAndAppointmentStatusAndDateTimeBetween(
+                userId, specialistId, Status.STATUS_UPCOMING, date.atStartOfDay(), date.atTime(LocalTime.MAX));
 
         if (exists) {
-            dcLogger.warn("Appointment denied: {}", errorMessage);
+            dcLogger.warn("User already has an appointment with the current doctor on the specified date.");
             throw new AppointmentDeniedException(ApiError.builder()
                     .path(request.getRequestURI())
-                    .error(errorMessage)
+                    .error("The user has already booked an appointment for the current doctor on that date.")
                     .timestamp(LocalDateTime.now())
                     .status(HttpStatus.BAD_REQUEST)
                     .build());
         }
 
-        dcLogger.info("Appointment validation successful");
     }
 
     public void validateDateTime(LocalDate date, LocalTime time) {
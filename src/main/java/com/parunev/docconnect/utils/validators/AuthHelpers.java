@@ -1,7 +1,6 @@
 package com.parunev.docconnect.utils.validators;
 
 import com.parunev.docconnect.models.*;
-import com.parunev.docconnect.models.enums.TokenType;
 import com.parunev.docconnect.models.payloads.city.CityResponse;
 import com.parunev.docconnect.models.payloads.country.CountryResponse;
 import com.parunev.docconnect.models.payloads.specialty.SpecialtyResponse;
@@ -13,14 +12,19 @@ import com.parunev.docconnect.models.specialist.Specialist;
 import com.parunev.docconnect.models.specialist.SpecialistAddress;
 import com.parunev.docconnect.repositories.*;
 import com.parunev.docconnect.security.exceptions.*;
+import com.parunev.docconnect.security.jwt.JwtTokenCache;
 import com.parunev.docconnect.security.payload.AuthenticationError;
 import com.parunev.docconnect.security.payload.EmailError;
 import com.parunev.docconnect.utils.DCLogger;
+import com.parunev.docconnect.utils.cache.ReferenceDataCache;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.transaction.Transactional;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -38,13 +42,11 @@ public class AuthHelpers {
 
     private final UserRepository userRepository;
     private final PasswordTokenRepository passwordTokenRepository;
-    private final CityRepository cityRepository;
-    private final SpecialtyRepository specialtyRepository;
-    private final CountryRepository countryRepository;
     private final SpecialistRepository specialistRepository;
     private final SpecialistAddressRepository specialistAddressRepository;
-    private final JwtTokenRepository jwTokenRepository;
     private final HttpServletRequest request;
+    private final JwtTokenCache jwtTokenCache;
+    private final ReferenceDataCache referenceDataCache;
     private final DCLogger dcLogger = new DCLogger(AuthHelpers.class);
 
     /**
@@ -120,81 +122,45 @@ public class AuthHelpers {
     }
 
     /**
-     * Revoke all valid jwt tokens associated with a user/specialist.
+     * Revoke all jwt tokens issued to a user/specialist by incrementing their token version. Tokens must be
+     * generated after this call, so they carry the new version. The version is read back after the increment,
+     * since a concurrent revocation may have incremented it as well. The increment and the read run in one
+     * transaction, so the read sees exactly the version this call committed; a JPQL update cannot return the new
+     * value itself, because MySQL has no {@code RETURNING} clause. Cached verifications of the subject are dropped
+     * once the new version is committed, so a concurrent request cannot cache the old version again.
      *
      * @param obj The user/specialist for whom tokens need to be revoked.
      */
+    @Transactional
     public void revokeUserTokens(Object obj) {
         String email;
-        Long id;
         if (obj instanceof User user){
-            id = user.getId();
             email = user.getEmail();
+            userRepository.incrementTokenVersion(user.getId());
+            user.setTokenVersion(userRepository.findTokenVersionById(user.getId()));
         } else {
-            id = ((Specialist) obj).getId();
-            email = ((Specialist) obj).getEmail();
+            Specialist specialist = (Specialist) obj;
+            email = specialist.getEmail();
+            specialistRepository.incrementTokenVersion(specialist.getId());
+            specialist.setTokenVersion(specialistRepository.findTokenVersionById(specialist.getId()));
         }
 
-        dcLogger.info("Revoking all tokens for user: {}", email);
-        List<JwtToken> validUserTokens = jwTokenRepository.findAllValidTokensByUser(id);
-        if (validUserTokens.isEmpty()) {
-            dcLogger.info("No valid tokens found to revoke for user/specialist: {}", email);
-            return;
-        }
-
-        validUserTokens.forEach(jwToken -> {
-            jwToken.setExpired(true);
-            jwToken.setRevoked(true);
-        });
-
-        jwTokenRepository.saveAll(validUserTokens);
-        dcLogger.info("Revoked {} valid tokens for user/specialist: {}", validUserTokens.size(), email);
+        dcLogger.info("Revoked all tokens for user/specialist: {}", email);
+        invalidateCachedTokensAfterCommit(email);
     }
 
-    /**
-     * Save a JWT token to the token repository for a user/specialist.
-     *
-     * @param obj        The user/specialist for whom the token is saved.
-     * @param accessToken The JWT access token to be saved.
-     */
-    public void saveJwtTokenToRepository(Object obj, String accessToken) {
-        User user;
-        Specialist specialist;
-        if (obj instanceof User user1){
-            user = user1;
-            dcLogger.info("Saving JWT token to repository for specialist: {}", user.getEmail());
-            jwTokenRepository.save(createJWTokenObject(user, accessToken));
-        } else {
-            specialist = (Specialist) obj;
-            dcLogger.info("Saving JWT token to repository for specialist: {}", specialist.getEmail());
-            jwTokenRepository.save(createJWTokenObject(specialist, accessToken));
+    private void invalidateCachedTokensAfterCommit(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jwtTokenCache.invalidateSubject(email);
+            return;
         }
-    }
 
-    /**
-     * Create a JWT token object.
-     * @param obj The user/specialist for whom the token is created.
-     * @param accessToken The JWT access token to be saved.
-     * @return The created JWT token object.
-     */
-    private JwtToken createJWTokenObject(Object obj, String accessToken) {
-        if(obj instanceof User user){
-            return JwtToken.builder()
-                    .user(user)
-                    .token(accessToken)
-                    .type(TokenType.BEARER)
-                    .isExpired(false)
-                    .isRevoked(false)
-                    .build();
-        } else {
-            return JwtToken.builder()
-                    .specialist((Specialist) obj)
-                    .token(accessToken)
-                    .type(TokenType.BEARER)
-                    .isExpired(false)
-                    .isRevoked(false)
-                    .build();
-        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                jwtTokenCache.invalidateSubject(email);
+            }
+        });
     }
 
     /**
@@ -274,13 +240,13 @@ public class AuthHelpers {
     }
 
     /**
-     * Return a city if present in the database.
+     * Return a city if present in the database. Lookups are served from the reference data cache.
      * @param cityId The ID of the city to be returned.
      * @return The city if present in the database.
      * @throws CityServiceException if the city is not found in the database.
      */
     public City validateCityAndProceed(Long cityId) {
-        return cityRepository.findById(cityId)
+        return referenceDataCache.findCity(cityId)
                 .orElseThrow(() -> {
                     dcLogger.warn("City not found: {}", cityId);
                     throw new CityServiceException(CityResponse.builder()
@@ -293,13 +259,13 @@ public class AuthHelpers {
     }
 
     /**
-     * Return a country if present in the database.
+     * Return a country if present in the database. Lookups are served from the reference data cache.
      * @param countryId The ID of the country to be returned.
      * @return The country if present in the database.
      * @throws CountryServiceException if the country is not found in the database.
      */
     public Country validateCountryAndProceed(Long countryId) {
-        return countryRepository.findById(countryId)
+        return referenceDataCache.findCountry(countryId)
                 .orElseThrow(() -> {
                     dcLogger.warn("Country not found: {}", countryId);
                     throw new CountryServiceException(CountryResponse.builder()
@@ -312,13 +278,13 @@ public class AuthHelpers {
     }
 
     /**
-     * Return a specialty if present in the database.
+     * Return a specialty if present in the database. Lookups are served from the reference data cache.
      * @param specialtyId The ID of the specialty to be returned.
      * @return The specialty if present in the database.
      * @throws SpecialtyServiceException if the specialty is not found in the database.
      */
     public Specialty validateSpecialtyAndProceed(Long specialtyId) {
-        return specialtyRepository.findById(specialtyId)
+        return referenceDataCache.findSpecialty(specialtyId)
                 .orElseThrow(() -> {
                     dcLogger.warn("Specialty not found: {}", specialtyId);
                     throw new SpecialtyServiceException(SpecialtyResponse.builder()
@@ -331,7 +297,7 @@ public class AuthHelpers {
     }
 
     /**
-     * Extract addresses from the request, save them and return a list.
+     * Extract addresses from the request, save them together and return a list.
      * @param addresses The addresses to be extracted.
      * @return The list of extracted addresses.
      */
@@ -343,11 +309,10 @@ public class AuthHelpers {
             SpecialistAddress specialistAddress = SpecialistAddress.builder()
                     .docAddress(address)
                     .build();
-            specialistAddressRepository.save(specialistAddress);
             specialistAddresses.add(specialistAddress);
         }
 
-        return specialistAddresses;
+        return specialistAddressRepository.saveAll(specialistAddresses);
     }
 
     /**
@@ -0,0 +1,85 @@
+package com.parunev.docconnect;
+
+import com.parunev.docconnect.models.City;
+import com.parunev.docconnect.models.Country;
+import com.parunev.docconnect.models.Specialty;
+import com.parunev.docconnect.repositories.CityRepository;
+import com.parunev.docconnect.repositories.CountryRepository;
+import com.parunev.docconnect.repositories.SpecialtyRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Base class of the integration tests that create their own rows instead of running the SQL preparation scripts.
+ * They share one application context and one in-memory database, kept apart from the database of the endpoint
+ * tests, so the rows they create do not leak into those. Bulgaria, Sofia and Cardiology are created once for all of
+ * them; every other row is named by the test class that creates it, so the classes do not see each other's rows.
+ * <p>
+ * Hibernate statistics are enabled and cleared before every test, for the tests that count statements.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shared-fixtures;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "docconnect.imports.chunk-size=2"
+})
+@AutoConfigureMockMvc
+@Tag("integration")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public abstract class SharedDatabaseTest {
+
+    private static Country bulgaria;
+    private static City sofia;
+    private static Specialty cardiology;
+
+    @Autowired
+    protected CountryRepository countryRepository;
+
+    @Autowired
+    protected CityRepository cityRepository;
+
+    @Autowired
+    protected SpecialtyRepository specialtyRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected Statistics statistics;
+
+    @BeforeAll
+    void createReferenceData() {
+        if (bulgaria == null) {
+            bulgaria = countryRepository.save(Country.builder().countryName("Bulgaria").build());
+            sofia = cityRepository.save(City.builder().cityName("Sofia").country(bulgaria).build());
+            cardiology = specialtyRepository.save(Specialty.builder()
+                    .specialtyName("Cardiology")
+                    .imageUrl("https://example.com/cardiology.jpg")
+                    .build());
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics.clear();
+    }
+
+    protected static Country bulgaria() {
+        return bulgaria;
+    }
+
+    protected static City sofia() {
+        return sofia;
+    }
+
+    protected static Specialty cardiology() {
+        return cardiology;
+    }
+}
@@ -0,0 +1,226 @@
+package com.parunev.docconnect.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parunev.docconnect.SharedDatabaseTest;
+import com.parunev.docconnect.models.City;
+import com.parunev.docconnect.models.Country;
+import com.parunev.docconnect.models.enums.ImportState;
+import com.parunev.docconnect.models.payloads.imports.ImportResponse;
+import com.parunev.docconnect.models.payloads.imports.ImportRowError;
+import com.parunev.docconnect.models.specialist.Specialist;
+import com.parunev.docconnect.models.specialist.SpecialistAddress;
+import com.parunev.docconnect.repositories.SpecialistRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Imports files through the import endpoints, two rows per chunk, and follows the jobs to completion.
+ */
+class ImportEndpointsTest extends SharedDatabaseTest {
+
+    private static final String SUMMARY = "A specialist with many years of experience in treating all kinds of patients.";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SpecialistRepository specialistRepository;
+
+    private Country greece;
+
+    @BeforeAll
+    void setUp() {
+        greece = countryRepository.save(Country.builder().countryName("Greece").build());
+    }
+
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    void testImportCitiesFromCsv() throws Exception {
+        String csv = """
+                cityName,countryId
+                Plovdiv,%1$d
+                Sofia,%1$d
+                Varna,999
+                V4rna,%1$d
+                plovdiv,%1$d
+                Athens,%2$d
+                """.formatted(bulgaria().getId(), greece.getId());
+
+        ImportResponse response = awaitCompletion(submit("cities", "cities.csv", "text/csv", csv));
+
+        assertEquals(6, response.getProcessedRows());
+        assertEquals(2, response.getImportedRows());
+        assertEquals(4, response.getFailedRows());
+        assertEquals(List.of(2L, 3L, 4L, 5L), response.getErrors().stream().map(ImportRowError::getRow).toList());
+        assertEquals("City already exists", response.getErrors().get(0).getMessage());
+        assertEquals("Country with id:999 not found", response.getErrors().get(1).getMessage());
+
+        City athens = cityRepository.findAllByCountryId(greece.getId()).get(0);
+        assertEquals("Athens", athens.getCityName());
+        assertEquals("admin@example.com", athens.getCreatedBy());
+    }
+
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    void testImportSpecialistsFromJson() throws Exception {
+        String json = """
+                [
+                  {"firstName": "maria", "lastName": "IVANOVA", "phoneNumber": "359888123456",
+                   "email": "maria@example.com", "password": "GenericPassword1@", "summary": "%1$s",
+                   "experienceYears": 12, "gender": "Female", "cityId": %2$d, "countryId": %3$d,
+                   "specialtyId": %4$d, "addresses": ["Vitosha 1", "Rakovski 2"]},
+                  {"firstName": "Petar", "lastName": "Petrov", "phoneNumber": "359888654321",
+                   "email": "MARIA@example.com", "password": "GenericPassword1@", "summary": "%1$s",
+                   "experienceYears": 3, "gender": "MALE", "cityId": %2$d, "countryId": %3$d,
+                   "specialtyId": %4$d, "addresses": ["Vitosha 3"]},
+                  {"firstName": "Nikos", "lastName": "Papadopoulos", "phoneNumber": "306912345678",
+                   "email": "nikos@example.com", "password": "GenericPassword1@", "summary": "%1$s",
+                   "experienceYears": 7, "gender": "MALE", "cityId": %2$d, "countryId": %5$d,
+                   "specialtyId": %4$d, "addresses": ["Ermou 1"]},
+                  {"firstName": "Ivan", "lastName": "Ivanov", "phoneNumber": "359888000000",
+                   "email": "ivan@example.com", "password": "weak", "summary": "%1$s",
+                   "experienceYears": 1, "gender": "MALE", "cityId": %2$d, "countryId": %3$d,
+                   "specialtyId": %4$d, "addresses": ["Vitosha 5"]}
+                ]
+                """.formatted(SUMMARY, sofia().getId(), bulgaria().getId(), cardiology().getId(), greece.getId());
+
+        ImportResponse response = awaitCompletion(submit("specialists", "specialists.json", "application/json", json));
+
+        assertEquals(4, response.getProcessedRows());
+        assertEquals(1, response.getImportedRows());
+        assertEquals(3, response.getFailedRows());
+        assertEquals("The email address provided is already associated with an existing account.",
+                response.getErrors().get(0).getMessage());
+        assertEquals("City with id:%d is not in country with id:%d".formatted(sofia().getId(), greece.getId()),
+                response.getErrors().get(1).getMessage());
+        assertEquals(4, response.getErrors().get(2).getRow());
+
+        Specialist maria = specialistRepository.findByEmail("maria@example.com").orElseThrow();
+        assertEquals("Maria", maria.getFirstName());
+        assertEquals("Ivanova", maria.getLastName());
+        assertTrue(maria.isEnabled());
+        assertNotNull(maria.getMfaSecret());
+        assertEquals(sofia().getId(), maria.getCity().getId());
+        assertEquals(2, maria.getAddresses().size());
+        assertTrue(new BCryptPasswordEncoder().matches("GenericPassword1@", maria.getPassword()));
+    }
+
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    void testImportSpecialistsFromCsv() throws Exception {
+        String csv = """
+                firstName,lastName,phoneNumber,email,password,summary,experienceYears,gender,cityId,countryId,specialtyId,addresses
+                Elena,Georgieva,359888111222,elena@example.com,GenericPassword1@,%s,4,female,%d,%d,%d,Vitosha 7|Vitosha 9
+                """.formatted(SUMMARY, sofia().getId(), bulgaria().getId(), cardiology().getId());
+
+        ImportResponse response = awaitCompletion(submit("specialists", "specialists.csv", "text/csv", csv));
+
+        assertEquals(ImportState.COMPLETED, response.getState());
+        assertEquals(1, response.getImportedRows());
+
+        Specialist elena = specialistRepository.findByEmail("elena@example.com").orElseThrow();
+        assertEquals(List.of("Vitosha 7", "Vitosha 9"), elena.getAddresses().stream()
+                .map(SpecialistAddress::getDocAddress)
+                .sorted()
+                .toList());
+    }
+
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    void testImportSpecialtiesFromCsvSkipsInvalidRows() throws Exception {
+        String csv = """
+                specialtyName,imageUrl
+                Dermatology,https://example.com/dermatology.jpg
+                cardiology,https://example.com/cardiology.jpg
+                Neurology,
+                """;
+
+        ImportResponse response = awaitCompletion(submit("SPECIALTIES", "specialties.csv", "text/csv", csv));
+
+        assertEquals(3, response.getProcessedRows());
+        assertEquals(1, response.getImportedRows());
+        assertEquals(List.of(2L, 3L), response.getErrors().stream().map(ImportRowError::getRow).toList());
+        assertEquals("Specialty already exists", response.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    void testImportFailsOnMalformedFile() throws Exception {
+        ImportResponse response = awaitCompletion(submit("cities", "cities.json", "application/json", "[{\"cityName\":"));
+
+        assertEquals(ImportState.FAILED, response.getState());
+        assertNotNull(response.getFinishedAt());
+    }
+
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    void testImportRejectsUnsupportedFile() throws Exception {
+        mockMvc.perform(multipart("/api/v1/imports/{type}", "cities")
+                        .file(new MockMultipartFile("file", "cities.xlsx", "application/octet-stream", new byte[]{1, 2, 3})))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Only CSV and JSON files can be imported."));
+    }
+
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    void testImportRejectsUnknownType() throws Exception {
+        mockMvc.perform(multipart("/api/v1/imports/{type}", "countries")
+                        .file(new MockMultipartFile("file", "countries.csv", "text/csv", "countryName\nGreece\n".getBytes())))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown import type: countries"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    void testGetImportWithUnknownId() throws Exception {
+        mockMvc.perform(get("/api/v1/imports/{id}", UUID.randomUUID()))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    private UUID submit(String type, String filename, String contentType, String content) throws Exception {
+        MvcResult result = mockMvc.perform(multipart("/api/v1/imports/{type}", type)
+                        .file(new MockMultipartFile("file", filename, contentType, content.getBytes(StandardCharsets.UTF_8))))
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.state").value("QUEUED"))
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsByteArray(), ImportResponse.class).getJobId();
+    }
+
+    private ImportResponse awaitCompletion(UUID jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            MvcResult result = mockMvc.perform(get("/api/v1/imports/{id}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            ImportResponse response = objectMapper.readValue(result.getResponse().getContentAsByteArray(), ImportResponse.class);
+            if (response.getState() == ImportState.COMPLETED || response.getState() == ImportState.FAILED) {
+                return response;
+            }
+            assertTrue(System.currentTimeMillis() < deadline, "Import " + jobId + " did not finish in time");
+            Thread.sleep(50);
+        }
+    }
+}
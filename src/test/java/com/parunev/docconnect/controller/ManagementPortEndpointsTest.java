@@ -0,0 +1,55 @@
+package com.parunev.docconnect.controller;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@AutoConfigureObservability
+@Tag("integration")
+class ManagementPortEndpointsTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int serverPort;
+
+    @Value("${local.management.port}")
+    private int managementPort;
+
+    @Test
+    void testPrometheus_ScrapedWithoutCredentialsOnManagementPort() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:%d/actuator/prometheus".formatted(managementPort), String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().contains("docconnect_email_queue_depth"));
+    }
+
+    @Test
+    void testMetrics_RequireAdminOnManagementPort() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:%d/actuator/metrics".formatted(managementPort), String.class);
+
+        assertTrue(response.getStatusCode().is4xxClientError());
+    }
+
+    @Test
+    void testPrometheus_NotServedOnApplicationPort() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:%d/actuator/prometheus".formatted(serverPort), String.class);
+
+        assertNotEquals(HttpStatus.OK, response.getStatusCode());
+    }
+}
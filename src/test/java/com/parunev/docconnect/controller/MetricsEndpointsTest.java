@@ -0,0 +1,59 @@
+package com.parunev.docconnect.controller;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Tag("integration")
+@Sql("classpath:db/DbCountryPreparationScript.sql")
+class MetricsEndpointsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testPrometheus_ExposesRequestLatencyHistograms() throws Exception {
+        mockMvc.perform(get("/api/v1/countries"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus").with(user("admin@example.com").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "http_server_requests_seconds_bucket{application=\"docconnect\"")))
+                .andExpect(content().string(containsString("uri=\"/api/v1/countries\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds_bucket")))
+                .andExpect(content().string(containsString("docconnect_email_queue_depth")));
+    }
+
+    @Test
+    void testHealth_IsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testPrometheus_RequiresAdminOnApplicationPort() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    void testMetrics_RequiresAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().is4xxClientError());
+    }
+}
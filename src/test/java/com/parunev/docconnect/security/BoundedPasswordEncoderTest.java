@@ -0,0 +1,118 @@
+package com.parunev.docconnect.security;
+
+import com.parunev.docconnect.config.PasswordHashingConfig;
+import com.parunev.docconnect.security.exceptions.PasswordHashingUnavailableException;
+import com.parunev.docconnect.utils.DCMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (passwordEncoder != null) {
+            passwordEncoder.shutdown();
+        }
+    }
+
+    @Test
+    void testEncodeAndMatches() {
+        PasswordHashingConfig config = new PasswordHashingConfig();
+        config.setStrength(4);
+        passwordEncoder = new BoundedPasswordEncoder(config, new DCMetrics(meterRegistry));
+
+        String hash = passwordEncoder.encode("password");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(passwordEncoder.matches("password", hash));
+        assertFalse(passwordEncoder.matches("wrong", hash));
+        assertTrue(passwordEncoder.upgradeEncoding("$2a$03$" + hash.substring(7)));
+        assertEquals(3, meterRegistry.get(DCMetrics.PASSWORD_HASHING).tag("outcome", "completed").timers().stream()
+                .mapToLong(timer -> timer.count()).sum());
+        assertNotNull(meterRegistry.find("executor.queued").tag("name", BoundedPasswordEncoder.POOL_NAME).gauge());
+    }
+
+    @Test
+    void testMatches_RejectsWhenQueueIsFull() throws Exception {
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder(), config(1, 1, 5000), new DCMetrics(meterRegistry));
+
+        // One operation occupies the only worker and one waits in the queue
+        callers.submit(() -> passwordEncoder.matches("password", "hash"));
+        callers.submit(() -> passwordEncoder.matches("password", "hash"));
+        awaitQueued(1);
+
+        PasswordHashingUnavailableException exception = assertThrows(PasswordHashingUnavailableException.class,
+                () -> passwordEncoder.matches("password", "hash"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getApiError().getStatus());
+        assertEquals(1, meterRegistry.get(DCMetrics.PASSWORD_HASHING)
+                .tags("operation", "matches", "outcome", "rejected").timer().count());
+    }
+
+    @Test
+    void testEncode_RejectsAfterTimeout() {
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder(), config(1, 1, 50), new DCMetrics(meterRegistry));
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> passwordEncoder.encode("password"));
+        assertEquals(1, meterRegistry.get(DCMetrics.PASSWORD_HASHING)
+                .tags("operation", "encode", "outcome", "timed_out").timer().count());
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await();
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await();
+                return true;
+            }
+        };
+    }
+
+    private void await() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitQueued(int queued) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            if (meterRegistry.get("executor.queued").tag("name", BoundedPasswordEncoder.POOL_NAME).gauge().value() >= queued) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("The operations were not queued");
+    }
+
+    private static PasswordHashingConfig config(int threads, int queueCapacity, long timeoutMs) {
+        PasswordHashingConfig config = new PasswordHashingConfig();
+        config.setThreads(threads);
+        config.setQueueCapacity(queueCapacity);
+        config.setTimeoutMs(timeoutMs);
+        return config;
+    }
+}
@@ -0,0 +1,56 @@
+package com.parunev.docconnect.security.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingJwtDecoderTest {
+
+    private final JwtDecoder delegate = mock(JwtDecoder.class);
+    private final CachingJwtDecoder jwtDecoder = new CachingJwtDecoder(delegate, 2);
+
+    @Test
+    void testDecode_VerifiesTokenOnce() {
+        Jwt jwt = jwt("token", Instant.now().plusSeconds(600));
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        assertSame(jwt, jwtDecoder.decode("token"));
+        assertSame(jwt, jwtDecoder.decode("token"));
+        verify(delegate, times(1)).decode("token");
+    }
+
+    @Test
+    void testDecode_ExpiredTokenIsVerifiedAgain() {
+        when(delegate.decode("token"))
+                .thenReturn(jwt("token", Instant.now().minusSeconds(1)))
+                .thenThrow(new BadJwtException("Jwt expired"));
+
+        jwtDecoder.decode("token");
+
+        assertThrows(BadJwtException.class, () -> jwtDecoder.decode("token"));
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    void testDecode_InvalidTokenIsNotCached() {
+        when(delegate.decode("tampered")).thenThrow(new BadJwtException("Invalid signature"));
+
+        assertThrows(BadJwtException.class, () -> jwtDecoder.decode("tampered"));
+        assertThrows(BadJwtException.class, () -> jwtDecoder.decode("tampered"));
+        verify(delegate, times(2)).decode("tampered");
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("user@example.com")
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
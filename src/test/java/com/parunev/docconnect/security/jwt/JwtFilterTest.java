@@ -1,10 +1,10 @@
 package com.parunev.docconnect.security.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.parunev.docconnect.models.JwtToken;
-import com.parunev.docconnect.repositories.JwtTokenRepository;
 import com.parunev.docconnect.services.UserService;
+import com.parunev.docconnect.utils.DCMetrics;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -13,11 +13,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.jwt.Jwt;
 
-import java.util.Optional;
-
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.time.Instant;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class JwtFilterTest {
@@ -29,17 +31,24 @@ class JwtFilterTest {
     private UserService userService;
 
     @Mock
-    private JwtTokenRepository jwtTokenRepository;
+    private TokenRevocationRegistry tokenRevocationRegistry;
 
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private JwtTokenCache jwtTokenCache;
+
+    @Spy
+    private DCMetrics dcMetrics = new DCMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private JwtFilter jwtFilter;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -50,15 +59,90 @@ class JwtFilterTest {
         UserDetails userDetails = mock(UserDetails.class);
 
         when(request.getHeader("Authorization")).thenReturn("Bearer valid-jwt-token");
-        when(jwtService.extractEmail("valid-jwt-token")).thenReturn("user@example.com");
+        Jwt decoded = Jwt.withTokenValue("valid-jwt-token")
+                .header("alg", "RS256")
+                .jti("1f")
+                .subject("user@example.com")
+                .expiresAt(Instant.now().plusSeconds(600))
+                .build();
+        when(jwtService.decode("valid-jwt-token")).thenReturn(decoded);
         when(userService.loadUserByUsername("user@example.com")).thenReturn(userDetails);
-        when(jwtTokenRepository.findByToken("valid-jwt-token")).thenReturn(Optional.of(new JwtToken()));
-        when(jwtService.isTokenValid("valid-jwt-token", userDetails)).thenReturn(true);
+        when(tokenRevocationRegistry.isRevoked("1f")).thenReturn(false);
+        when(jwtService.isTokenValid(decoded, userDetails)).thenReturn(true);
 
         jwtFilter.doFilterInternal(request, response, filterChain);
 
         verify(userDetails).getUsername();
         verify(filterChain).doFilter(request, response);
+        verify(jwtTokenCache).put("valid-jwt-token", userDetails, true, decoded.getExpiresAt());
+        // The token is decoded and verified once per request
+        verify(jwtService).decode("valid-jwt-token");
+        verify(jwtService).isTokenValid(decoded, userDetails);
+        verifyNoMoreInteractions(jwtService);
+        assertEquals(1, dcMetrics.getRegistry().get(DCMetrics.JWT_AUTHENTICATION).tag("result", "cache_miss").timer().count());
+    }
+
+    @Test
+    void testDoFilterInternal_WhenTokenIsCached() throws Exception {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        UserDetails userDetails = mock(UserDetails.class);
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer cached-jwt-token");
+        when(jwtTokenCache.get("cached-jwt-token"))
+                .thenReturn(new JwtTokenCache.CachedToken(userDetails, true, Instant.now().plusSeconds(60)));
+
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        assertEquals(userDetails, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(jwtService, userService, tokenRevocationRegistry);
+        assertEquals(1, dcMetrics.getRegistry().get(DCMetrics.JWT_AUTHENTICATION).tag("result", "cache_hit").timer().count());
+    }
+
+    @Test
+    void testDoFilterInternal_WhenCachedTokenIsRevoked() throws Exception {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        UserDetails userDetails = mock(UserDetails.class);
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer revoked-jwt-token");
+        when(jwtTokenCache.get("revoked-jwt-token"))
+                .thenReturn(new JwtTokenCache.CachedToken(userDetails, false, Instant.now().plusSeconds(60)));
+
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(jwtService, userService, tokenRevocationRegistry);
+    }
+
+    @Test
+    void testDoFilterInternal_WhenTokenIsRevoked() throws Exception {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        UserDetails userDetails = mock(UserDetails.class);
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer logged-out-jwt-token");
+        Jwt decoded = Jwt.withTokenValue("logged-out-jwt-token")
+                .header("alg", "RS256")
+                .jti("2e")
+                .subject("user@example.com")
+                .expiresAt(Instant.now().plusSeconds(600))
+                .build();
+        when(jwtService.decode("logged-out-jwt-token")).thenReturn(decoded);
+        when(userService.loadUserByUsername("user@example.com")).thenReturn(userDetails);
+        when(tokenRevocationRegistry.isRevoked("2e")).thenReturn(true);
+
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain).doFilter(request, response);
+        verify(jwtTokenCache).put("logged-out-jwt-token", userDetails, false, decoded.getExpiresAt());
+        verify(jwtService, never()).isTokenValid(decoded, userDetails);
     }
 
     @Test
@@ -70,13 +154,12 @@ class JwtFilterTest {
 
         when(request.getHeader("Authorization")).thenReturn("Bearer invalid-jwt-token");
 
-        // Simulate an exception being thrown by jwtService.extractEmail using a lambda
-        when(jwtService.extractEmail("invalid-jwt-token")).thenAnswer(invocation -> {
+        // Simulate an exception being thrown by jwtService.decode using a lambda
+        when(jwtService.decode("invalid-jwt-token")).thenAnswer(invocation -> {
             throw new JwtException("Invalid token");
         });
 
         when(userService.loadUserByUsername(anyString())).thenReturn(userDetails);
-        when(jwtTokenRepository.findByToken("invalid-jwt-token")).thenReturn(Optional.empty());
 
         assertThrows(JwtException.class, () ->
                 jwtFilter.doFilterInternal(request, response, filterChain));
@@ -5,11 +5,13 @@ import com.parunev.docconnect.models.enums.Role;
 import com.parunev.docconnect.models.specialist.Specialist;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
@@ -21,7 +23,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class JwtServiceTest {
 
@@ -116,7 +118,7 @@ class JwtServiceTest {
         headers.put("header2", "value2");
         Map<String, Object> claims = new HashMap<>();
         claims.put("sub", email);
-        claims.put("claims2", "value2");
+        claims.put(JwtService.TOKEN_TYPE, JwtService.ACCESS_TOKEN);
 
         long jwtExpiration = 3600000;
         Jwt token = new Jwt("mocked-token-value", Instant.now(),
@@ -128,6 +130,95 @@ class JwtServiceTest {
         assertTrue(jwtService.isTokenValid(token.getTokenValue(), userDetails));
     }
 
+    @Test
+    void testIsTokenValid_DecodesOnce() {
+        Jwt token = Jwt.withTokenValue("mocked-token-value")
+                .header("alg", "RS256")
+                .subject("test@example.com")
+                .claim(JwtService.TOKEN_TYPE, JwtService.ACCESS_TOKEN)
+                .expiresAt(Instant.now().plusSeconds(600))
+                .build();
+
+        when(userDetails.getUsername()).thenReturn("test@example.com");
+        when(jwtDecoder.decode("mocked-token-value")).thenReturn(token);
+
+        assertTrue(jwtService.isTokenValid("mocked-token-value", userDetails));
+        verify(jwtDecoder, times(1)).decode("mocked-token-value");
+    }
+
+    @Test
+    void testIsTokenValid_DecodedToken() {
+        Jwt expired = Jwt.withTokenValue("expired")
+                .header("alg", "RS256")
+                .subject("test@example.com")
+                .claim(JwtService.TOKEN_TYPE, JwtService.ACCESS_TOKEN)
+                .expiresAt(Instant.now().minusSeconds(1))
+                .build();
+        Jwt otherSubject = Jwt.withTokenValue("other")
+                .header("alg", "RS256")
+                .subject("other@example.com")
+                .claim(JwtService.TOKEN_TYPE, JwtService.ACCESS_TOKEN)
+                .expiresAt(Instant.now().plusSeconds(600))
+                .build();
+
+        when(userDetails.getUsername()).thenReturn("test@example.com");
+
+        assertFalse(jwtService.isTokenValid(expired, userDetails));
+        assertFalse(jwtService.isTokenValid(otherSubject, userDetails));
+        verifyNoInteractions(jwtDecoder);
+    }
+
+    @Test
+    void testIsTokenValid_RejectsRefreshTokenAndOldVersion() {
+        User user = User.builder().email("test@example.com").tokenVersion(2).build();
+        Jwt current = Jwt.withTokenValue("current")
+                .header("alg", "RS256")
+                .subject("test@example.com")
+                .claim(JwtService.TOKEN_TYPE, JwtService.ACCESS_TOKEN)
+                .claim(JwtService.TOKEN_VERSION, 2L)
+                .expiresAt(Instant.now().plusSeconds(600))
+                .build();
+        Jwt refresh = Jwt.withTokenValue("refresh")
+                .header("alg", "RS256")
+                .subject("test@example.com")
+                .claim(JwtService.TOKEN_TYPE, JwtService.REFRESH_TOKEN)
+                .claim(JwtService.TOKEN_VERSION, 2L)
+                .expiresAt(Instant.now().plusSeconds(600))
+                .build();
+        Jwt revoked = Jwt.withTokenValue("revoked")
+                .header("alg", "RS256")
+                .subject("test@example.com")
+                .claim(JwtService.TOKEN_TYPE, JwtService.ACCESS_TOKEN)
+                .claim(JwtService.TOKEN_VERSION, 1L)
+                .expiresAt(Instant.now().plusSeconds(600))
+                .build();
+
+        assertTrue(jwtService.isTokenValid(current, user));
+        assertFalse(jwtService.isTokenValid(refresh, user));
+        assertFalse(jwtService.isTokenValid(revoked, user));
+    }
+
+    @Test
+    void testGenerateToken_AddsIdVersionAndType() {
+        User user = User.builder().email("test@example.com").role(Role.ROLE_USER).tokenVersion(5).build();
+        when(jwtEncoder.encode(any(JwtEncoderParameters.class)))
+                .thenReturn(new Jwt("mocked-token-value", null, null, Map.of("alg", "RS256"), Map.of("sub", "x")));
+
+        jwtService.generateToken(user);
+        jwtService.generateRefreshToken(user);
+
+        ArgumentCaptor<JwtEncoderParameters> parameters = ArgumentCaptor.forClass(JwtEncoderParameters.class);
+        verify(jwtEncoder, times(2)).encode(parameters.capture());
+        JwtClaimsSet access = parameters.getAllValues().get(0).getClaims();
+        JwtClaimsSet refresh = parameters.getAllValues().get(1).getClaims();
+
+        assertNotNull(access.getId());
+        assertNotEquals(access.getId(), refresh.getId());
+        assertEquals(5, access.<Integer>getClaim(JwtService.TOKEN_VERSION));
+        assertEquals(JwtService.ACCESS_TOKEN, access.getClaimAsString(JwtService.TOKEN_TYPE));
+        assertEquals(JwtService.REFRESH_TOKEN, refresh.getClaimAsString(JwtService.TOKEN_TYPE));
+    }
+
     @Test
     void testGenerateRefreshTokenUser() {
         Map<String, Object> headers = new HashMap<>();
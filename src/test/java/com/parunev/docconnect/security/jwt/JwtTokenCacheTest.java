@@ -0,0 +1,68 @@
+package com.parunev.docconnect.security.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtTokenCacheTest {
+
+    private JwtTokenCache jwtTokenCache;
+    private UserDetails user;
+    private UserDetails specialist;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenCache = new JwtTokenCache(100, 60);
+        user = mock(UserDetails.class);
+        when(user.getUsername()).thenReturn("user@example.com");
+        specialist = mock(UserDetails.class);
+        when(specialist.getUsername()).thenReturn("specialist@example.com");
+    }
+
+    @Test
+    void testPutAndGet() {
+        jwtTokenCache.put("token", user, true, Instant.now().plusSeconds(60));
+
+        JwtTokenCache.CachedToken cached = jwtTokenCache.get("token");
+
+        assertNotNull(cached);
+        assertEquals(user, cached.principal());
+        assertTrue(cached.valid());
+        assertNull(jwtTokenCache.get("other-token"));
+    }
+
+    @Test
+    void testGet_ExpiredTokenIsEvicted() {
+        jwtTokenCache.put("token", user, true, Instant.now().minusSeconds(1));
+
+        assertNull(jwtTokenCache.get("token"));
+    }
+
+    @Test
+    void testInvalidate() {
+        jwtTokenCache.put("token", user, true, Instant.now().plusSeconds(60));
+
+        jwtTokenCache.invalidate("token");
+
+        assertNull(jwtTokenCache.get("token"));
+    }
+
+    @Test
+    void testInvalidateSubject_RemovesOnlyThatSubject() {
+        jwtTokenCache.put("first-token", user, true, Instant.now().plusSeconds(60));
+        jwtTokenCache.put("second-token", user, true, Instant.now().plusSeconds(60));
+        jwtTokenCache.put("specialist-token", specialist, true, Instant.now().plusSeconds(60));
+
+        jwtTokenCache.invalidateSubject("user@example.com");
+
+        assertNull(jwtTokenCache.get("first-token"));
+        assertNull(jwtTokenCache.get("second-token"));
+        assertNotNull(jwtTokenCache.get("specialist-token"));
+    }
+}
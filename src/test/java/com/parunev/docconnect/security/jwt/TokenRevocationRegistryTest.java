@@ -0,0 +1,106 @@
+package com.parunev.docconnect.security.jwt;
+
+import com.parunev.docconnect.models.RevokedToken;
+import com.parunev.docconnect.repositories.RevokedTokenRepository;
+import com.parunev.docconnect.utils.DCMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationRegistryTest {
+
+    private final RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+    private final DCMetrics dcMetrics = new DCMetrics(new SimpleMeterRegistry());
+    private final TokenRevocationRegistry registry = new TokenRevocationRegistry(revokedTokenRepository, dcMetrics);
+
+    @Test
+    void testRevoke_StoresTokenOnce() {
+        Instant expiresAt = Instant.now().plusSeconds(600);
+
+        registry.revoke("ff", expiresAt);
+        registry.revoke("ff", expiresAt);
+
+        assertTrue(registry.isRevoked("ff"));
+        assertFalse(registry.isRevoked("fe"));
+        verify(revokedTokenRepository, times(1)).save(argThat(revokedToken -> revokedToken.getTokenId() == 255
+                && revokedToken.getExpiresAt().equals(expiresAt)
+                && revokedToken.getRevokedAt() != null));
+        assertEquals(1, dcMetrics.getRegistry().get(DCMetrics.JWT_REVOCATIONS).gauge().value());
+    }
+
+    @Test
+    void testRevoke_IgnoresExpiredToken() {
+        registry.revoke("ff", Instant.now().minusSeconds(1));
+
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    void testIsRevoked_TokenWithoutValidId() {
+        assertTrue(registry.isRevoked(null));
+        assertTrue(registry.isRevoked("not-a-token-id"));
+        assertFalse(registry.isRevoked(Long.toHexString(-1L)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> revoked() {
+        return (Map<Long, Long>) ReflectionTestUtils.getField(registry, "revoked");
+    }
+
+    @Test
+    void testSync_LoadsNewRevocationsAndDropsExpired() {
+        RevokedToken stored = RevokedToken.builder()
+                .tokenId(0xabL)
+                .expiresAt(Instant.now().plusSeconds(600))
+                .revokedAt(Instant.now())
+                .build();
+        when(revokedTokenRepository.findAllByRevokedAtAfterAndExpiresAtAfter(eq(Instant.EPOCH), any()))
+                .thenReturn(List.of(stored));
+        registry.revoke("cd", Instant.now().plusSeconds(600));
+        // A revocation whose token expired since it was loaded
+        revoked().put(0xefL, Instant.now().minusSeconds(1).getEpochSecond());
+
+        registry.warmUp();
+
+        assertTrue(registry.isRevoked("ab"));
+        assertTrue(registry.isRevoked("cd"));
+        assertFalse(registry.isRevoked("ef"));
+        verify(revokedTokenRepository).deleteExpired(any());
+    }
+
+    @Test
+    void testSync_PollsSinceLastSyncWithOverlap() {
+        ReflectionTestUtils.setField(registry, "syncOverlapMs", 60_000L);
+        Instant beforeFirstSync = Instant.now();
+        registry.sync();
+        Instant afterFirstSync = Instant.now();
+
+        // Committed after the first poll, but stamped before it started
+        RevokedToken late = RevokedToken.builder()
+                .tokenId(0xabL)
+                .expiresAt(Instant.now().plusSeconds(600))
+                .revokedAt(beforeFirstSync.minusSeconds(1))
+                .build();
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        when(revokedTokenRepository.findAllByRevokedAtAfterAndExpiresAtAfter(since.capture(), any()))
+                .thenReturn(List.of(late));
+
+        registry.sync();
+        registry.sync();
+
+        assertTrue(registry.isRevoked("ab"));
+        assertEquals(1, revoked().size());
+        assertFalse(since.getAllValues().get(0).isBefore(beforeFirstSync.minusSeconds(60)));
+        assertTrue(since.getAllValues().get(0).isBefore(afterFirstSync.minusSeconds(59)));
+    }
+}
@@ -0,0 +1,135 @@
+package com.parunev.docconnect.service;
+
+import com.parunev.docconnect.SharedDatabaseTest;
+import com.parunev.docconnect.models.*;
+import com.parunev.docconnect.models.enums.AuthProvider;
+import com.parunev.docconnect.models.enums.Gender;
+import com.parunev.docconnect.models.enums.Role;
+import com.parunev.docconnect.models.enums.Status;
+import com.parunev.docconnect.models.payloads.appointment.AppointmentResponse;
+import com.parunev.docconnect.models.specialist.Specialist;
+import com.parunev.docconnect.models.specialist.SpecialistAddress;
+import com.parunev.docconnect.repositories.*;
+import com.parunev.docconnect.services.AppointmentService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the number of SQL statements issued to read a page of appointments.
+ */
+class AppointmentSearchStatementCountTest extends SharedDatabaseTest {
+
+    private static final String USER_EMAIL = "patient@example.com";
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private SpecialistAddressRepository specialistAddressRepository;
+
+    @Autowired
+    private SpecialistRepository specialistRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @BeforeAll
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email(USER_EMAIL)
+                .password("password")
+                .firstName("Test")
+                .lastName("Patient")
+                .role(Role.ROLE_USER)
+                .provider(AuthProvider.LOCAL)
+                .build());
+
+        List<Appointment> appointments = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            List<SpecialistAddress> addresses = specialistAddressRepository.saveAll(List.of(
+                    new SpecialistAddress("Clinic %d, Sofia".formatted(i)),
+                    new SpecialistAddress("Hospital %d, Sofia".formatted(i))));
+
+            Specialist specialist = specialistRepository.save(Specialist.builder()
+                    .firstName("Doctor" + i)
+                    .lastName("Specialist")
+                    .experienceYears(i)
+                    .gender(Gender.FEMALE)
+                    .role(Role.ROLE_SPECIALIST)
+                    .city(sofia())
+                    .country(bulgaria())
+                    .specialty(cardiology())
+                    .addresses(addresses)
+                    .build());
+
+            for (int day = 1; day <= 2; day++) {
+                appointments.add(Appointment.builder()
+                        .dateTime(LocalDateTime.now().plusDays(day).withNano(0))
+                        .appointmentStatus(Status.STATUS_UPCOMING)
+                        .specialist(specialist)
+                        .user(user)
+                        .build());
+            }
+            appointments.add(Appointment.builder()
+                    .dateTime(LocalDateTime.now().minusDays(i).withNano(0))
+                    .appointmentStatus(Status.STATUS_COMPLETED)
+                    .specialist(specialist)
+                    .user(user)
+                    .build());
+        }
+        appointmentRepository.saveAll(appointments);
+    }
+
+    @BeforeEach
+    void authenticate() {
+        User principal = User.builder().email(USER_EMAIL).password("password").role(Role.ROLE_USER).build();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testSearchUpcomingAppointments_ReadsPageWithTwoStatements() {
+        Page<AppointmentResponse> page = appointmentService
+                .searchUpcomingAppointments(null, null, null, null, PageRequest.of(0, 20));
+
+        assertEquals(6, page.getContent().size());
+        page.forEach(appointment -> assertEquals(2, appointment.getSpecialistAddress().size()));
+        assertTrue(page.getContent().stream()
+                .anyMatch(appointment -> appointment.getSpecialistName().equals("Doctor2 Specialist")
+                        && appointment.getSpecialistAddress().get(0).getDocAddress().equals("Clinic 2, Sofia")));
+
+        // The user lookup, the page and the addresses of its specialists. The page is not full, so no count query.
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testSearchCompletedAppointments_ReadsPageWithTwoStatements() {
+        Page<AppointmentResponse> page = appointmentService
+                .searchCompletedAppointments(null, null, null, null, PageRequest.of(0, 2));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getContent().size());
+        page.forEach(appointment -> assertEquals(2, appointment.getSpecialistAddress().size()));
+
+        // The user lookup, the page, its count and the addresses of its specialists.
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+}
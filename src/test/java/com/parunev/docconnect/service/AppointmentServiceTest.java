@@ -7,9 +7,12 @@ import com.parunev.docconnect.models.enums.Status;
 import com.parunev.docconnect.models.payloads.appointment.AppointmentRequest;
 import com.parunev.docconnect.models.payloads.appointment.AppointmentResponse;
 import com.parunev.docconnect.models.payloads.specialist.SpecialistAddressResponse;
+import com.parunev.docconnect.models.projections.AppointmentSummary;
+import com.parunev.docconnect.models.projections.SpecialistAddressRow;
 import com.parunev.docconnect.models.specialist.Specialist;
 import com.parunev.docconnect.models.specialist.SpecialistAddress;
 import com.parunev.docconnect.repositories.AppointmentRepository;
+import com.parunev.docconnect.repositories.SpecialistAddressRepository;
 import com.parunev.docconnect.repositories.SpecialistRepository;
 import com.parunev.docconnect.repositories.UserRepository;
 import com.parunev.docconnect.security.exceptions.AppointmentDeniedException;
@@ -18,6 +21,8 @@ import com.parunev.docconnect.security.exceptions.SpecialistNotFoundException;
 import com.parunev.docconnect.security.exceptions.UserNotFoundException;
 import com.parunev.docconnect.services.AppointmentService;
 import com.parunev.docconnect.services.NotificationService;
+import com.parunev.docconnect.utils.mappers.SpecialistAddressMapper;
+import com.parunev.docconnect.utils.slots.SpecialistSlotEngine;
 import com.parunev.docconnect.utils.validators.AppointmentHelpers;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,7 +30,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -40,7 +44,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,6 +65,9 @@ class AppointmentServiceTest {
     @Mock
     private SpecialistRepository specialistRepository;
 
+    @Mock
+    private SpecialistAddressRepository specialistAddressRepository;
+
     @Mock
     private AppointmentHelpers appointmentHelpers;
 
@@ -72,7 +78,7 @@ class AppointmentServiceTest {
     private NotificationService notificationService;
 
     @Mock
-    private ModelMapper modelMapper;
+    private SpecialistSlotEngine slotEngine;
 
     @InjectMocks
     private AppointmentService appointmentService;
@@ -136,16 +142,14 @@ class AppointmentServiceTest {
 
         AppointmentResponse appointmentResponse = appointmentService.createAppointment(appointmentRequest);
 
-        List<SpecialistAddressResponse> expectedAddresses = addresses.stream()
-                .map(address -> modelMapper.map(address, SpecialistAddressResponse.class))
-                .toList();
+        List<SpecialistAddressResponse> expectedAddresses = SpecialistAddressMapper.toResponses(addresses);
 
         assertNotNull(user);
         assertNotNull(specialist);
         assertNotNull(appointmentResponse);
         assertEquals(Status.STATUS_UPCOMING, expectedAppointment.getAppointmentStatus());
         assertNotNull(appointmentResponse.getSpecialistAddress());
-        assertEquals(expectedAddresses.size(), appointmentResponse.getSpecialistAddress().size());
+        assertEquals(expectedAddresses, appointmentResponse.getSpecialistAddress());
         verify(appointmentHelpers, times(1)).validateAppointmentRequest(appointmentRequest, user, specialist);
         verify(appointmentRepository, times(1)).save(expectedAppointment);
     }
@@ -239,6 +243,7 @@ class AppointmentServiceTest {
         assertEquals(Status.STATUS_CANCELED, appointment.getAppointmentStatus());
         assertEquals("The appointment was successfully canceled!", response.getMessage());
         verify(appointmentRepository, times(1)).save(appointment);
+        verify(slotEngine, times(1)).releaseAfterCommit(appointment);
         verify(notificationService, times(1)).sendAppointmentCanceledEmail(appointment);
     }
 
@@ -312,26 +317,11 @@ class AppointmentServiceTest {
         LocalDate fromDate = LocalDate.now();
         LocalDate toDate = fromDate.plusDays(7);
 
-        List<Appointment> mockAppointments = Arrays.asList(
-                Appointment.builder()
-                        .dateTime(LocalDateTime.of(fromDate.plusDays(1), LocalTime.NOON))
-                        .user(user)
-                        .specialist(Specialist.builder()
-                                .addresses(Collections.singletonList(new SpecialistAddress("123 Main St")))
-                                .firstName("Dr. Smith")
-                                .lastName("Specialist")
-                                .build())
-                        .build(),
-
-                Appointment.builder()
-                        .dateTime(LocalDateTime.of(fromDate.plusDays(2), LocalTime.NOON))
-                        .user(user)
-                        .specialist(Specialist.builder()
-                                .addresses(Collections.singletonList(new SpecialistAddress("123 Main St")))
-                                .firstName("Dr. Smith")
-                                .lastName("Specialist")
-                                .build())
-                        .build()
+        List<AppointmentSummary> mockAppointments = Arrays.asList(
+                new AppointmentSummary(1L, LocalDateTime.of(fromDate.plusDays(1), LocalTime.NOON),
+                        10L, "Dr. Smith", "Specialist"),
+                new AppointmentSummary(2L, LocalDateTime.of(fromDate.plusDays(2), LocalTime.NOON),
+                        10L, "Dr. Smith", "Specialist")
         );
 
         when(appointmentRepository.findUpcomingAppointments(
@@ -340,13 +330,19 @@ class AppointmentServiceTest {
                 eq(fromDate),
                 eq(toDate),
                 eq(user.getId()),
+                any(LocalDateTime.class),
                 any(Pageable.class)
         )).thenReturn(new PageImpl<>(mockAppointments));
+        when(specialistAddressRepository.findAllBySpecialistIds(List.of(10L)))
+                .thenReturn(List.of(new SpecialistAddressRow(10L, "123 Main St")));
 
         Page<AppointmentResponse> resultPage = appointmentService.searchUpcomingAppointments(
                 specialistName, specialtyId, fromDate, toDate, PageRequest.of(0, 10));
 
         assertEquals(mockAppointments.size(), resultPage.getContent().size());
+        assertEquals("Dr. Smith Specialist", resultPage.getContent().get(0).getSpecialistName());
+        assertEquals("123 Main St", resultPage.getContent().get(1).getSpecialistAddress().get(0).getDocAddress());
+        verify(specialistAddressRepository, times(1)).findAllBySpecialistIds(List.of(10L));
     }
 
     @Test
@@ -373,26 +369,11 @@ class AppointmentServiceTest {
         LocalDate fromDate = LocalDate.now();
         LocalDate toDate = fromDate.plusDays(7);
 
-        List<Appointment> mockAppointments = Arrays.asList(
-                Appointment.builder()
-                        .dateTime(LocalDateTime.of(fromDate.plusDays(1), LocalTime.NOON))
-                        .user(user)
-                        .specialist(Specialist.builder()
-                                .addresses(Collections.singletonList(new SpecialistAddress("123 Main St")))
-                                .firstName("Dr. Smith")
-                                .lastName("Specialist")
-                                .build())
-                        .build(),
-
-                Appointment.builder()
-                        .dateTime(LocalDateTime.of(fromDate.plusDays(2), LocalTime.NOON))
-                        .user(user)
-                        .specialist(Specialist.builder()
-                                .addresses(Collections.singletonList(new SpecialistAddress("123 Main St")))
-                                .firstName("Dr. Smith")
-                                .lastName("Specialist")
-                                .build())
-                        .build()
+        List<AppointmentSummary> mockAppointments = Arrays.asList(
+                new AppointmentSummary(1L, LocalDateTime.of(fromDate.plusDays(1), LocalTime.NOON),
+                        10L, "Dr. Smith", "Specialist"),
+                new AppointmentSummary(2L, LocalDateTime.of(fromDate.plusDays(2), LocalTime.NOON),
+                        10L, "Dr. Smith", "Specialist")
         );
 
         when(appointmentRepository.findCompletedAppointments(
@@ -401,13 +382,19 @@ class AppointmentServiceTest {
                 eq(fromDate),
                 eq(toDate),
                 eq(user.getId()),
+                any(LocalDateTime.class),
                 any(Pageable.class)
         )).thenReturn(new PageImpl<>(mockAppointments));
+        when(specialistAddressRepository.findAllBySpecialistIds(List.of(10L)))
+                .thenReturn(List.of(new SpecialistAddressRow(10L, "123 Main St")));
 
         Page<AppointmentResponse> resultPage = appointmentService.searchCompletedAppointments(
                 specialistName, specialtyId, fromDate, toDate, PageRequest.of(0, 10));
 
         assertEquals(mockAppointments.size(), resultPage.getContent().size());
+        assertEquals("Dr. Smith Specialist", resultPage.getContent().get(0).getSpecialistName());
+        assertEquals("123 Main St", resultPage.getContent().get(1).getSpecialistAddress().get(0).getDocAddress());
+        verify(specialistAddressRepository, times(1)).findAllBySpecialistIds(List.of(10L));
     }
 }
 
@@ -0,0 +1,56 @@
+package com.parunev.docconnect.service;
+
+import com.parunev.docconnect.repositories.AppointmentRepository;
+import com.parunev.docconnect.services.AppointmentStatusService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AppointmentStatusServiceTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @InjectMocks
+    private AppointmentStatusService appointmentStatusService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testCompletePastAppointments_CompletesEverythingBeforeCutoff() {
+        when(appointmentRepository.completeUpcomingAppointmentsBefore(any())).thenReturn(3);
+
+        LocalDateTime before = LocalDateTime.now().minus(AppointmentStatusService.COMPLETION_DELAY);
+        int completed = appointmentStatusService.completePastAppointments();
+        LocalDateTime after = LocalDateTime.now().minus(AppointmentStatusService.COMPLETION_DELAY);
+
+        assertEquals(3, completed);
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(appointmentRepository).completeUpcomingAppointmentsBefore(cutoff.capture());
+        assertFalse(cutoff.getValue().isBefore(before));
+        assertFalse(cutoff.getValue().isAfter(after));
+    }
+
+    @Test
+    void testCompletePastAppointments_EveryRunHasNoLowerBound() {
+        when(appointmentRepository.completeUpcomingAppointmentsBefore(any())).thenReturn(3, 0);
+
+        assertEquals(3, appointmentStatusService.completePastAppointments());
+        assertEquals(0, appointmentStatusService.completePastAppointments());
+
+        verify(appointmentRepository, times(2)).completeUpcomingAppointmentsBefore(any());
+        verifyNoMoreInteractions(appointmentRepository);
+    }
+}
@@ -1,21 +1,22 @@
 package com.parunev.docconnect.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.parunev.docconnect.models.City;
 import com.parunev.docconnect.models.Country;
 import com.parunev.docconnect.models.payloads.city.CityRequest;
 import com.parunev.docconnect.models.payloads.city.CityResponse;
 import com.parunev.docconnect.repositories.CityRepository;
 import com.parunev.docconnect.repositories.CountryRepository;
+import com.parunev.docconnect.repositories.SpecialtyRepository;
 import com.parunev.docconnect.security.exceptions.CityServiceException;
 import com.parunev.docconnect.security.exceptions.CountryServiceException;
 import com.parunev.docconnect.services.CityService;
+import com.parunev.docconnect.utils.cache.ReferenceDataCache;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 
 import java.util.ArrayList;
@@ -37,15 +38,15 @@ class CityServiceTest {
     @Mock
     private HttpServletRequest httpServletRequest;
 
-    @Mock
-    private ModelMapper modelMapper;
+    private ReferenceDataCache referenceDataCache;
 
-    @InjectMocks
     private CityService cityService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        referenceDataCache = new ReferenceDataCache(countryRepository, cityRepository, mock(SpecialtyRepository.class), new ObjectMapper(), 100, 60, 1024);
+        cityService = new CityService(cityRepository, countryRepository, httpServletRequest, referenceDataCache);
     }
 
     @Test
@@ -302,7 +303,7 @@ class CityServiceTest {
         cityResponses.add(cityResponse);
         cityResponses.add(cityResponse2);
 
-        when(cityService.getAllCities()).thenReturn(cityResponses);
+        assertEquals(cityResponses, cityService.getAllCities());
 
         assertEquals(2, cityResponses.size());
         assertEquals("Test 1", cityResponses.get(0).getCountryName());
@@ -330,7 +331,7 @@ class CityServiceTest {
         cityResponse.setCityName(city.getCityName());
         cityResponse.setCountryName(city.getCountry().getCountryName());
 
-        when(cityService.getCityById(cityId)).thenReturn(cityResponse);
+        assertEquals(cityResponse, cityService.getCityById(cityId));
 
         assertEquals(city.getCountry().getCountryName(), cityResponse.getCountryName());
         assertEquals(city.getCityName(), cityResponse.getCityName());
@@ -347,7 +348,7 @@ class CityServiceTest {
         country.setCountryName("Test 1");
 
         Country country2 = new Country();
-        country.setCountryName("Test 2");
+        country2.setCountryName("Test 2");
 
         List<City> sampleCities = List.of(
                 City.builder().cityName("City1").country(country).build(),
@@ -366,7 +367,7 @@ class CityServiceTest {
                         .build()
         );
         List<CityResponse> responses = new ArrayList<>(cityResponses);
-        when(cityService.getAllCitiesByCountryId(countryId)).thenReturn(responses);
+        assertEquals(responses, cityService.getAllCitiesByCountryId(countryId));
 
         assertEquals(2, responses.size());
         assertEquals("City1",responses.get(0).getCityName());
@@ -1,18 +1,20 @@
 package com.parunev.docconnect.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.parunev.docconnect.models.Country;
 import com.parunev.docconnect.models.payloads.country.CountryRequest;
 import com.parunev.docconnect.models.payloads.country.CountryResponse;
+import com.parunev.docconnect.repositories.CityRepository;
 import com.parunev.docconnect.repositories.CountryRepository;
+import com.parunev.docconnect.repositories.SpecialtyRepository;
 import com.parunev.docconnect.security.exceptions.CountryServiceException;
 import com.parunev.docconnect.services.CountryService;
+import com.parunev.docconnect.utils.cache.ReferenceDataCache;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 
 import java.util.ArrayList;
@@ -30,15 +32,15 @@ class CountryServiceTest {
     @Mock
     private HttpServletRequest httpServletRequest;
 
-    @Mock
-    private ModelMapper modelMapper;
+    private ReferenceDataCache referenceDataCache;
 
-    @InjectMocks
     private CountryService countryService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        referenceDataCache = new ReferenceDataCache(countryRepository, mock(CityRepository.class), mock(SpecialtyRepository.class), new ObjectMapper(), 100, 60, 1024);
+        countryService = new CountryService(countryRepository, httpServletRequest, referenceDataCache);
     }
 
     @Test
@@ -172,7 +174,7 @@ class CountryServiceTest {
         countryResponseList.add(countryResponse);
         countryResponseList.add(countryResponse2);
 
-        when(countryService.getAllCountries()).thenReturn(countryResponseList);
+        assertEquals(countryResponseList, countryService.getAllCountries());
 
         assertEquals(2, countryResponseList.size());
         assertEquals("Test 1", countryResponseList.get(0).getCountryName());
@@ -181,6 +183,25 @@ class CountryServiceTest {
         verify(countryRepository, times(1)).findAll();
     }
 
+    @Test
+    void testGetAllCountries_CachedUntilCountryIsAdded(){
+        Country country = new Country();
+        country.setCountryName("Test 1");
+        when(countryRepository.findAll()).thenReturn(List.of(country));
+
+        countryService.getAllCountries();
+        countryService.getAllCountries();
+        verify(countryRepository, times(1)).findAll();
+
+        CountryRequest countryRequest = new CountryRequest();
+        countryRequest.setCountryName("Test 2");
+        when(countryRepository.existsByCountryName(countryRequest.getCountryName())).thenReturn(false);
+        countryService.addCountry(countryRequest);
+
+        countryService.getAllCountries();
+        verify(countryRepository, times(2)).findAll();
+    }
+
     @Test
     void testGetCountryById_Success() {
         Long countryId = 1L;
@@ -192,7 +213,7 @@ class CountryServiceTest {
         CountryResponse countryResponse = new CountryResponse();
         countryResponse.setCountryName(country.getCountryName());
 
-        when(countryService.getCountryById(countryId)).thenReturn(countryResponse);
+        assertEquals(countryResponse, countryService.getCountryById(countryId));
 
         assertEquals(country.getCountryName(), countryResponse.getCountryName());
         verify(countryRepository, times(1)).findById(countryId);
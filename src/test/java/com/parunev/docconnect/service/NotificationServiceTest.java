@@ -9,15 +9,21 @@ import com.parunev.docconnect.models.specialist.SpecialistAddress;
 import com.parunev.docconnect.repositories.AppointmentRepository;
 import com.parunev.docconnect.repositories.UserProfileRepository;
 import com.parunev.docconnect.services.NotificationService;
+import com.parunev.docconnect.utils.DCMetrics;
 import com.parunev.docconnect.utils.email.EmailSender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -33,6 +39,9 @@ class NotificationServiceTest {
     @Mock
     private EmailSender emailSender;
 
+    @Spy
+    private DCMetrics dcMetrics = new DCMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -78,4 +87,63 @@ class NotificationServiceTest {
 
         verify(emailSender).send(eq(user.getEmail()), anyString(), anyString());
     }
+
+    @Test
+    void testSendAppointmentRemindingEmail() {
+        Appointment appointment = appointment(LocalDateTime.now().plusHours(24));
+        when(appointmentRepository.streamAppointmentsToRemind(any(), any())).thenReturn(Stream.of(appointment));
+
+        notificationService.sendAppointmentRemindingEmail();
+
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(24);
+        verify(appointmentRepository).streamAppointmentsToRemind(from, from.plusHours(1));
+        verify(emailSender).send(eq(appointment.getUser().getEmail()), anyString(), eq("DocConnect: Appointment Reminder"));
+        verifyNoInteractions(userProfileRepository);
+        assertEquals(1, dcMetrics.getRegistry().get(DCMetrics.NOTIFICATION_SCAN_SIZE).tag("scan", "reminder").summary().totalAmount());
+    }
+
+    @Test
+    void testSendFeedbackEmail() {
+        Appointment appointment = appointment(LocalDateTime.now().minusHours(2));
+        when(appointmentRepository.streamAppointmentsForFeedback(any(), any())).thenReturn(Stream.of(appointment));
+
+        notificationService.sendFeedbackEmail();
+
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(2);
+        verify(appointmentRepository).streamAppointmentsForFeedback(from, from.plusHours(1));
+        verify(emailSender).send(eq(appointment.getUser().getEmail()), anyString(), eq("DocConnect: Appointment Feedback"));
+        verifyNoInteractions(userProfileRepository);
+    }
+
+    @Test
+    void testSendFeedbackEmail_NothingInWindow() {
+        when(appointmentRepository.streamAppointmentsForFeedback(any(), any())).thenReturn(Stream.empty());
+
+        notificationService.sendFeedbackEmail();
+
+        verifyNoInteractions(emailSender);
+        assertEquals(1, dcMetrics.getRegistry().get(DCMetrics.NOTIFICATION_SCAN_SIZE).tag("scan", "feedback").summary().count());
+        assertEquals(0, dcMetrics.getRegistry().get(DCMetrics.NOTIFICATION_SCAN_SIZE).tag("scan", "feedback").summary().totalAmount());
+    }
+
+    private static Appointment appointment(LocalDateTime dateTime) {
+        User user = User.builder()
+                .firstName("Test")
+                .lastName("Test")
+                .email("example@gmail.com")
+                .build();
+
+        Specialist specialist = Specialist.builder()
+                .firstName("Test")
+                .lastName("Test")
+                .specialty(Specialty.builder().specialtyName("Test name").build())
+                .addresses(List.of(new SpecialistAddress("123 Main St")))
+                .build();
+
+        Appointment appointment = new Appointment();
+        appointment.setUser(user);
+        appointment.setSpecialist(specialist);
+        appointment.setDateTime(dateTime);
+        return appointment;
+    }
 }
@@ -0,0 +1,192 @@
+package com.parunev.docconnect.service;
+
+import com.parunev.docconnect.models.Rating;
+import com.parunev.docconnect.models.RatingAggregate;
+import com.parunev.docconnect.models.specialist.Specialist;
+import com.parunev.docconnect.repositories.RatingAggregateRepository;
+import com.parunev.docconnect.repositories.SpecialistRepository;
+import com.parunev.docconnect.services.RatingAggregateService;
+import com.parunev.docconnect.utils.search.SpecialistSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RatingAggregateServiceTest {
+
+    @Mock
+    private RatingAggregateRepository ratingAggregateRepository;
+
+    @Mock
+    private SpecialistRepository specialistRepository;
+
+    @Mock
+    private SpecialistSearchIndex specialistSearchIndex;
+
+    @InjectMocks
+    private RatingAggregateService ratingAggregateService;
+
+    private Specialist specialist;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        specialist = mock(Specialist.class);
+        when(specialist.getId()).thenReturn(1L);
+        when(ratingAggregateRepository.save(any(RatingAggregate.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void testRecordRating_CreatesAggregateForFirstRating() {
+        when(ratingAggregateRepository.findBySpecialistIdForUpdate(1L)).thenReturn(Optional.empty());
+
+        RatingAggregate aggregate = ratingAggregateService.recordRating(rating(4));
+
+        assertEquals(specialist, aggregate.getSpecialist());
+        assertEquals(1, aggregate.getRatingCount());
+        assertEquals(4, aggregate.getRatingSum());
+        assertEquals(4.0, aggregate.getAverageRating());
+        assertEquals(1, aggregate.getFourStarCount());
+        verify(ratingAggregateRepository, times(1)).save(aggregate);
+    }
+
+    @Test
+    void testRecordRating_LocksSpecialistBeforeReadingAggregate() {
+        when(ratingAggregateRepository.findBySpecialistIdForUpdate(1L)).thenReturn(Optional.empty());
+
+        ratingAggregateService.recordRating(rating(4));
+
+        InOrder inOrder = inOrder(specialistRepository, ratingAggregateRepository);
+        inOrder.verify(specialistRepository).lockById(1L);
+        inOrder.verify(ratingAggregateRepository).findBySpecialistIdForUpdate(1L);
+    }
+
+    @Test
+    void testRecordRating_UpdatesExistingAggregate() {
+        RatingAggregate existing = RatingAggregate.builder()
+                .specialist(specialist)
+                .ratingCount(2)
+                .ratingSum(6)
+                .averageRating(3.0)
+                .threeStarCount(2)
+                .build();
+        when(ratingAggregateRepository.findBySpecialistIdForUpdate(1L)).thenReturn(Optional.of(existing));
+
+        RatingAggregate aggregate = ratingAggregateService.recordRating(rating(5));
+
+        assertEquals(3, aggregate.getRatingCount());
+        assertEquals(11, aggregate.getRatingSum());
+        assertEquals(11.0 / 3, aggregate.getAverageRating());
+        assertEquals(2, aggregate.getThreeStarCount());
+        assertEquals(1, aggregate.getFiveStarCount());
+        verify(specialistSearchIndex, times(1)).updateRating(1L, 11.0 / 3);
+    }
+
+    @Test
+    void testRemoveRating_RevertsAggregate() {
+        RatingAggregate existing = RatingAggregate.builder()
+                .specialist(specialist)
+                .ratingCount(2)
+                .ratingSum(6)
+                .averageRating(3.0)
+                .oneStarCount(1)
+                .fiveStarCount(1)
+                .build();
+        when(ratingAggregateRepository.findBySpecialistIdForUpdate(1L)).thenReturn(Optional.of(existing));
+
+        ratingAggregateService.removeRating(rating(1));
+
+        assertEquals(1, existing.getRatingCount());
+        assertEquals(5, existing.getRatingSum());
+        assertEquals(5.0, existing.getAverageRating());
+        assertEquals(0, existing.getOneStarCount());
+        assertEquals(1, existing.getFiveStarCount());
+        verify(ratingAggregateRepository, times(1)).save(existing);
+    }
+
+    @Test
+    void testRemoveRating_LastRatingResetsAverage() {
+        RatingAggregate existing = RatingAggregate.builder()
+                .specialist(specialist)
+                .ratingCount(1)
+                .ratingSum(3)
+                .averageRating(3.0)
+                .threeStarCount(1)
+                .build();
+        when(ratingAggregateRepository.findBySpecialistIdForUpdate(1L)).thenReturn(Optional.of(existing));
+
+        ratingAggregateService.removeRating(rating(3));
+
+        assertEquals(0, existing.getRatingCount());
+        assertEquals(0, existing.getRatingSum());
+        assertEquals(0.0, existing.getAverageRating());
+        assertEquals(0, existing.getThreeStarCount());
+    }
+
+    @Test
+    void testRemoveRating_DriftedCounterStaysAtZero() {
+        RatingAggregate existing = RatingAggregate.builder()
+                .specialist(specialist)
+                .ratingCount(1)
+                .ratingSum(5)
+                .averageRating(5.0)
+                .fiveStarCount(1)
+                .build();
+        when(ratingAggregateRepository.findBySpecialistIdForUpdate(1L)).thenReturn(Optional.of(existing));
+
+        ratingAggregateService.removeRating(rating(2));
+
+        assertEquals(0, existing.getRatingCount());
+        assertEquals(0, existing.getTwoStarCount());
+        assertEquals(1, existing.getFiveStarCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBackfillMissingAggregates() {
+        when(ratingAggregateRepository.countRatingsWithoutAggregate()).thenReturn(List.of(
+                new Object[]{1L, 5, 2L},
+                new Object[]{1L, 2, 1L}));
+        when(specialistRepository.getReferenceById(1L)).thenReturn(specialist);
+
+        ratingAggregateService.backfillMissingAggregates();
+
+        ArgumentCaptor<Collection<RatingAggregate>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(ratingAggregateRepository, times(1)).saveAll(captor.capture());
+
+        RatingAggregate aggregate = captor.getValue().iterator().next();
+        assertEquals(1, captor.getValue().size());
+        assertEquals(3, aggregate.getRatingCount());
+        assertEquals(12, aggregate.getRatingSum());
+        assertEquals(4.0, aggregate.getAverageRating());
+        assertEquals(2, aggregate.getFiveStarCount());
+        assertEquals(1, aggregate.getTwoStarCount());
+    }
+
+    @Test
+    void testBackfillMissingAggregates_NothingToBackfill() {
+        when(ratingAggregateRepository.countRatingsWithoutAggregate()).thenReturn(List.of());
+
+        ratingAggregateService.backfillMissingAggregates();
+
+        verify(ratingAggregateRepository, never()).saveAll(any());
+    }
+
+    private Rating rating(int size) {
+        return Rating.builder()
+                .specialist(specialist)
+                .ratingSize(size)
+                .build();
+    }
+}
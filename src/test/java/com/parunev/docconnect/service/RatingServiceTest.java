@@ -3,16 +3,20 @@ package com.parunev.docconnect.service;
 import com.parunev.docconnect.models.Rating;
 import com.parunev.docconnect.models.User;
 import com.parunev.docconnect.models.enums.Role;
+import com.parunev.docconnect.models.payloads.pagination.CursorPageResponse;
 import com.parunev.docconnect.models.payloads.rating.RatingRequest;
 import com.parunev.docconnect.models.payloads.rating.RatingResponse;
 import com.parunev.docconnect.models.specialist.Specialist;
 import com.parunev.docconnect.repositories.RatingRepository;
 import com.parunev.docconnect.repositories.SpecialistRepository;
 import com.parunev.docconnect.repositories.UserRepository;
+import com.parunev.docconnect.security.exceptions.InvalidCursorException;
 import com.parunev.docconnect.security.exceptions.RatingNotFoundException;
 import com.parunev.docconnect.security.exceptions.SpecialistNotFoundException;
 import com.parunev.docconnect.security.exceptions.UserNotFoundException;
+import com.parunev.docconnect.services.RatingAggregateService;
 import com.parunev.docconnect.services.RatingService;
+import com.parunev.docconnect.utils.pagination.Cursors;
 import com.parunev.docconnect.utils.validators.AuthHelpers;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -56,6 +60,9 @@ class RatingServiceTest {
     @Mock
     private AuthHelpers authHelpers;
 
+    @Mock
+    private RatingAggregateService ratingAggregateService;
+
     @InjectMocks
     private RatingService ratingService;
 
@@ -108,6 +115,7 @@ class RatingServiceTest {
         verify(userRepository, times(1)).findByEmail(userEmail);
         verify(specialistRepository, times(1)).findById(specialistId);
         verify(ratingRepository, times(1)).getAverageRatingBySpecialistId(specialistId);
+        verify(ratingAggregateService, times(1)).recordRating(any());
     }
 
     @Test
@@ -212,6 +220,7 @@ class RatingServiceTest {
 
         verify(ratingRepository, times(1)).findById(ratingId);
         verify(ratingRepository, times(1)).delete(rating);
+        verify(ratingAggregateService, times(1)).removeRating(rating);
     }
 
     @Test
@@ -261,6 +270,47 @@ class RatingServiceTest {
         assertNotNull(responseList.get(2).getTimestamp());
     }
 
+    @Test
+    void testGetAllRatingsForSpecialistByCursor() {
+        Long specialistId = 1L;
+        Mockito.when(authHelpers.getRequest()).thenReturn(httpServletRequest);
+        List<Rating> ratings = createMockRatingEntities().stream().map(Mockito::spy).toList();
+        Mockito.when(ratings.get(0).getId()).thenReturn(30L);
+        Mockito.when(ratings.get(1).getId()).thenReturn(20L);
+        Mockito.when(ratingRepository.findAllBySpecialistIdBefore(specialistId, null, PageRequest.of(0, 3)))
+                .thenReturn(ratings);
+
+        CursorPageResponse<RatingResponse> firstPage = ratingService
+                .getAllRatingsForSpecialistByCursor(specialistId, "", 2);
+
+        assertEquals(2, firstPage.getContent().size());
+        assertTrue(firstPage.isHasNext());
+        assertEquals(Cursors.encode(20L), firstPage.getNextCursor());
+
+        Mockito.when(ratingRepository.findAllBySpecialistIdBefore(specialistId, 20L, PageRequest.of(0, 3)))
+                .thenReturn(ratings.subList(2, 3));
+
+        CursorPageResponse<RatingResponse> lastPage = ratingService
+                .getAllRatingsForSpecialistByCursor(specialistId, firstPage.getNextCursor(), 2);
+
+        assertEquals(1, lastPage.getContent().size());
+        assertFalse(lastPage.isHasNext());
+        assertNull(lastPage.getNextCursor());
+    }
+
+    @Test
+    void testGetAllRatingsForSpecialistByCursor_InvalidCursor() {
+        Mockito.when(httpServletRequest.getRequestURI()).thenReturn("/api/v1/specialists/1/ratings");
+        Mockito.when(authHelpers.getRequest()).thenReturn(httpServletRequest);
+
+        InvalidCursorException exception = assertThrows(InvalidCursorException.class,
+                () -> ratingService.getAllRatingsForSpecialistByCursor(1L, "not-a-cursor", 20));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getApiError().getStatus());
+        assertEquals("/api/v1/specialists/1/ratings", exception.getApiError().getPath());
+        verifyNoInteractions(ratingRepository);
+    }
+
     private List<Rating> createMockRatingEntities() {
         List<Rating> ratings = new ArrayList<>();
         String comment = "Comment1";
@@ -0,0 +1,103 @@
+package com.parunev.docconnect.service;
+
+import com.parunev.docconnect.SharedDatabaseTest;
+import com.parunev.docconnect.models.enums.Gender;
+import com.parunev.docconnect.models.enums.Role;
+import com.parunev.docconnect.models.payloads.pagination.CursorPageResponse;
+import com.parunev.docconnect.models.payloads.specialist.SpecialistAddressResponse;
+import com.parunev.docconnect.models.payloads.specialist.SpecialistResponse;
+import com.parunev.docconnect.models.specialist.Specialist;
+import com.parunev.docconnect.models.specialist.SpecialistAddress;
+import com.parunev.docconnect.repositories.*;
+import com.parunev.docconnect.services.SpecialistService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the number of SQL statements and loaded entities of a specialist search.
+ */
+class SpecialistSearchStatementCountTest extends SharedDatabaseTest {
+
+    @Autowired
+    private SpecialistService specialistService;
+
+    @Autowired
+    private SpecialistAddressRepository specialistAddressRepository;
+
+    @Autowired
+    private SpecialistRepository specialistRepository;
+
+    @BeforeAll
+    void setUp() {
+        for (int i = 1; i <= 3; i++) {
+            List<SpecialistAddress> addresses = specialistAddressRepository.saveAll(List.of(
+                    new SpecialistAddress("Clinic %d, Sofia".formatted(i)),
+                    new SpecialistAddress("Hospital %d, Sofia".formatted(i))));
+
+            specialistRepository.save(Specialist.builder()
+                    .firstName("John" + i)
+                    .lastName("Smith")
+                    .email("john%d@example.com".formatted(i))
+                    .experienceYears(i)
+                    .gender(Gender.MALE)
+                    .role(Role.ROLE_SPECIALIST)
+                    .city(sofia())
+                    .country(bulgaria())
+                    .specialty(cardiology())
+                    .addresses(addresses)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testSearchDoctorsPageable_ReadsPageWithoutEntities() {
+        Page<SpecialistResponse> page = specialistService.searchDoctorsPageable(null, "john", null, PageRequest.of(0, 2));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getContent().size());
+
+        SpecialistResponse first = page.getContent().get(0);
+        assertEquals("Smith", first.getLastName());
+        assertEquals("Sofia", first.getCity().getCityName());
+        assertEquals("Bulgaria", first.getCity().getCountryName());
+        assertEquals("Bulgaria", first.getCountry().getCountryName());
+        assertEquals("Cardiology", first.getSpecialty().getSpecialtyName());
+        assertEquals(0.0, first.getRating());
+        page.forEach(specialist -> assertEquals(List.of("Clinic %d, Sofia".formatted(specialist.getExperienceYears()),
+                        "Hospital %d, Sofia".formatted(specialist.getExperienceYears())),
+                specialist.getAddresses().stream().map(SpecialistAddressResponse::getDocAddress).toList()));
+
+        // The page, its count and the addresses of its specialists.
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testSearchDoctorsByCursor_ReadsPageWithoutEntities() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        CursorPageResponse<SpecialistResponse> page = specialistService.searchDoctorsByCursor(null, "john", null, null, 2);
+
+        assertTrue(page.isHasNext());
+        assertEquals(2, page.getContent().size());
+        page.getContent().forEach(specialist -> assertEquals(2, specialist.getAddresses().size()));
+
+        // The page and the addresses of its specialists.
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
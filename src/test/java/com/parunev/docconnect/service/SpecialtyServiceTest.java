@@ -1,18 +1,20 @@
 package com.parunev.docconnect.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.parunev.docconnect.models.Specialty;
 import com.parunev.docconnect.models.payloads.specialty.SpecialtyRequest;
 import com.parunev.docconnect.models.payloads.specialty.SpecialtyResponse;
+import com.parunev.docconnect.repositories.CityRepository;
+import com.parunev.docconnect.repositories.CountryRepository;
 import com.parunev.docconnect.repositories.SpecialtyRepository;
 import com.parunev.docconnect.security.exceptions.SpecialtyServiceException;
 import com.parunev.docconnect.services.SpecialtyService;
+import com.parunev.docconnect.utils.cache.ReferenceDataCache;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -33,15 +35,15 @@ class SpecialtyServiceTest {
     @Mock
     private HttpServletRequest httpServletRequest;
 
-    @Mock
-    private ModelMapper modelMapper;
+    private ReferenceDataCache referenceDataCache;
 
-    @InjectMocks
     private SpecialtyService specialtyService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        referenceDataCache = new ReferenceDataCache(mock(CountryRepository.class), mock(CityRepository.class), specialtyRepository, new ObjectMapper(), 100, 60, 1024);
+        specialtyService = new SpecialtyService(specialtyRepository, httpServletRequest, referenceDataCache);
     }
 
     @Test
@@ -202,7 +204,7 @@ class SpecialtyServiceTest {
         specialtyResponse.setSpecialtyName("Specialty Test 1");
         specialtyResponse.setImageUrl("https://google.com/image1.url");
 
-        when(specialtyService.getSpecialtyById(specialtyId)).thenReturn(specialtyResponse);
+        assertEquals(specialtyResponse, specialtyService.getSpecialtyById(specialtyId));
 
         assertEquals(sampleSpecialty.getSpecialtyName(), specialtyResponse.getSpecialtyName());
         assertEquals(sampleSpecialty.getImageUrl(), specialtyResponse.getImageUrl());
@@ -230,12 +232,12 @@ class SpecialtyServiceTest {
 
     @Test
     void testGetAllSpecialties_Success(){
-        Pageable pageable = Pageable.ofSize(10).withPage(1);
+        Pageable pageable = Pageable.ofSize(10).withPage(0);
 
         Page<Specialty> samplePage = new PageImpl<>(List.of(
                 Specialty.builder().specialtyName("Specialty1").imageUrl("https://google.com/image1.url").build(),
                 Specialty.builder().specialtyName("Specialty2").imageUrl("https://google.com/image2.url").build()
-        ));
+        ), pageable, 2);
         when(specialtyRepository.findAll(pageable)).thenReturn(samplePage);
 
         Page<SpecialtyResponse> specialtyResponses = specialtyService.getAllSpecialtiesPageable(pageable);
@@ -248,7 +250,7 @@ class SpecialtyServiceTest {
         when(httpServletRequest.getRequestURI()).thenReturn("/api/v1/specialties");
 
         Pageable pageable = Pageable.ofSize(10).withPage(1);
-        when(specialtyRepository.findAll(pageable)).thenReturn(Page.empty());
+        when(specialtyRepository.findAll(pageable)).thenReturn(Page.empty(pageable));
 
         SpecialtyServiceException exception = assertThrows(SpecialtyServiceException.class,
                 () -> specialtyService.getAllSpecialtiesPageable(pageable));
@@ -0,0 +1,85 @@
+package com.parunev.docconnect.service;
+
+import com.parunev.docconnect.config.TokenPurgeConfig;
+import com.parunev.docconnect.repositories.ConfirmationTokenRepository;
+import com.parunev.docconnect.repositories.PasswordTokenRepository;
+import com.parunev.docconnect.services.TokenPurgeService;
+import com.parunev.docconnect.utils.DCMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TokenPurgeServiceTest {
+
+    @Mock
+    private ConfirmationTokenRepository confirmationTokenRepository;
+
+    @Mock
+    private PasswordTokenRepository passwordTokenRepository;
+
+    @Spy
+    private TokenPurgeConfig tokenPurgeConfig = new TokenPurgeConfig();
+
+    @Spy
+    private DCMetrics dcMetrics = new DCMetrics(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private TokenPurgeService tokenPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        tokenPurgeConfig.setBatchSize(2);
+        tokenPurgeConfig.setPauseMs(0);
+        tokenPurgeConfig.setRetention(Duration.ofDays(7));
+    }
+
+    @Test
+    void testPurgeExpiredTokens_DeletesInBatches() {
+        when(confirmationTokenRepository.findIdsExpiredBefore(any(), any()))
+                .thenReturn(List.of(1L, 2L)).thenReturn(List.of(3L));
+        when(passwordTokenRepository.findIdsExpiredBefore(any(), any())).thenReturn(List.of());
+
+        LocalDateTime before = LocalDateTime.now().minusDays(7);
+        assertEquals(3, tokenPurgeService.purgeExpiredTokens());
+
+        verify(confirmationTokenRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(confirmationTokenRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(passwordTokenRepository, never()).deleteAllByIdInBatch(any());
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(confirmationTokenRepository, times(2)).findIdsExpiredBefore(cutoff.capture(), page.capture());
+        assertFalse(cutoff.getValue().isBefore(before));
+        assertEquals(2, page.getValue().getPageSize());
+        assertEquals(3, dcMetrics.getRegistry().get(DCMetrics.TOKEN_PURGE)
+                .tag("table", "CONFIRMATION_TOKENS").summary().totalAmount());
+    }
+
+    @Test
+    void testPurgeExpiredTokens_StopsAfterMaxBatches() {
+        tokenPurgeConfig.setMaxBatches(2);
+        when(confirmationTokenRepository.findIdsExpiredBefore(any(), any())).thenReturn(List.of());
+        when(passwordTokenRepository.findIdsExpiredBefore(any(), any()))
+                .thenReturn(List.of(1L, 2L)).thenReturn(List.of(3L, 4L)).thenReturn(List.of(5L, 6L));
+
+        assertEquals(4, tokenPurgeService.purgeExpiredTokens());
+
+        verify(passwordTokenRepository, times(2)).deleteAllByIdInBatch(any());
+        verify(confirmationTokenRepository, never()).deleteAllByIdInBatch(any());
+    }
+}
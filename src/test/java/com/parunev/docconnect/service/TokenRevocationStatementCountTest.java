@@ -0,0 +1,82 @@
+package com.parunev.docconnect.service;
+
+import com.parunev.docconnect.SharedDatabaseTest;
+import com.parunev.docconnect.models.User;
+import com.parunev.docconnect.models.enums.AuthProvider;
+import com.parunev.docconnect.models.enums.Gender;
+import com.parunev.docconnect.models.enums.Role;
+import com.parunev.docconnect.models.specialist.Specialist;
+import com.parunev.docconnect.repositories.*;
+import com.parunev.docconnect.utils.validators.AuthHelpers;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that revoking all tokens of a user or specialist is an update and a read of the new version in a single
+ * transaction, however many tokens they were issued. Two statements are the minimum: the JPQL update cannot return
+ * the new version, since MySQL has no {@code RETURNING} clause, and the version cannot be computed from the entity
+ * in memory, because a concurrent revocation may have incremented it as well. Running both in one transaction makes
+ * the read see the version this revocation committed.
+ */
+class TokenRevocationStatementCountTest extends SharedDatabaseTest {
+
+    @Autowired
+    private AuthHelpers authHelpers;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SpecialistRepository specialistRepository;
+
+    private User user;
+    private Specialist specialist;
+
+    @BeforeAll
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("revoked@example.com")
+                .password("password")
+                .firstName("Test")
+                .lastName("Patient")
+                .role(Role.ROLE_USER)
+                .provider(AuthProvider.LOCAL)
+                .build());
+
+        specialist = specialistRepository.save(Specialist.builder()
+                .email("doctor@example.com")
+                .firstName("Doctor")
+                .lastName("Specialist")
+                .gender(Gender.FEMALE)
+                .role(Role.ROLE_SPECIALIST)
+                .city(sofia())
+                .country(bulgaria())
+                .specialty(cardiology())
+                .build());
+    }
+
+    @Test
+    void testRevokeUserTokens_User_IssuesUpdateAndVersionReadInOneTransaction() {
+        authHelpers.revokeUserTokens(user);
+        authHelpers.revokeUserTokens(user);
+
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getSessionOpenCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, user.getTokenVersion());
+        assertEquals(2, userRepository.findById(user.getId()).orElseThrow().getTokenVersion());
+    }
+
+    @Test
+    void testRevokeUserTokens_Specialist_IssuesUpdateAndVersionReadInOneTransaction() {
+        authHelpers.revokeUserTokens(specialist);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getSessionOpenCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, specialist.getTokenVersion());
+        assertEquals(1, specialistRepository.findById(specialist.getId()).orElseThrow().getTokenVersion());
+    }
+}
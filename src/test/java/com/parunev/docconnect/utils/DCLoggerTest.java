@@ -0,0 +1,89 @@
+package com.parunev.docconnect.utils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DCLoggerTest {
+
+    private final DCLogger dcLogger = new DCLogger(DCLoggerTest.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(DCLoggerTest.class);
+        logger.setLevel(Level.INFO);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+        DCLogger.setDCLoggerProperties(null, null);
+    }
+
+    @Test
+    void testSetDCLoggerProperties_BindsAndClearsMdc() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("192.0.2.1");
+        request.addHeader("X-Forwarded-For", "203.0.113.7");
+
+        DCLogger.setDCLoggerProperties("correlation", request);
+
+        assertEquals("correlation", DCLogger.getCorrelationId());
+        assertEquals("203.0.113.7", MDC.get(DCLogger.CLIENT_IP));
+
+        DCLogger.setDCLoggerProperties(null, null);
+
+        assertNull(DCLogger.getCorrelationId());
+        assertNull(MDC.get(DCLogger.CLIENT_IP));
+    }
+
+    @Test
+    void testSetDCLoggerProperties_FallsBackToRemoteAddress() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("192.0.2.1");
+        request.addHeader("X-Forwarded-For", "unknown");
+
+        DCLogger.setDCLoggerProperties("correlation", request);
+
+        assertEquals("192.0.2.1", MDC.get(DCLogger.CLIENT_IP));
+    }
+
+    @Test
+    void testInfo_KeepsMessageAndContextApart() {
+        DCLogger.setDCLoggerProperties("correlation", new MockHttpServletRequest());
+
+        dcLogger.info("Email sent to: {}", "john@example.com");
+        dcLogger.debug("Not logged: {}", "john@example.com");
+
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals("Email sent to: john@example.com", event.getFormattedMessage());
+        assertEquals("correlation", event.getMDCPropertyMap().get(DCLogger.CORRELATION_ID));
+    }
+
+    @Test
+    void testError_PassesThrowable() {
+        IllegalStateException exception = new IllegalStateException("boom");
+
+        dcLogger.error("Failed to send email to {}", exception, "john@example.com");
+
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals("Failed to send email to john@example.com", event.getFormattedMessage());
+        assertNotNull(event.getThrowableProxy());
+        assertEquals("boom", event.getThrowableProxy().getMessage());
+    }
+}
@@ -0,0 +1,50 @@
+package com.parunev.docconnect.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsTest {
+
+    @Test
+    void testFactory_FailsFastBeforeJava21() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> VirtualThreads.factory("test-"));
+        assertTrue(exception.getMessage().contains("Java 21"));
+        assertThrows(IllegalStateException.class, () -> VirtualThreads.newThreadPerTaskExecutor("test-"));
+    }
+
+    @Test
+    void testFactory_CreatesNamedVirtualThreads() {
+        assumeTrue(VirtualThreads.isSupported());
+
+        ThreadFactory factory = VirtualThreads.factory("test-");
+        Thread first = factory.newThread(() -> { });
+        Thread second = factory.newThread(() -> { });
+
+        assertEquals("test-0", first.getName());
+        assertEquals("test-1", second.getName());
+        assertTrue(first.isDaemon());
+    }
+
+    @Test
+    void testNewThreadPerTaskExecutor_RunsTasks() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("test-");
+        try {
+            Future<String> name = executor.submit(() -> Thread.currentThread().getName());
+            assertTrue(name.get().startsWith("test-"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
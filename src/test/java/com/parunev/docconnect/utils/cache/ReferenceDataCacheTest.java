@@ -0,0 +1,150 @@
+package com.parunev.docconnect.utils.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parunev.docconnect.models.City;
+import com.parunev.docconnect.models.Country;
+import com.parunev.docconnect.models.payloads.city.CityResponse;
+import com.parunev.docconnect.models.payloads.country.CountryResponse;
+import com.parunev.docconnect.repositories.CityRepository;
+import com.parunev.docconnect.repositories.CountryRepository;
+import com.parunev.docconnect.repositories.SpecialtyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReferenceDataCacheTest {
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private CityRepository cityRepository;
+
+    @Mock
+    private SpecialtyRepository specialtyRepository;
+
+    private ReferenceDataCache referenceDataCache;
+    private Country bulgaria;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        referenceDataCache = new ReferenceDataCache(countryRepository, cityRepository, specialtyRepository,
+                new ObjectMapper(), 100, 60, 1024);
+        bulgaria = Country.builder().countryName("Bulgaria").build();
+    }
+
+    @Test
+    void testFindCountry_ChecksExistenceOnce() {
+        when(countryRepository.existsById(1L)).thenReturn(true);
+        when(countryRepository.getReferenceById(1L)).thenReturn(bulgaria);
+
+        assertSame(bulgaria, referenceDataCache.findCountry(1L).orElseThrow());
+        assertSame(bulgaria, referenceDataCache.findCountry(1L).orElseThrow());
+
+        verify(countryRepository, times(1)).existsById(1L);
+        verify(countryRepository, times(2)).getReferenceById(1L);
+        verify(countryRepository, never()).findById(1L);
+    }
+
+    @Test
+    void testFindCountry_MissingIsNotCached() {
+        when(countryRepository.existsById(1L)).thenReturn(false);
+
+        assertTrue(referenceDataCache.findCountry(1L).isEmpty());
+
+        when(countryRepository.existsById(1L)).thenReturn(true);
+        when(countryRepository.getReferenceById(1L)).thenReturn(bulgaria);
+        assertTrue(referenceDataCache.findCountry(1L).isPresent());
+    }
+
+    @Test
+    void testFindCity_InvalidatedWhileLoadingIsNotStored() {
+        when(cityRepository.existsById(1L)).thenAnswer(invocation -> {
+            referenceDataCache.invalidateCities();
+            return true;
+        });
+        when(cityRepository.getReferenceById(1L)).thenReturn(City.builder().cityName("Sofia").build());
+
+        assertTrue(referenceDataCache.findCity(1L).isPresent());
+        assertTrue(referenceDataCache.findCity(1L).isPresent());
+
+        verify(cityRepository, times(2)).existsById(1L);
+    }
+
+    @Test
+    void testAllCountries_InvalidatedWhileLoadingIsNotStored() {
+        when(countryRepository.findAll()).thenAnswer(invocation -> {
+            referenceDataCache.invalidateCountries();
+            return List.of(bulgaria);
+        }).thenReturn(List.of(bulgaria));
+
+        assertEquals("Bulgaria", referenceDataCache.allCountries().body().get(0).getCountryName());
+        referenceDataCache.allCountries();
+        referenceDataCache.allCountries();
+
+        verify(countryRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testAllCountries_ETagFollowsContent() {
+        when(countryRepository.findAll()).thenReturn(List.of(bulgaria));
+        ReferenceDataCache.CachedResponse<List<CountryResponse>> first = referenceDataCache.allCountries();
+
+        assertSame(first, referenceDataCache.allCountries());
+        assertEquals("Bulgaria", first.body().get(0).getCountryName());
+
+        referenceDataCache.invalidateCountries();
+        assertEquals(first.etag(), referenceDataCache.allCountries().etag());
+
+        referenceDataCache.invalidateCountries();
+        when(countryRepository.findAll()).thenReturn(List.of(bulgaria, Country.builder().countryName("Kosovo").build()));
+        assertNotEquals(first.etag(), referenceDataCache.allCountries().etag());
+    }
+
+    @Test
+    void testInvalidateCountries_AlsoDropsCities() {
+        City sofia = City.builder().cityName("Sofia").country(bulgaria).build();
+        when(cityRepository.findAll()).thenReturn(List.of(sofia));
+        when(cityRepository.findAllByCountryId(1L)).thenReturn(List.of(sofia));
+
+        referenceDataCache.allCities();
+        referenceDataCache.citiesByCountry(1L);
+        referenceDataCache.invalidateCountries();
+        referenceDataCache.allCities();
+        referenceDataCache.citiesByCountry(1L);
+
+        verify(cityRepository, times(2)).findAll();
+        verify(cityRepository, times(2)).findAllByCountryId(1L);
+    }
+
+    @Test
+    void testInvalidateSpecialties_KeepsCities() {
+        when(cityRepository.findAll()).thenReturn(List.of());
+
+        referenceDataCache.allCities();
+        referenceDataCache.invalidateSpecialties();
+        referenceDataCache.allCities();
+
+        verify(cityRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testAllCities_SnapshotHoldsSerializedBody() throws Exception {
+        City sofia = City.builder().cityName("Sofia").country(bulgaria).build();
+        when(cityRepository.findAll()).thenReturn(List.of(sofia));
+
+        ReferenceDataCache.CachedResponse<List<CityResponse>> cities = referenceDataCache.allCities();
+        byte[] body = cities.snapshot().toResponseEntity(null).getBody();
+
+        assertArrayEquals(new ObjectMapper().writeValueAsBytes(cities.body()), body);
+        assertEquals(cities.etag(), cities.snapshot().etag());
+    }
+}
@@ -0,0 +1,80 @@
+package com.parunev.docconnect.utils.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseSnapshotTest {
+
+    private static final byte[] JSON = ("[" + "{\"countryName\":\"Bulgaria\"},".repeat(100) + "{}]")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testToResponseEntity_Uncompressed() {
+        ResponseSnapshot snapshot = ResponseSnapshot.of(JSON, -1);
+
+        ResponseEntity<byte[]> response = snapshot.toResponseEntity("gzip, deflate");
+
+        assertFalse(snapshot.isCompressed());
+        assertSame(JSON, response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals(snapshot.etag(), response.getHeaders().getETag());
+        assertEquals("no-cache", response.getHeaders().getCacheControl());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void testToResponseEntity_GzipWhenAccepted() throws IOException {
+        ResponseSnapshot snapshot = ResponseSnapshot.of(JSON, 1024);
+
+        ResponseEntity<byte[]> response = snapshot.toResponseEntity("gzip, deflate, br");
+
+        assertTrue(snapshot.isCompressed());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaders().getVary().get(0));
+        assertNotEquals(snapshot.etag(), response.getHeaders().getETag());
+        assertTrue(response.getBody().length < JSON.length);
+        assertArrayEquals(JSON, gunzip(response.getBody()));
+    }
+
+    @Test
+    void testToResponseEntity_PlainWhenGzipNotAccepted() {
+        ResponseSnapshot snapshot = ResponseSnapshot.of(JSON, 1024);
+
+        ResponseEntity<byte[]> response = snapshot.toResponseEntity(null);
+
+        assertSame(JSON, response.getBody());
+        assertEquals(snapshot.etag(), response.getHeaders().getETag());
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaders().getVary().get(0));
+    }
+
+    @Test
+    void testOf_SmallBodiesAreNotCompressed() {
+        assertFalse(ResponseSnapshot.of("[]".getBytes(StandardCharsets.UTF_8), 1024).isCompressed());
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(ResponseSnapshot.acceptsGzip("gzip"));
+        assertTrue(ResponseSnapshot.acceptsGzip("deflate, GZIP;q=0.8"));
+        assertTrue(ResponseSnapshot.acceptsGzip("*"));
+        assertFalse(ResponseSnapshot.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseSnapshot.acceptsGzip("deflate, br"));
+        assertFalse(ResponseSnapshot.acceptsGzip(null));
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
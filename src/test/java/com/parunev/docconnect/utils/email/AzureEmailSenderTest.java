@@ -7,7 +7,6 @@ import com.azure.core.util.polling.PollResponse;
 import com.azure.core.util.polling.SyncPoller;
 import com.parunev.docconnect.security.exceptions.EmailSenderException;
 import com.parunev.docconnect.security.payload.EmailError;
-import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -28,9 +27,6 @@ class AzureEmailSenderTest {
     @Mock
     private SyncPoller<EmailSendResult, EmailSendResult> poller;
 
-    @Mock
-    private HttpServletRequest request;
-
     @Mock
     private PollResponse<EmailSendResult> pollResponse;
 
@@ -55,12 +51,10 @@ class AzureEmailSenderTest {
 
     @Test
     void testSend_Failure() {
-        when(request.getRequestURI()).thenReturn("/api/v1/auth");
         when(emailClient.beginSend(any())).thenReturn(poller);
         when(poller.waitForCompletion()).thenReturn(pollResponse);
 
         doThrow(new EmailSenderException(EmailError.builder()
-                .path(request.getRequestURI())
                 .error("Failed to send email.")
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .build()));
@@ -0,0 +1,144 @@
+package com.parunev.docconnect.utils.email;
+
+import com.parunev.docconnect.config.EmailQueueConfig;
+import com.parunev.docconnect.security.exceptions.EmailSenderException;
+import com.parunev.docconnect.utils.DCMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class QueuedEmailSenderTest {
+
+    @Mock
+    private EmailSender transport;
+
+    private EmailQueueConfig config;
+    private QueuedEmailSender emailSender;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        config = new EmailQueueConfig();
+        config.setWorkers(1);
+        config.setMaxAttempts(3);
+        config.setInitialBackoffMs(1);
+        config.setMaxBackoffMs(5);
+        meterRegistry = new SimpleMeterRegistry();
+        emailSender = new QueuedEmailSender(transport, config, new DCMetrics(meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        emailSender.shutdown();
+    }
+
+    @Test
+    void testSend_DeliversInBackground() {
+        emailSender.send("test@test.com", "Hello, this is the email.", "Test Subject");
+
+        verify(transport, timeout(1000)).send("test@test.com", "Hello, this is the email.", "Test Subject");
+        awaitQueueDrained();
+        assertEquals(1, emailSender.stats().sent());
+    }
+
+    @Test
+    void testSend_RetriesFailedDelivery() {
+        doThrow(new RuntimeException("Mail server unavailable"))
+                .doNothing()
+                .when(transport).send(anyString(), anyString(), anyString());
+
+        emailSender.send("test@test.com", "Hello, this is the email.", "Test Subject");
+
+        verify(transport, timeout(1000).times(2)).send("test@test.com", "Hello, this is the email.", "Test Subject");
+        awaitQueueDrained();
+        QueuedEmailSender.EmailQueueStats stats = emailSender.stats();
+        assertEquals(1, stats.sent());
+        assertEquals(1, stats.retried());
+        assertTrue(emailSender.getDeadLetters().isEmpty());
+    }
+
+    @Test
+    void testSend_PublishesMetrics() {
+        doThrow(new RuntimeException("Mail server unavailable"))
+                .doNothing()
+                .when(transport).send(anyString(), anyString(), anyString());
+
+        emailSender.send("test@test.com", "Hello, this is the email.", "Test Subject");
+
+        verify(transport, timeout(1000).times(2)).send("test@test.com", "Hello, this is the email.", "Test Subject");
+        awaitQueueDrained();
+        assertEquals(1, meterRegistry.get(DCMetrics.EMAIL_SEND).tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(DCMetrics.EMAIL_SEND).tag("outcome", "failure").timer().count());
+        assertEquals(1, meterRegistry.get(DCMetrics.EMAIL_DELIVERY).timer().count());
+        assertEquals(1, meterRegistry.get(DCMetrics.EMAIL_OUTCOMES).tag("outcome", "retried").functionCounter().count());
+        assertEquals(0, meterRegistry.get(DCMetrics.EMAIL_QUEUE_DEPTH).gauge().value());
+    }
+
+    @Test
+    void testSend_DeadLettersAfterLastAttempt() {
+        doThrow(new RuntimeException("Mail server unavailable"))
+                .when(transport).send(anyString(), anyString(), anyString());
+
+        emailSender.send("test@test.com", "Hello, this is the email.", "Test Subject");
+
+        verify(transport, timeout(1000).times(3)).send("test@test.com", "Hello, this is the email.", "Test Subject");
+        awaitQueueDrained();
+        List<QueuedEmailSender.DeadLetter> deadLetters = emailSender.getDeadLetters();
+        assertEquals(1, deadLetters.size());
+        assertEquals("test@test.com", deadLetters.get(0).to());
+        assertEquals(3, deadLetters.get(0).attempts());
+        assertEquals("Mail server unavailable", deadLetters.get(0).lastError());
+        assertEquals(1, emailSender.stats().deadLettered());
+    }
+
+    @Test
+    void testSend_RejectsWhenQueueIsFull() throws InterruptedException {
+        config.setCapacity(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(1, TimeUnit.SECONDS);
+            return null;
+        }).when(transport).send(anyString(), anyString(), anyString());
+
+        emailSender.send("first@test.com", "Hello, this is the email.", "Test Subject");
+        EmailSenderException exception = assertThrows(EmailSenderException.class,
+                () -> emailSender.send("second@test.com", "Hello, this is the email.", "Test Subject"));
+        release.countDown();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getEmailError().getStatus());
+        assertNull(exception.getEmailError().getPath());
+        assertEquals(1, emailSender.stats().rejected());
+    }
+
+    @Test
+    void testBackoff_DoublesUpToTheCap() {
+        config.setInitialBackoffMs(100);
+        config.setMaxBackoffMs(500);
+
+        assertEquals(100, emailSender.backoff(1));
+        assertEquals(200, emailSender.backoff(2));
+        assertEquals(400, emailSender.backoff(3));
+        assertEquals(500, emailSender.backoff(4));
+        assertEquals(500, emailSender.backoff(40));
+    }
+
+    private void awaitQueueDrained() {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (emailSender.stats().queueDepth() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(0, emailSender.stats().queueDepth());
+    }
+}
@@ -5,7 +5,6 @@ import com.parunev.docconnect.security.payload.EmailError;
 import jakarta.mail.Address;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -26,9 +25,6 @@ class SmtpEmailSenderTest {
     @Mock
     private JavaMailSender mailSender;
 
-    @Mock
-    private HttpServletRequest request;
-
     @Mock
     private MimeMessage mimeMessage;
 
@@ -70,10 +66,8 @@ class SmtpEmailSenderTest {
 
     @Test
     void testSend_Failure() {
-        when(request.getRequestURI()).thenReturn("/api/v1/auth");
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
         Mockito.doThrow(new EmailSenderException(EmailError.builder()
-                .path(request.getRequestURI())
                 .error("Failed to send email.")
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .build()))
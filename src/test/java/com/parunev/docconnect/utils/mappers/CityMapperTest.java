@@ -0,0 +1,41 @@
+package com.parunev.docconnect.utils.mappers;
+
+import com.parunev.docconnect.models.City;
+import com.parunev.docconnect.models.Country;
+import com.parunev.docconnect.models.payloads.city.CityResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CityMapperTest {
+
+    @Test
+    void testToResponse_IncludesCountryName() {
+        Country country = Country.builder().countryName("Bulgaria").build();
+        City city = City.builder().cityName("Sofia").country(country).build();
+
+        CityResponse response = CityMapper.toResponse(city);
+
+        assertEquals("Sofia", response.getCityName());
+        assertEquals("Bulgaria", response.getCountryName());
+        assertNull(response.getPath());
+        assertNull(response.getStatus());
+    }
+
+    @Test
+    void testToResponse_Null() {
+        assertNull(CityMapper.toResponse(null));
+    }
+
+    @Test
+    void testToResponses_KeepsOrder() {
+        List<CityResponse> responses = CityMapper.toResponses(List.of(
+                City.builder().cityName("Sofia").build(),
+                City.builder().cityName("Varna").build()));
+
+        assertEquals(List.of("Sofia", "Varna"), responses.stream().map(CityResponse::getCityName).toList());
+        assertNull(responses.get(0).getCountryName());
+    }
+}
@@ -0,0 +1,27 @@
+package com.parunev.docconnect.utils.mappers;
+
+import com.parunev.docconnect.models.payloads.specialist.SpecialistAddressResponse;
+import com.parunev.docconnect.models.specialist.SpecialistAddress;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpecialistAddressMapperTest {
+
+    @Test
+    void testToResponses() {
+        List<SpecialistAddressResponse> responses = SpecialistAddressMapper.toResponses(List.of(
+                new SpecialistAddress("123 Main St"),
+                new SpecialistAddress("456 Elm St")));
+
+        assertEquals(List.of("123 Main St", "456 Elm St"),
+                responses.stream().map(SpecialistAddressResponse::getDocAddress).toList());
+    }
+
+    @Test
+    void testToResponses_NullAddresses() {
+        assertTrue(SpecialistAddressMapper.toResponses(null).isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package com.parunev.docconnect.utils.pagination;
+
+import com.parunev.docconnect.models.payloads.pagination.CursorPageResponse;
+import com.parunev.docconnect.security.exceptions.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorsTest {
+
+    @Test
+    void testEncodeAndDecode() {
+        String cursor = Cursors.encode(42L);
+
+        assertFalse(cursor.contains("42"));
+        assertEquals(42L, Cursors.decode(cursor, "/api/v1/specialists"));
+    }
+
+    @Test
+    void testDecode_BlankCursorIsTheFirstPage() {
+        assertNull(Cursors.decode(null, "/api/v1/specialists"));
+        assertNull(Cursors.decode("", "/api/v1/specialists"));
+    }
+
+    @Test
+    void testDecode_InvalidCursor() {
+        String foreign = Base64.getUrlEncoder().encodeToString("42".getBytes(StandardCharsets.UTF_8));
+        String notANumber = Base64.getUrlEncoder().encodeToString("v1:abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(InvalidCursorException.class, () -> Cursors.decode("%%%", "/api/v1/specialists"));
+        assertThrows(InvalidCursorException.class, () -> Cursors.decode(foreign, "/api/v1/specialists"));
+        InvalidCursorException exception = assertThrows(InvalidCursorException.class,
+                () -> Cursors.decode(notANumber, "/api/v1/specialists"));
+        assertEquals("/api/v1/specialists", exception.getApiError().getPath());
+    }
+
+    @Test
+    void testSize_IsClamped() {
+        assertEquals(1, Cursors.size(0));
+        assertEquals(20, Cursors.size(20));
+        assertEquals(Cursors.MAX_SIZE, Cursors.size(10_000));
+    }
+
+    @Test
+    void testPage_ExtraRowSignalsNextPage() {
+        CursorPageResponse<String> page = Cursors.page(List.of(1L, 2L, 3L), 2, Function.identity(), String::valueOf);
+
+        assertEquals(List.of("1", "2"), page.getContent());
+        assertTrue(page.isHasNext());
+        assertEquals(2L, Cursors.decode(page.getNextCursor(), "/"));
+    }
+
+    @Test
+    void testPage_LastPage() {
+        CursorPageResponse<String> page = Cursors.page(List.of(1L, 2L), 2, Function.identity(), String::valueOf);
+
+        assertEquals(List.of("1", "2"), page.getContent());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+}
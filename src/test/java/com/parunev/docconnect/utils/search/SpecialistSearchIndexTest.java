@@ -0,0 +1,162 @@
+package com.parunev.docconnect.utils.search;
+
+import com.parunev.docconnect.models.payloads.specialist.SpecialistResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpecialistSearchIndexTest {
+
+    private SpecialistSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SpecialistSearchIndex();
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.rebuild(List.of(
+                entry(3L, "Maria", "Petrova", 1L, 2L),
+                entry(1L, "John", "Smith", 1L, 1L),
+                entry(2L, "Joanna", "Ivanova", 2L, 1L),
+                entry(4L, "Peter", "Johnson", 2L, 2L)));
+    }
+
+    @Test
+    void testSearch_NoFiltersReturnsAllInIdOrder() {
+        Page<SpecialistResponse> page = index.search("", null, null, PageRequest.of(0, 20));
+
+        assertEquals(4, page.getTotalElements());
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(page));
+    }
+
+    @Test
+    void testSearch_PrefixMatchesFirstOrLastName() {
+        Page<SpecialistResponse> page = index.search("jo", null, null, PageRequest.of(0, 20));
+
+        assertEquals(List.of(1L, 2L, 4L), ids(page));
+    }
+
+    @Test
+    void testSearch_PrefixIsCaseInsensitive() {
+        Page<SpecialistResponse> page = index.search("PET", null, null, PageRequest.of(0, 20));
+
+        assertEquals(List.of(3L, 4L), ids(page));
+    }
+
+    @Test
+    void testSearch_FiltersByCityAndSpecialty() {
+        assertEquals(List.of(1L, 3L), ids(index.search(null, 1L, null, PageRequest.of(0, 20))));
+        assertEquals(List.of(3L, 4L), ids(index.search(null, null, 2L, PageRequest.of(0, 20))));
+        assertEquals(List.of(4L), ids(index.search("jo", 2L, 2L, PageRequest.of(0, 20))));
+        assertTrue(index.search(null, 99L, null, PageRequest.of(0, 20)).isEmpty());
+    }
+
+    @Test
+    void testSearch_Paginates() {
+        Page<SpecialistResponse> page = index.search(null, null, null, PageRequest.of(1, 3));
+
+        assertEquals(4, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+        assertEquals(List.of(4L), ids(page));
+    }
+
+    @Test
+    void testSearchAfter_SeeksPastTheGivenId() {
+        assertEquals(List.of(1L, 2L), responseIds(index.searchAfter(null, null, null, null, 2)));
+        assertEquals(List.of(3L, 4L), responseIds(index.searchAfter(null, null, null, 2L, 2)));
+        assertEquals(List.of(2L, 4L), responseIds(index.searchAfter("jo", null, null, 1L, 5)));
+        assertTrue(index.searchAfter(null, null, null, 4L, 2).isEmpty());
+    }
+
+    @Test
+    void testIndex_AddsNewSpecialist() {
+        index.index(entry(5L, "Jordan", "Lee", 1L, 1L));
+
+        assertEquals(List.of(1L, 2L, 4L, 5L), ids(index.search("jo", null, null, PageRequest.of(0, 20))));
+    }
+
+    @Test
+    void testUpdateRating_ReplacesReturnedRating() {
+        index.updateRating(1L, 4.5);
+
+        SpecialistResponse response = index.search("smith", null, null, PageRequest.of(0, 20)).getContent().get(0);
+        assertEquals(4.5, response.getRating());
+        assertEquals("John", response.getFirstName());
+    }
+
+    @Test
+    void testUpdateRating_PatchesCompiledSnapshot() {
+        index.search(null, null, null, PageRequest.of(0, 20));
+
+        index.updateRating(3L, 3.0);
+
+        assertEquals(List.of(0.0, 0.0, 3.0, 0.0), index.search(null, null, null, PageRequest.of(0, 20)).stream()
+                .map(SpecialistResponse::getRating)
+                .toList());
+    }
+
+    @Test
+    void testWritesInsideTransaction_AppliedOnlyOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.index(entry(5L, "Jordan", "Lee", 1L, 1L));
+            index.updateRating(1L, 4.5);
+            assertEquals(4, index.search(null, null, null, PageRequest.of(0, 20)).getTotalElements());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Page<SpecialistResponse> page = index.search(null, null, null, PageRequest.of(0, 20));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids(page));
+        assertEquals(4.5, page.getContent().get(0).getRating());
+    }
+
+    @Test
+    void testWritesInsideTransaction_DroppedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.index(entry(5L, "Jordan", "Lee", 1L, 1L));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(index.search(null, null, null, PageRequest.of(0, 20))));
+    }
+
+    @Test
+    void testIsReady_OnlyWhenEnabledAndBuilt() {
+        SpecialistSearchIndex disabled = new SpecialistSearchIndex();
+        disabled.rebuild(List.of());
+        assertFalse(disabled.isReady());
+        assertTrue(index.isReady());
+    }
+
+    private static SpecialistSearchIndex.Entry entry(Long id, String firstName, String lastName, Long cityId, Long specialtyId) {
+        SpecialistResponse response = SpecialistResponse.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .rating(0.0)
+                .build();
+        return new SpecialistSearchIndex.Entry(id, firstName.toLowerCase(), lastName.toLowerCase(), cityId, specialtyId, response);
+    }
+
+    private static List<Long> ids(Page<SpecialistResponse> page) {
+        return responseIds(page.getContent());
+    }
+
+    private static List<Long> responseIds(List<SpecialistResponse> responses) {
+        return responses.stream().map(SpecialistResponse::getId).toList();
+    }
+}
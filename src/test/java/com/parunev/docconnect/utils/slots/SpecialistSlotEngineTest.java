@@ -0,0 +1,176 @@
+package com.parunev.docconnect.utils.slots;
+
+import com.parunev.docconnect.models.Appointment;
+import com.parunev.docconnect.models.specialist.Specialist;
+import com.parunev.docconnect.repositories.AppointmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SpecialistSlotEngineTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @InjectMocks
+    private SpecialistSlotEngine slotEngine;
+
+    private LocalDateTime booked;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        booked = LocalDateTime.of(nextWeekday(), LocalTime.of(10, 0));
+        when(appointmentRepository.findUpcomingDateTimesBySpecialistId(eq(1L), any(), any()))
+                .thenReturn(List.of(booked));
+    }
+
+    @Test
+    void testIsFree() {
+        assertFalse(slotEngine.isFree(1L, booked));
+        assertTrue(slotEngine.isFree(1L, booked.plusHours(1)));
+    }
+
+    @Test
+    void testWindowIsLoadedOnce() {
+        slotEngine.isFree(1L, booked);
+        slotEngine.isFree(1L, booked.plusHours(1));
+        slotEngine.tryReserve(1L, booked.plusHours(2));
+
+        verify(appointmentRepository, times(1)).findUpcomingDateTimesBySpecialistId(eq(1L), any(), any());
+    }
+
+    @Test
+    void testWindowIsReloadedAfterTtl() {
+        assertFalse(slotEngine.isFree(1L, booked));
+
+        // Canceled through another instance
+        when(appointmentRepository.findUpcomingDateTimesBySpecialistId(eq(1L), any(), any())).thenReturn(List.of());
+        ReflectionTestUtils.setField(slotEngine, "windowTtlMs", 0L);
+
+        assertTrue(slotEngine.isFree(1L, booked));
+        verify(appointmentRepository, times(2)).findUpcomingDateTimesBySpecialistId(eq(1L), any(), any());
+    }
+
+    @Test
+    void testTryReserve() {
+        LocalDateTime slot = booked.plusHours(2);
+
+        assertTrue(slotEngine.tryReserve(1L, slot));
+        assertFalse(slotEngine.tryReserve(1L, slot));
+        assertFalse(slotEngine.tryReserve(1L, booked));
+        assertFalse(slotEngine.isFree(1L, slot));
+    }
+
+    @Test
+    void testRelease() {
+        assertFalse(slotEngine.isFree(1L, booked));
+
+        slotEngine.release(1L, booked);
+
+        assertTrue(slotEngine.isFree(1L, booked));
+        assertTrue(slotEngine.tryReserve(1L, booked));
+    }
+
+    @Test
+    void testReleaseAppointment() {
+        Specialist specialist = mock(Specialist.class);
+        when(specialist.getId()).thenReturn(1L);
+        slotEngine.isFree(1L, booked);
+
+        slotEngine.release(Appointment.builder().specialist(specialist).dateTime(booked).build());
+
+        assertTrue(slotEngine.isFree(1L, booked));
+    }
+
+    @Test
+    void testReleaseOnRollback() {
+        LocalDateTime committed = booked.plusHours(1);
+        LocalDateTime rolledBack = booked.plusHours(2);
+
+        assertTrue(slotEngine.tryReserve(1L, committed));
+        assertTrue(slotEngine.tryReserve(1L, rolledBack));
+        completeTransaction(() -> slotEngine.releaseOnRollback(1L, committed), TransactionSynchronization.STATUS_COMMITTED);
+        completeTransaction(() -> slotEngine.releaseOnRollback(1L, rolledBack), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertFalse(slotEngine.isFree(1L, committed));
+        assertTrue(slotEngine.isFree(1L, rolledBack));
+    }
+
+    @Test
+    void testReleaseAfterCommit() {
+        Specialist specialist = mock(Specialist.class);
+        when(specialist.getId()).thenReturn(1L);
+        Appointment appointment = Appointment.builder().specialist(specialist).dateTime(booked).build();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            slotEngine.releaseAfterCommit(appointment);
+            assertFalse(slotEngine.isFree(1L, booked));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertTrue(slotEngine.isFree(1L, booked));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testFreeSlots() {
+        Map<LocalDate, List<LocalTime>> freeSlots = slotEngine.freeSlots(1L);
+
+        List<LocalTime> bookedDay = freeSlots.get(booked.toLocalDate());
+        assertEquals(SpecialistSlotEngine.SLOTS_PER_DAY - 1, bookedDay.size());
+        assertFalse(bookedDay.contains(LocalTime.of(10, 0)));
+        assertTrue(bookedDay.contains(LocalTime.of(9, 0)));
+        assertTrue(bookedDay.contains(LocalTime.of(16, 0)));
+        assertTrue(freeSlots.keySet().stream().noneMatch(date ->
+                date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY));
+        assertTrue(freeSlots.keySet().stream().allMatch(date ->
+                !date.isAfter(LocalDate.now().plusDays(SpecialistSlotEngine.WINDOW_DAYS))));
+    }
+
+    @Test
+    void testSlotIndex() {
+        assertEquals(0, SpecialistSlotEngine.slotIndex(LocalTime.of(9, 0)));
+        assertEquals(7, SpecialistSlotEngine.slotIndex(LocalTime.of(16, 0)));
+        assertEquals(-1, SpecialistSlotEngine.slotIndex(LocalTime.of(8, 0)));
+        assertEquals(-1, SpecialistSlotEngine.slotIndex(LocalTime.of(17, 0)));
+        assertEquals(-1, SpecialistSlotEngine.slotIndex(LocalTime.of(10, 30)));
+    }
+
+    private static void completeTransaction(Runnable work, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static LocalDate nextWeekday() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        while (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            date = date.plusDays(1);
+        }
+        return date;
+    }
+}
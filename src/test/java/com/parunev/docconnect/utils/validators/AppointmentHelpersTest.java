@@ -1,38 +1,51 @@
 package com.parunev.docconnect.utils.validators;
 
-import com.parunev.docconnect.models.Appointment;
 import com.parunev.docconnect.models.User;
 import com.parunev.docconnect.models.enums.Status;
 import com.parunev.docconnect.models.payloads.appointment.AppointmentRequest;
 import com.parunev.docconnect.models.specialist.Specialist;
 import com.parunev.docconnect.repositories.AppointmentRepository;
+import com.parunev.docconnect.repositories.SpecialistRepository;
 import com.parunev.docconnect.security.exceptions.AppointmentDeniedException;
+import com.parunev.docconnect.utils.DCMetrics;
+import com.parunev.docconnect.utils.slots.SpecialistSlotEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 class AppointmentHelpersTest {
 
     @Mock
     private AppointmentRepository appointmentRepository;
 
+    @Mock
+    private SpecialistRepository specialistRepository;
+
     @Mock
     private HttpServletRequest request;
 
+    @Mock
+    private SpecialistSlotEngine slotEngine;
+
+    @Spy
+    private DCMetrics dcMetrics = new DCMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private AppointmentHelpers appointmentHelpers;
 
@@ -46,14 +59,14 @@ class AppointmentHelpersTest {
         User user = new User();
         Specialist specialist = new Specialist();
         AppointmentRequest appointmentRequest = new AppointmentRequest();
-        // this needs to be changed or verified everytime on a CI/CD pipeline
-        // not quite sure how to find a way around this
-        appointmentRequest.setDateTime(LocalDateTime.of(2023,9,25,16, 0));
+        appointmentRequest.setDateTime(LocalDateTime.of(nextWeekday(), LocalTime.of(16, 0)));
 
-        when(appointmentRepository.findAllByUserId(user.getId())).thenReturn(new ArrayList<>());
-        when(appointmentRepository.findAllBySpecialistId(specialist.getId())).thenReturn(new ArrayList<>());
+        when(appointmentRepository.existsByUserIdAndDateTimeAndAppointmentStatus(any(), any(), any())).thenReturn(false);
+        when(slotEngine.isFree(any(), any())).thenReturn(true);
 
         appointmentHelpers.validateAppointmentRequest(appointmentRequest, user, specialist);
+
+        assertEquals(1, dcMetrics.getRegistry().get(DCMetrics.APPOINTMENT_VALIDATION).tag("outcome", "accepted").timer().count());
     }
 
     @Test
@@ -63,11 +76,62 @@ class AppointmentHelpersTest {
         AppointmentRequest appointmentRequest = new AppointmentRequest();
         appointmentRequest.setDateTime(LocalDateTime.now());
 
-        List<Appointment> specialistAppointments = new ArrayList<>();
-        specialistAppointments.add(new Appointment());
-        when(appointmentRepository.findAllBySpecialistId(specialist.getId())).thenReturn(specialistAppointments);
-
         assertThrows(AppointmentDeniedException.class, () -> appointmentHelpers.validateAppointmentRequest(appointmentRequest, user, specialist));
+        assertEquals(1, dcMetrics.getRegistry().get(DCMetrics.APPOINTMENT_VALIDATION).tag("outcome", "denied").timer().count());
+    }
+
+    @Test
+    void testValidateSpecialistAvailability_StaleSlotClearedWhenDatabaseIsFree() {
+        Specialist specialist = new Specialist();
+        AppointmentRequest appointmentRequest = new AppointmentRequest();
+        appointmentRequest.setDateTime(LocalDateTime.of(nextWeekday(), LocalTime.of(10, 0)));
+
+        // Canceled through another instance: the engine still has the slot, the database does not
+        when(slotEngine.isFree(specialist.getId(), appointmentRequest.getDateTime())).thenReturn(false);
+
+        assertDoesNotThrow(() -> appointmentHelpers.validateSpecialistAvailability(specialist, appointmentRequest));
+
+        InOrder inOrder = inOrder(specialistRepository, appointmentRepository, slotEngine);
+        inOrder.verify(specialistRepository).lockById(specialist.getId());
+        inOrder.verify(appointmentRepository).existsBySpecialistIdAndDateTimeAndAppointmentStatus(
+                specialist.getId(), appointmentRequest.getDateTime(), Status.STATUS_UPCOMING);
+        inOrder.verify(slotEngine).release(specialist.getId(), appointmentRequest.getDateTime());
+        inOrder.verify(slotEngine).tryReserve(specialist.getId(), appointmentRequest.getDateTime());
+        inOrder.verify(slotEngine).releaseOnRollback(specialist.getId(), appointmentRequest.getDateTime());
+    }
+
+    @Test
+    void testValidateSpecialistAvailability_SlotBookedInDatabase() {
+        Specialist specialist = new Specialist();
+        AppointmentRequest appointmentRequest = new AppointmentRequest();
+        appointmentRequest.setDateTime(LocalDateTime.of(nextWeekday(), LocalTime.of(11, 0)));
+
+        when(appointmentRepository.existsBySpecialistIdAndDateTimeAndAppointmentStatus(
+                specialist.getId(), appointmentRequest.getDateTime(), Status.STATUS_UPCOMING)).thenReturn(true);
+        when(request.getRequestURI()).thenReturn("/api/v1/appointments");
+
+        AppointmentDeniedException exception = assertThrows(AppointmentDeniedException.class,
+                () -> appointmentHelpers.validateSpecialistAvailability(specialist, appointmentRequest));
+
+        assertEquals("Current specialist is not available, please choose another time.", exception.getApiError().getError());
+        verify(specialistRepository).lockById(specialist.getId());
+        verifyNoInteractions(slotEngine);
+    }
+
+    @Test
+    void testValidateSpecialistAvailability_SlotFree() {
+        Specialist specialist = new Specialist();
+        AppointmentRequest appointmentRequest = new AppointmentRequest();
+        appointmentRequest.setDateTime(LocalDateTime.of(nextWeekday(), LocalTime.of(12, 0)));
+
+        when(slotEngine.isFree(specialist.getId(), appointmentRequest.getDateTime())).thenReturn(true);
+
+        assertDoesNotThrow(() -> appointmentHelpers.validateSpecialistAvailability(specialist, appointmentRequest));
+
+        verify(specialistRepository).lockById(specialist.getId());
+        verify(slotEngine, never()).release(any(), any());
+        verify(slotEngine).tryReserve(specialist.getId(), appointmentRequest.getDateTime());
+        verify(slotEngine).releaseOnRollback(specialist.getId(), appointmentRequest.getDateTime());
     }
 
     @Test
@@ -76,7 +140,8 @@ class AppointmentHelpersTest {
         Long specialistId = 2L;
         LocalDate date = LocalDate.of(2023, 9, 21);
 
-        when(appointmentRepository.findAllByUserIdAndSpecialistId(userId, specialistId)).thenReturn(new ArrayList<>());
+        when(appointmentRepository.existsByUserIdAndSpecialistIdAndAppointmentStatusAndDateTimeBetween(
+                userId, specialistId, Status.STATUS_UPCOMING, date.atStartOfDay(), date.atTime(LocalTime.MAX))).thenReturn(false);
 
         assertDoesNotThrow(() -> appointmentHelpers.validateUserSpecialistAppointment(userId, specialistId, date));
     }
@@ -87,13 +152,8 @@ class AppointmentHelpersTest {
         Long specialistId = 2L;
         LocalDate date = LocalDate.of(2023, 9, 21);
 
-        List<Appointment> existingAppointments = new ArrayList<>();
-        Appointment appointment = new Appointment();
-        appointment.setDateTime(LocalDateTime.of(date, LocalDateTime.now().toLocalTime()));
-        appointment.setAppointmentStatus(Status.STATUS_UPCOMING);
-        existingAppointments.add(appointment);
-
-        when(appointmentRepository.findAllByUserIdAndSpecialistId(userId, specialistId)).thenReturn(existingAppointments);
+        when(appointmentRepository.existsByUserIdAndSpecialistIdAndAppointmentStatusAndDateTimeBetween(
+                userId, specialistId, Status.STATUS_UPCOMING, date.atStartOfDay(), date.atTime(LocalTime.MAX))).thenReturn(true);
         when(request.getRequestURI()).thenReturn("/api/v1/appointments");
 
         AppointmentDeniedException exception = assertThrows(AppointmentDeniedException.class,
@@ -106,15 +166,31 @@ class AppointmentHelpersTest {
     }
 
     @Test
-    void testValidateAppointmentExists_NoExistingAppointments() {
-        List<Appointment> appointments = new ArrayList<>();
-        LocalDate date = LocalDate.of(2023, 9, 21);
-        LocalTime time = LocalTime.of(14, 0);
-        String errorMessage = "Appointment error message";
+    void testValidateUserAppointments_NoExistingAppointments() {
+        User user = new User();
+        AppointmentRequest appointmentRequest = new AppointmentRequest();
+        appointmentRequest.setDateTime(LocalDateTime.of(2023, 9, 21, 14, 0));
+
+        when(appointmentRepository.existsByUserIdAndDateTimeAndAppointmentStatus(
+                user.getId(), appointmentRequest.getDateTime(), Status.STATUS_UPCOMING)).thenReturn(false);
+
+        assertDoesNotThrow(() -> appointmentHelpers.validateUserAppointments(user, appointmentRequest));
+    }
+
+    @Test
+    void testValidateUserAppointments_ExistingAppointment() {
+        User user = new User();
+        AppointmentRequest appointmentRequest = new AppointmentRequest();
+        appointmentRequest.setDateTime(LocalDateTime.of(2023, 9, 21, 14, 0));
+
+        when(appointmentRepository.existsByUserIdAndDateTimeAndAppointmentStatus(
+                user.getId(), appointmentRequest.getDateTime(), Status.STATUS_UPCOMING)).thenReturn(true);
+        when(request.getRequestURI()).thenReturn("/api/v1/appointments");
 
-        when(appointmentRepository.findAllByUserId(anyLong())).thenReturn(appointments);
+        AppointmentDeniedException exception = assertThrows(AppointmentDeniedException.class,
+                () -> appointmentHelpers.validateUserAppointments(user, appointmentRequest));
 
-        assertDoesNotThrow(() -> appointmentHelpers.validateAppointmentExists(appointments, date, time, errorMessage));
+        assertEquals("You have already booked an appointment on this day and time.", exception.getApiError().getError());
     }
 
     @Test
@@ -139,4 +215,11 @@ class AppointmentHelpersTest {
         );
     }
 
+    private static LocalDate nextWeekday() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        while (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            date = date.plusDays(1);
+        }
+        return date;
+    }
 }
@@ -1,7 +1,6 @@
 package com.parunev.docconnect.utils.validators;
 
 import com.parunev.docconnect.models.*;
-import com.parunev.docconnect.models.enums.TokenType;
 import com.parunev.docconnect.models.payloads.user.login.ForgotPasswordResponse;
 import com.parunev.docconnect.models.payloads.user.login.LoginResponse;
 import com.parunev.docconnect.models.payloads.user.login.VerificationResponse;
@@ -10,6 +9,8 @@ import com.parunev.docconnect.models.specialist.Specialist;
 import com.parunev.docconnect.models.specialist.SpecialistAddress;
 import com.parunev.docconnect.repositories.*;
 import com.parunev.docconnect.security.exceptions.*;
+import com.parunev.docconnect.security.jwt.JwtTokenCache;
+import com.parunev.docconnect.utils.cache.ReferenceDataCache;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,15 +37,6 @@ class AuthHelpersTest {
     @Mock
     private PasswordTokenRepository passwordTokenRepository;
 
-    @Mock
-    private CityRepository cityRepository;
-
-    @Mock
-    private SpecialtyRepository specialtyRepository;
-
-    @Mock
-    private CountryRepository countryRepository;
-
     @Mock
     private SpecialistRepository specialistRepository;
 
@@ -52,10 +44,13 @@ class AuthHelpersTest {
     private SpecialistAddressRepository specialistAddressRepository;
 
     @Mock
-    private JwtTokenRepository jwtTokenRepository;
+    private HttpServletRequest request;
 
     @Mock
-    private HttpServletRequest request;
+    private JwtTokenCache jwtTokenCache;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
 
     @InjectMocks
     private AuthHelpers authHelpers;
@@ -128,55 +123,33 @@ class AuthHelpersTest {
     }
 
     @Test
-    void revokeUserTokens_ShouldNotRevokeTokensIfNoneFound() {
-        long userId = 1L;
-        when(jwtTokenRepository.findAllValidTokensByUser(userId)).thenReturn(List.of());
+    void revokeUserTokens_ShouldIncrementTokenVersion() {
+        User user = new User();
+        user.setEmail("user@example.com");
+        user.setTokenVersion(3);
+        // Another revocation incremented the version concurrently
+        when(userRepository.findTokenVersionById(user.getId())).thenReturn(5);
 
-        authHelpers.revokeUserTokens(new User());
+        authHelpers.revokeUserTokens(user);
 
-        verify(jwtTokenRepository, times(0)).save(new JwtToken());
+        verify(userRepository).incrementTokenVersion(user.getId());
+        verify(jwtTokenCache).invalidateSubject("user@example.com");
+        verifyNoInteractions(specialistRepository);
+        assertEquals(5, user.getTokenVersion());
     }
 
     @Test
-    void revokeSpecialistTokens_ShouldNotRevokeTokensIfNoneFound() {
-        long specialistId = 1L;
-        when(jwtTokenRepository.findAllValidTokensByUser(specialistId)).thenReturn(List.of());
-
-        authHelpers.revokeUserTokens(new Specialist());
-
-        verify(jwtTokenRepository, times(0)).save(new JwtToken());
-    }
+    void revokeSpecialistTokens_ShouldIncrementTokenVersion() {
+        Specialist specialist = new Specialist();
+        specialist.setEmail("specialist@example.com");
+        when(specialistRepository.findTokenVersionById(specialist.getId())).thenReturn(1);
 
-    @Test
-    void testSaveJwtTokenToRepositoryForUser() {
-        User user = new User(); // Create a User object
-        String accessToken = "your_access_token";
-
-        authHelpers.saveJwtTokenToRepository(user, accessToken);
-
-        verify(jwtTokenRepository).save(argThat(jwtToken -> jwtToken != null
-                && jwtToken.getToken().equals(accessToken)
-                && jwtToken.getType() == TokenType.BEARER
-                && !jwtToken.isExpired()
-                && !jwtToken.isRevoked()
-                && jwtToken.getUser() != null
-                && jwtToken.getUser().equals(user)));
-    }
+        authHelpers.revokeUserTokens(specialist);
 
-    @Test
-    void testSaveJwtTokenToRepositoryForSpecialist() {
-        Specialist specialist = new Specialist(); // Create a User object
-        String accessToken = "your_access_token";
-
-        authHelpers.saveJwtTokenToRepository(specialist, accessToken);
-
-        verify(jwtTokenRepository).save(argThat(jwtToken -> jwtToken != null
-                && jwtToken.getToken().equals(accessToken)
-                && jwtToken.getType() == TokenType.BEARER
-                && !jwtToken.isExpired()
-                && !jwtToken.isRevoked()
-                && jwtToken.getSpecialist() != null
-                && jwtToken.getSpecialist().equals(specialist)));
+        verify(specialistRepository).incrementTokenVersion(specialist.getId());
+        verify(jwtTokenCache).invalidateSubject("specialist@example.com");
+        verify(userRepository, never()).incrementTokenVersion(any());
+        assertEquals(1, specialist.getTokenVersion());
     }
 
     @Test
@@ -274,7 +247,7 @@ class AuthHelpersTest {
     void testValidateCityAndProceedWhenCityExists() {
         Long cityId = 1L;
         City expectedCity = new City();
-        when(cityRepository.findById(cityId)).thenReturn(Optional.of(expectedCity));
+        when(referenceDataCache.findCity(cityId)).thenReturn(Optional.of(expectedCity));
 
         City city = authHelpers.validateCityAndProceed(cityId);
 
@@ -285,7 +258,7 @@ class AuthHelpersTest {
     @Test
     void testValidateCityAndProceedWhenCityDoesNotExist() {
         Long cityId = 2L;
-        when(cityRepository.findById(cityId)).thenReturn(Optional.empty());
+        when(referenceDataCache.findCity(cityId)).thenReturn(Optional.empty());
 
         assertThrows(CityServiceException.class, () -> authHelpers.validateCityAndProceed(cityId));
     }
@@ -295,7 +268,7 @@ class AuthHelpersTest {
         Long countryId = 1L;
 
         Country expectedCountry = new Country();
-        when(countryRepository.findById(countryId)).thenReturn(Optional.of(expectedCountry));
+        when(referenceDataCache.findCountry(countryId)).thenReturn(Optional.of(expectedCountry));
 
         Country country = authHelpers.validateCountryAndProceed(countryId);
 
@@ -307,7 +280,7 @@ class AuthHelpersTest {
     void testValidateCountryAndProceedWhenCountryDoesNotExist() {
         Long countryId = 2L;
 
-        when(countryRepository.findById(countryId)).thenReturn(Optional.empty());
+        when(referenceDataCache.findCountry(countryId)).thenReturn(Optional.empty());
 
         assertThrows(CountryServiceException.class, () -> authHelpers.validateCountryAndProceed(countryId));
     }
@@ -317,7 +290,7 @@ class AuthHelpersTest {
         Long specialtyId = 1L;
 
         Specialty expectedSpecialty = new Specialty();
-        when(specialtyRepository.findById(specialtyId)).thenReturn(Optional.of(expectedSpecialty));
+        when(referenceDataCache.findSpecialty(specialtyId)).thenReturn(Optional.of(expectedSpecialty));
 
         Specialty specialty = authHelpers.validateSpecialtyAndProceed(specialtyId);
 
@@ -329,7 +302,7 @@ class AuthHelpersTest {
     void testValidateSpecialtyAndProceedWhenSpecialtyDoesNotExist() {
         Long specialtyId = 2L;
 
-        when(specialtyRepository.findById(specialtyId)).thenReturn(Optional.empty());
+        when(referenceDataCache.findSpecialty(specialtyId)).thenReturn(Optional.empty());
 
         assertThrows(SpecialtyServiceException.class, () -> authHelpers.validateSpecialtyAndProceed(specialtyId));
     }
@@ -338,15 +311,16 @@ class AuthHelpersTest {
     void testExtractAddresses() {
         List<String> addresses = Arrays.asList("Address1", "Address2");
 
-        when(specialistAddressRepository.save(any(SpecialistAddress.class)))
-                .thenAnswer(invocation -> invocation.<SpecialistAddress>getArgument(0));
+        when(specialistAddressRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.<List<SpecialistAddress>>getArgument(0));
 
         List<SpecialistAddress> extractedAddresses = authHelpers.extractAddresses(addresses);
 
         assertNotNull(extractedAddresses);
         assertEquals(2, extractedAddresses.size());
 
-        verify(specialistAddressRepository, times(2)).save(any(SpecialistAddress.class));
+        verify(specialistAddressRepository).saveAll(anyList());
+        verify(specialistAddressRepository, never()).save(any(SpecialistAddress.class));
     }
 
     @Test